@@ -0,0 +1,56 @@
+package com.gearsync.backend.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Moves each entity id sequence past the largest id already in its table.
+ * Rows inserted while the ids were identity columns never advanced these
+ * sequences, so without this the first pooled block would collide with them.
+ * Runs once the schema update has created the sequences and before anything
+ * inserts; a sequence that is already ahead is left alone.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = "app.ids.align-sequences", havingValue = "true")
+public class SequenceAlignment {
+
+    // Table name to the sequence its entity draws ids from
+    static final Map<String, String> SEQUENCES = Map.of(
+            "users", "users_seq",
+            "vehicles", "vehicles_seq",
+            "services", "services_seq",
+            "appointments", "appointments_seq",
+            "projects", "projects_seq",
+            "time_logs", "time_logs_seq",
+            "service_progress", "service_progress_seq",
+            "email_outbox", "email_outbox_seq",
+            "idempotency_records", "idempotency_records_seq",
+            "slot_holds", "slot_holds_seq"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void align() {
+        SEQUENCES.forEach((table, sequence) -> {
+            // The pooled optimizer hands out (value - allocationSize, value], so the next block starts at max(id) + 1
+            Long moved = jdbcTemplate.query(
+                    "select setval('" + sequence + "', m.max_id) from (select max(id) as max_id from " + table + ") m "
+                            + "where m.max_id >= (select last_value from " + sequence + ")",
+                    rs -> rs.next() ? rs.getLong(1) : null);
+            if (moved != null) {
+                log.info("Moved sequence {} to {} to clear existing {} ids", sequence, moved, table);
+            }
+        });
+    }
+}
@@ -8,12 +8,17 @@ import com.gearsync.backend.model.Role;
 import com.gearsync.backend.model.User;
 import com.gearsync.backend.repository.UserRepository;
 import com.gearsync.backend.service.AdminServices;
+import com.gearsync.backend.service.AutoAssignmentService;
+import com.gearsync.backend.service.EmployeeScheduleService;
+import com.gearsync.backend.service.ShopPlanService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,6 +30,9 @@ import java.util.stream.Collectors;
 public class AdminController {
 
     public final AdminServices adminServices;
+    private final AutoAssignmentService autoAssignmentService;
+    private final EmployeeScheduleService employeeScheduleService;
+    private final ShopPlanService shopPlanService;
     private final UserRepository userRepository;
 
     @PostMapping("/employees")
@@ -86,6 +94,25 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/employees/page")
+    public ResponseEntity<?> getEmployeesPage(
+            Authentication authentication,
+            @Valid @ModelAttribute PageQueryDTO query) {
+        try {
+            PageResponseDTO<UserDto> page = adminServices.getStaffPage(
+                    authentication.getName(),
+                    query
+            );
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
     @PutMapping("/appointments/{id}/assign")
     public ResponseEntity<?> assignEmployeeToAppointment(
             Authentication authentication,
@@ -280,6 +307,25 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/appointments/page")
+    public ResponseEntity<?> getAppointmentsPage(
+            Authentication authentication,
+            @Valid @ModelAttribute PageQueryDTO query) {
+        try {
+            PageResponseDTO<AppointmentSummaryDTO> page = adminServices.getAppointmentsPage(
+                    authentication.getName(),
+                    query
+            );
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/appointments/filter")
     public ResponseEntity<?> getAppointmentsByStatus(
             Authentication authentication,
@@ -299,6 +345,45 @@ public class AdminController {
         }
     }
 
+    @PostMapping("/appointments/auto-assign")
+    public ResponseEntity<?> autoAssignAppointments(
+            Authentication authentication,
+            @RequestBody(required = false) AutoAssignRequestDTO request) {
+        try {
+            AutoAssignResultDTO result = autoAssignmentService.autoAssign(
+                    authentication.getName(),
+                    request != null ? request : new AutoAssignRequestDTO()
+            );
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/plan")
+    public ResponseEntity<?> getShopPlan(
+            Authentication authentication,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        try {
+            ShopPlanDTO plan = shopPlanService.getPlan(authentication.getName(), date);
+            return ResponseEntity.ok(plan);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/appointments/pending")
     public ResponseEntity<?> getPendingAppointments(Authentication authentication) {
         try {
@@ -327,6 +412,25 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/projects/page")
+    public ResponseEntity<?> getProjectsPage(
+            Authentication authentication,
+            @Valid @ModelAttribute PageQueryDTO query) {
+        try {
+            PageResponseDTO<ProjectSummaryDTO> page = adminServices.getProjectsPage(
+                    authentication.getName(),
+                    query
+            );
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/projects/filter")
     public ResponseEntity<?> getProjectsByStatus(
             Authentication authentication,
@@ -381,6 +485,31 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/employees/{id}/schedule")
+    public ResponseEntity<?> getEmployeeSchedule(
+            Authentication authentication,
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            EmployeeScheduleDTO schedule = employeeScheduleService.getSchedule(
+                    authentication.getName(),
+                    id,
+                    from,
+                    to
+            );
+            return ResponseEntity.ok(schedule);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
     @PutMapping("/employees/{id}")
     public ResponseEntity<?> updateEmployee(
             Authentication authentication,
@@ -432,6 +561,25 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/vehicles/page")
+    public ResponseEntity<?> getVehiclesPage(
+            Authentication authentication,
+            @Valid @ModelAttribute PageQueryDTO query) {
+        try {
+            PageResponseDTO<VehicleSummaryDTO> page = adminServices.getVehiclesPage(
+                    authentication.getName(),
+                    query
+            );
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/customers")
     public ResponseEntity<?> getAllCustomersWithVehicles(Authentication authentication) {
         try {
@@ -446,6 +594,25 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/customers/page")
+    public ResponseEntity<?> getCustomersPage(
+            Authentication authentication,
+            @Valid @ModelAttribute PageQueryDTO query) {
+        try {
+            PageResponseDTO<CustomerWithVehiclesDTO> page = adminServices.getCustomersPage(
+                    authentication.getName(),
+                    query
+            );
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/customers/{id}")
     public ResponseEntity<?> getCustomerWithVehicles(
             Authentication authentication,
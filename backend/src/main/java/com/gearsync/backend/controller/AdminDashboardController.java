@@ -1,13 +1,17 @@
 package com.gearsync.backend.controller;
 
 import com.gearsync.backend.dto.AppointmentSummaryDTO;
+import com.gearsync.backend.service.AdminBoardStreamService;
 import com.gearsync.backend.service.AdminDashboardService;
+import com.gearsync.backend.service.RuntimeMetricsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -18,6 +22,26 @@ import java.util.List;
 public class AdminDashboardController {
 
     private final AdminDashboardService adminDashboardService;
+    private final AdminBoardStreamService adminBoardStreamService;
+    private final RuntimeMetricsService runtimeMetricsService;
+
+    @GetMapping("/snapshot")
+    public ResponseEntity<?> snapshot() {
+        try {
+            return ResponseEntity.ok(adminDashboardService.getSnapshot());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/metrics")
+    public ResponseEntity<?> metrics() {
+        try {
+            return ResponseEntity.ok(runtimeMetricsService.getMetrics());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
 
     @GetMapping("/user/count")
     public ResponseEntity<?> userCount() {
@@ -89,4 +113,9 @@ public class AdminDashboardController {
         }
     }
 
+    @GetMapping(value = "/appointments/today/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter todayAppointmentsStream() {
+        return adminBoardStreamService.subscribe();
+    }
+
 }
@@ -55,7 +55,7 @@ public class AuthController {
         User user = authService.findByEmail(loginRequest.getEmail());
         user.setLastLoginAt(java.time.LocalDateTime.now());
         userRepository.save(user);
-        String jwtToken = jwtUtil.generateToken(user.getEmail(), user.getRole());
+        String jwtToken = jwtUtil.generateToken(user.getId(), user.getEmail(), user.getRole());
         return ResponseEntity.ok(Map.of(
                 "isFirstLogin", user.getIsFirstLogin(),
                 "token", jwtToken,
@@ -81,7 +81,7 @@ public class AuthController {
     public ResponseEntity<?> refresh(Authentication authentication) {
         String email = authentication.getName();
         User user = authService.findByEmail(email);
-        String token = jwtUtil.generateToken(user.getEmail(), user.getRole());
+        String token = jwtUtil.generateToken(user.getId(), user.getEmail(), user.getRole());
         return ResponseEntity.ok(Map.of("token", token));
     }
 
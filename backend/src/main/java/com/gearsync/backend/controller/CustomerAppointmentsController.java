@@ -3,9 +3,13 @@ package com.gearsync.backend.controller;
 import com.gearsync.backend.dto.AppointmentRequestDTO;
 import com.gearsync.backend.dto.AppointmentResponseDTO;
 import com.gearsync.backend.dto.MyAppointmentDTO;
+import com.gearsync.backend.dto.SlotHoldDTO;
+import com.gearsync.backend.dto.SlotHoldRequestDTO;
 import com.gearsync.backend.dto.UpdateAppointmentRequestDTO;
 import com.gearsync.backend.exception.*;
 import com.gearsync.backend.service.AppointmentService;
+import com.gearsync.backend.service.IdempotencyService;
+import com.gearsync.backend.service.SlotHoldService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -21,27 +25,68 @@ import java.util.List;
 public class CustomerAppointmentsController {
 
     private final AppointmentService appointmentService;
+    private final SlotHoldService slotHoldService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
     public ResponseEntity<?> bookAppointment(
             Authentication authentication,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody AppointmentRequestDTO request) {
 
+        return idempotencyService.execute("POST /api/customer/appointments", authentication.getName(),
+                idempotencyKey, request, () -> book(authentication.getName(), request));
+    }
+
+    private ResponseEntity<?> book(String email, AppointmentRequestDTO request) {
         try {
-            String email = authentication.getName();
             AppointmentResponseDTO appointmentResponseDTO = appointmentService.bookAppointment(email, request);
             return ResponseEntity.ok(appointmentResponseDTO);
         } catch (UserNotFoundException | VehicleNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         } catch (UnauthorizedException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
-        } catch (DuplicateResourceException e) {
+        } catch (DuplicateResourceException | SlotUnavailableException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
     }
 
+    @PostMapping("/holds")
+    public ResponseEntity<?> holdSlot(
+            Authentication authentication,
+            @Valid @RequestBody SlotHoldRequestDTO request) {
+
+        try {
+            SlotHoldDTO hold = slotHoldService.createHold(authentication.getName(), request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(hold);
+        } catch (UserNotFoundException | ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        } catch (SlotUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<?> releaseHold(
+            Authentication authentication,
+            @PathVariable Long holdId) {
+
+        try {
+            slotHoldService.releaseHold(authentication.getName(), holdId);
+            return ResponseEntity.noContent().build();
+        } catch (UserNotFoundException | ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+    }
+
     @GetMapping
     public ResponseEntity<List<MyAppointmentDTO>> getMyAppointments(Authentication authentication) {
         try {
@@ -86,7 +131,7 @@ public class CustomerAppointmentsController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        } catch (DuplicateResourceException e) {
+        } catch (DuplicateResourceException | SlotUnavailableException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         }
     }
@@ -1,6 +1,7 @@
 package com.gearsync.backend.controller;
 
 import com.gearsync.backend.dto.MyAppointmentDTO;
+import com.gearsync.backend.exception.ResourceNotFoundException;
 import com.gearsync.backend.service.CustomerDashboardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -20,6 +21,17 @@ public class CustomerDashboardController {
 
     private final CustomerDashboardService customerDashboardService;
 
+    @GetMapping("/bootstrap")
+    public ResponseEntity<?> bootstrap(Authentication authentication) {
+        try {
+            return ResponseEntity.ok(customerDashboardService.getDashboard(authentication.getName()));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/appointment/count")
     public ResponseEntity<?> myAppointmentCount(Authentication authentication) {
         try{
@@ -5,6 +5,7 @@ import com.gearsync.backend.dto.TimeLogUpdateDTO;
 import com.gearsync.backend.exception.ResourceNotFoundException;
 import com.gearsync.backend.exception.UnauthorizedException;
 import com.gearsync.backend.service.EmployeeTimeLogService;
+import com.gearsync.backend.service.IdempotencyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -20,17 +21,22 @@ import java.util.List;
 class EmployeeTimeLogController {
 
     private final EmployeeTimeLogService timeLogService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
     public ResponseEntity<?> createTimeLog(
             Authentication authentication,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody TimeLogRequestDTO request) {
 
+        // A retried request must not log the time, or auto-complete the appointment, twice
+        return idempotencyService.execute("POST /api/employee/timelogs", authentication.getName(),
+                idempotencyKey, request, () -> create(authentication.getName(), request));
+    }
+
+    private ResponseEntity<?> create(String email, TimeLogRequestDTO request) {
         try {
-            TimeLogResponseDTO response = timeLogService.createTimeLog(
-                    authentication.getName(),
-                    request
-            );
+            TimeLogResponseDTO response = timeLogService.createTimeLog(email, request);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
@@ -0,0 +1,39 @@
+package com.gearsync.backend.controller;
+
+import com.gearsync.backend.exception.ResourceNotFoundException;
+import com.gearsync.backend.service.SlotAvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/service/availability")
+public class ServiceAvailabilityController {
+
+    private final SlotAvailabilityService slotAvailabilityService;
+
+    @GetMapping
+    public ResponseEntity<?> availability(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) Integer durationMinutes,
+            @RequestParam(required = false) List<Long> serviceIds) {
+        try {
+            return ResponseEntity.ok(slotAvailabilityService.getAvailability(date, durationMinutes, serviceIds));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.gearsync.backend.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+public class AdminDashboardSnapshotDTO {
+    private Long userCount;
+    private Long vehicleCount;
+    private Long appointmentCount;
+    private BigDecimal totalEarnings;
+    private Long activeServiceCount;
+    private Map<String, Long> appointmentsByStatus;
+    private LocalDateTime generatedAt;
+}
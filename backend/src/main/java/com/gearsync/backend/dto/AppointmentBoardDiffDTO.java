@@ -0,0 +1,23 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentBoardDiffDTO {
+    private List<AppointmentSummaryDTO> added = new ArrayList<>();
+    private List<AppointmentSummaryDTO> changed = new ArrayList<>();
+    private List<Long> removed = new ArrayList<>();
+    private LocalDateTime generatedAt;
+
+    public boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+}
@@ -28,4 +28,7 @@ public class AppointmentRequestDTO {
     @Size(max = 1000, message = "Customer notes cannot exceed 1000 characters")
     private String customerNotes;
 
+    // Optional hold from POST /api/customer/appointments/holds; its capacity is used for this booking
+    private Long holdId;
+
 }
@@ -28,4 +28,7 @@ public class ApproveProjectDTO {
 
     @Size(max = 1000, message = "Approval notes cannot exceed 1000 characters")
     private String approvalNotes;
+
+    // Assign even if it overlaps the employee's other work
+    private Boolean allowOverlap;
 }
\ No newline at end of file
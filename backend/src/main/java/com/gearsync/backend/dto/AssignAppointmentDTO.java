@@ -22,4 +22,7 @@ public class AssignAppointmentDTO {
 
     @DecimalMin(value = "0.0", message = "Final cost cannot be negative")
     private BigDecimal finalCost;
+
+    // Assign even if it overlaps the employee's other work
+    private Boolean allowOverlap;
 }
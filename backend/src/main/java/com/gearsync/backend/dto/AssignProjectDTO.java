@@ -28,4 +28,7 @@ public class AssignProjectDTO {
 
     @Size(max = 1000, message = "Notes cannot exceed 1000 characters")
     private String adminNotes;
+
+    // Assign even if it overlaps the employee's other work
+    private Boolean allowOverlap;
 }
\ No newline at end of file
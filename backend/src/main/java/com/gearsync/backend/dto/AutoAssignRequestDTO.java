@@ -0,0 +1,18 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AutoAssignRequestDTO {
+
+    // Only this day; all upcoming pending appointments when omitted
+    private LocalDate date;
+
+    private Boolean dryRun = false;
+}
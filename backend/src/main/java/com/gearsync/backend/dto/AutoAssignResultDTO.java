@@ -0,0 +1,17 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AutoAssignResultDTO {
+    private boolean dryRun;
+    private List<AutoAssignmentDTO> assignments = new ArrayList<>();
+    private List<Long> unassignedAppointmentIds = new ArrayList<>();
+}
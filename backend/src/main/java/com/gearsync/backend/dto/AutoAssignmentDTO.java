@@ -0,0 +1,19 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AutoAssignmentDTO {
+    private Long appointmentId;
+    private LocalDateTime scheduledDateTime;
+    private Integer durationMinutes;
+    private Long employeeId;
+    private String employeeName;
+    private Integer employeeDayMinutes;
+}
@@ -0,0 +1,17 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityDTO {
+    private LocalDate date;
+    private Integer durationMinutes;
+    private List<AvailableSlotDTO> slots;
+}
@@ -0,0 +1,16 @@
+package com.gearsync.backend.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+public class CustomerDashboardDTO {
+    private Long appointmentCount;
+    private Integer activeAppointmentCount;
+    private Integer completedServicesCount;
+    private Long vehicleCount;
+    private BigDecimal totalSpent;
+    private List<MyAppointmentDTO> upcomingAppointments;
+}
@@ -0,0 +1,18 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeScheduleDTO {
+    private Long employeeId;
+    private LocalDate from;
+    private LocalDate to;
+    private List<ScheduleEntryDTO> entries;
+}
@@ -0,0 +1,41 @@
+package com.gearsync.backend.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageQueryDTO {
+
+    @Min(value = 0, message = "Page cannot be negative")
+    private int page = 0;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 200, message = "Page size cannot exceed 200")
+    private int size = 20;
+
+    private String sort;
+
+    private String direction = "desc";
+
+    // Optional filters; each listing applies the ones that make sense for it
+    private String status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private Long employeeId;
+
+    // Counting the full result set is opt-in because it costs a second query
+    private boolean includeTotal = false;
+}
@@ -0,0 +1,22 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressEventDTO {
+    // APPOINTMENT or PROJECT
+    private String type;
+    private Long id;
+    private Long customerId;
+    private String previousStatus;
+    private String status;
+    private Integer progressPercentage;
+    private String message;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,20 @@
+package com.gearsync.backend.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class RuntimeMetricsDTO {
+    private Long tokenCacheHits;
+    private Long tokenCacheMisses;
+    private Integer tokenCacheSize;
+    private Double tokenCacheHitRate;
+    private Long emailsSent;
+    private Long emailsFailed;
+    private Long emailBatches;
+    private Double emailMessagesPerSecond;
+    private Long emailsPending;
+    private Integer webSocketSessions;
+    private LocalDateTime generatedAt;
+}
@@ -0,0 +1,19 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScheduleEntryDTO {
+    private String type;
+    private Long id;
+    private LocalDateTime start;
+    private LocalDateTime end;
+    // Overlaps another entry on the same schedule
+    private boolean conflict;
+}
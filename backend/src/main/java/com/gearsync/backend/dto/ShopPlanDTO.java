@@ -0,0 +1,19 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ShopPlanDTO {
+    private LocalDate date;
+    private Integer bays;
+    private List<ShopPlanSlotDTO> slots = new ArrayList<>();
+    private List<Long> unplannedAppointmentIds = new ArrayList<>();
+}
@@ -0,0 +1,21 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ShopPlanSlotDTO {
+    private Long appointmentId;
+    private Long employeeId;
+    private String employeeName;
+    private Integer bay;
+    private LocalDateTime start;
+    private LocalDateTime end;
+    // How long after the booked time the work starts
+    private Long delayMinutes;
+}
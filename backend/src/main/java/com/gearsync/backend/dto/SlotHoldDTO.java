@@ -0,0 +1,17 @@
+package com.gearsync.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SlotHoldDTO {
+    private Long holdId;
+    private LocalDateTime scheduledDateTime;
+    private Integer durationMinutes;
+    private LocalDateTime expiresAt;
+}
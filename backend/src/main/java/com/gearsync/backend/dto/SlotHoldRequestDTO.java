@@ -0,0 +1,24 @@
+package com.gearsync.backend.dto;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SlotHoldRequestDTO {
+
+    @NotEmpty(message = "At least one service must be selected")
+    private List<Long> serviceIds;
+
+    @NotNull(message = "Scheduled date and time is required")
+    @Future(message = "Appointment must be scheduled for a future date")
+    private LocalDateTime scheduledDateTime;
+}
@@ -0,0 +1,8 @@
+package com.gearsync.backend.event;
+
+/**
+ * Published whenever an appointment is created, modified or deleted. Carries
+ * only the id; listeners reload whatever state they need after commit.
+ */
+public record AppointmentChangedEvent(Long appointmentId) {
+}
@@ -0,0 +1,8 @@
+package com.gearsync.backend.event;
+
+/**
+ * Published whenever a project's assignment, status or dates change. Carries
+ * only the id; listeners reload whatever state they need after commit.
+ */
+public record ProjectChangedEvent(Long projectId) {
+}
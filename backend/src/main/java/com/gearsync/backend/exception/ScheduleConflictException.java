@@ -0,0 +1,8 @@
+package com.gearsync.backend.exception;
+
+// An IllegalStateException so the existing assignment endpoints answer 409 for it
+public class ScheduleConflictException extends IllegalStateException {
+    public ScheduleConflictException(String message) {
+        super(message);
+    }
+}
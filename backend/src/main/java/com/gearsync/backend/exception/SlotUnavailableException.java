@@ -0,0 +1,7 @@
+package com.gearsync.backend.exception;
+
+public class SlotUnavailableException extends RuntimeException {
+    public SlotUnavailableException(String message) {
+        super(message);
+    }
+}
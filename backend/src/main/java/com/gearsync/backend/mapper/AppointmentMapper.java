@@ -0,0 +1,66 @@
+package com.gearsync.backend.mapper;
+
+import com.gearsync.backend.dto.AppointmentResponseDTO;
+import com.gearsync.backend.dto.MyAppointmentDTO;
+import com.gearsync.backend.dto.ServiceSummaryDTO;
+import com.gearsync.backend.model.Appointment;
+import com.gearsync.backend.model.Services;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Appointment to DTO mapping. Only the associations a DTO shows are read, so callers control lazy loading
+ * through what their query fetched; timeLogs and progressUpdates are never touched.
+ */
+@Mapper(config = MappingConfig.class)
+public interface AppointmentMapper {
+
+    @Mapping(target = "id", source = "appointment.id")
+    @Mapping(target = "scheduledDateTime", source = "appointment.scheduledDateTime")
+    @Mapping(target = "status", source = "appointment.status")
+    @Mapping(target = "customerNotes", source = "appointment.customerNotes")
+    @Mapping(target = "employeeNotes", source = "appointment.employeeNotes")
+    @Mapping(target = "finalCost", source = "appointment.finalCost")
+    @Mapping(target = "progressPercentage", source = "appointment.progressPercentage")
+    @Mapping(target = "estimatedCost", source = "services", qualifiedByName = "totalBasePrice")
+    @Mapping(target = "customerId", source = "appointment.customer.id")
+    @Mapping(target = "customerName", expression = "java(MapperSupport.fullName(appointment.getCustomer()))")
+    @Mapping(target = "customerEmail", source = "appointment.customer.email")
+    @Mapping(target = "customerPhone", source = "appointment.customer.phoneNumber")
+    @Mapping(target = "vehicleId", source = "appointment.vehicle.id")
+    @Mapping(target = "vehicleRegistrationNumber", source = "appointment.vehicle.registrationNumber")
+    @Mapping(target = "vehicleMake", source = "appointment.vehicle.make")
+    @Mapping(target = "vehicleModel", source = "appointment.vehicle.model")
+    @Mapping(target = "vehicleYear", source = "appointment.vehicle.year")
+    @Mapping(target = "services", source = "services")
+    @Mapping(target = "assignedEmployeeId", source = "appointment.assignedEmployee.id")
+    @Mapping(target = "assignedEmployeeName",
+            expression = "java(MapperSupport.fullName(appointment.getAssignedEmployee()))")
+    @Mapping(target = "assignedEmployeeEmail", source = "appointment.assignedEmployee.email")
+    @Mapping(target = "actualStartTime", source = "appointment.actualStartTime")
+    @Mapping(target = "actualEndTime", source = "appointment.actualEndTime")
+    @Mapping(target = "createdAt", source = "appointment.createdAt")
+    @Mapping(target = "updatedAt", source = "appointment.updatedAt")
+    AppointmentResponseDTO toResponseDTO(Appointment appointment, List<Services> services);
+
+    @Mapping(target = "estimatedCost", source = "appointmentServices", qualifiedByName = "totalBasePrice")
+    @Mapping(target = "services", source = "appointmentServices")
+    MyAppointmentDTO toMyAppointmentDTO(Appointment appointment);
+
+    ServiceSummaryDTO toServiceSummary(Services service);
+
+    @Named("totalBasePrice")
+    default BigDecimal totalBasePrice(Collection<Services> services) {
+        if (services == null) {
+            return BigDecimal.ZERO;
+        }
+        return services.stream()
+                .map(Services::getBasePrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
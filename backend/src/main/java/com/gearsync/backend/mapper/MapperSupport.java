@@ -0,0 +1,13 @@
+package com.gearsync.backend.mapper;
+
+import com.gearsync.backend.model.User;
+
+final class MapperSupport {
+
+    private MapperSupport() {
+    }
+
+    static String fullName(User user) {
+        return user == null ? null : user.getFirstName() + " " + user.getLastName();
+    }
+}
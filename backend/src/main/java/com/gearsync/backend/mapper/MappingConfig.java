@@ -0,0 +1,16 @@
+package com.gearsync.backend.mapper;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Shared settings for the generated mappers. Implementations are plain getter/setter code produced at compile
+ * time, and an unmapped DTO property fails the build instead of silently staying null.
+ */
+@MapperConfig(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.ERROR
+)
+public interface MappingConfig {
+}
@@ -0,0 +1,26 @@
+package com.gearsync.backend.mapper;
+
+import com.gearsync.backend.dto.ProjectResponseDTO;
+import com.gearsync.backend.model.Project;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MappingConfig.class)
+public interface ProjectMapper {
+
+    @Mapping(target = "customerId", source = "customer.id")
+    @Mapping(target = "customerName", expression = "java(MapperSupport.fullName(project.getCustomer()))")
+    @Mapping(target = "customerEmail", source = "customer.email")
+    @Mapping(target = "customerPhone", source = "customer.phoneNumber")
+    @Mapping(target = "vehicleId", source = "vehicle.id")
+    @Mapping(target = "vehicleRegistrationNumber", source = "vehicle.registrationNumber")
+    @Mapping(target = "vehicleMake", source = "vehicle.make")
+    @Mapping(target = "vehicleModel", source = "vehicle.model")
+    @Mapping(target = "vehicleYear", source = "vehicle.year")
+    @Mapping(target = "assignedEmployeeId", source = "assignedEmployee.id")
+    @Mapping(target = "assignedEmployeeName",
+            expression = "java(MapperSupport.fullName(project.getAssignedEmployee()))")
+    @Mapping(target = "assignedEmployeeEmail", source = "assignedEmployee.email")
+    @Mapping(target = "additionalNotes", ignore = true)
+    ProjectResponseDTO toResponseDTO(Project project);
+}
@@ -0,0 +1,29 @@
+package com.gearsync.backend.mapper;
+
+import com.gearsync.backend.dto.TimeLogResponseDTO;
+import com.gearsync.backend.model.Appointment;
+import com.gearsync.backend.model.TimeLog;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+@Mapper(config = MappingConfig.class)
+public interface TimeLogMapper {
+
+    @Mapping(target = "employeeId", source = "employee.id")
+    @Mapping(target = "employeeName", expression = "java(MapperSupport.fullName(timeLog.getEmployee()))")
+    @Mapping(target = "employeeEmail", source = "employee.email")
+    @Mapping(target = "appointmentId", source = "appointment.id")
+    @Mapping(target = "appointmentDescription", source = "appointment", qualifiedByName = "appointmentDescription")
+    @Mapping(target = "projectId", source = "project.id")
+    @Mapping(target = "projectName", source = "project.projectName")
+    TimeLogResponseDTO toResponseDTO(TimeLog timeLog);
+
+    @Named("appointmentDescription")
+    default String appointmentDescription(Appointment appointment) {
+        if (appointment == null) {
+            return null;
+        }
+        return "Appointment #" + appointment.getId() + " - " + appointment.getVehicle().getRegistrationNumber();
+    }
+}
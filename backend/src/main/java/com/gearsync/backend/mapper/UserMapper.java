@@ -0,0 +1,40 @@
+package com.gearsync.backend.mapper;
+
+import com.gearsync.backend.dto.AdminRegisterDTO;
+import com.gearsync.backend.dto.EmployeeRegisterDTO;
+import com.gearsync.backend.dto.UserRegisterDTO;
+import com.gearsync.backend.model.User;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Registration DTOs to new users. The password is never copied; callers set the encoded one.
+ */
+@Mapper(config = MappingConfig.class)
+public interface UserMapper {
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "email", source = "email")
+    @Mapping(target = "firstName", source = "firstName")
+    @Mapping(target = "lastName", source = "lastName")
+    @Mapping(target = "phoneNumber", source = "phoneNumber")
+    @Mapping(target = "role", source = "role")
+    User toEntity(UserRegisterDTO request);
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "email", source = "email")
+    @Mapping(target = "firstName", source = "firstName")
+    @Mapping(target = "lastName", source = "lastName")
+    @Mapping(target = "phoneNumber", source = "phoneNumber")
+    @Mapping(target = "role", source = "role")
+    User toEntity(EmployeeRegisterDTO request);
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "email", source = "email")
+    @Mapping(target = "firstName", source = "firstName")
+    @Mapping(target = "lastName", source = "lastName")
+    @Mapping(target = "phoneNumber", source = "phoneNumber")
+    @Mapping(target = "role", source = "role")
+    User toEntity(AdminRegisterDTO request);
+}
@@ -0,0 +1,35 @@
+package com.gearsync.backend.mapper;
+
+import com.gearsync.backend.dto.VehicleInfoDTO;
+import com.gearsync.backend.dto.VehicleRequestDTO;
+import com.gearsync.backend.dto.VehicleResponseDTO;
+import com.gearsync.backend.dto.VehicleSummaryDTO;
+import com.gearsync.backend.model.Vehicle;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MappingConfig.class)
+public interface VehicleMapper {
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "registrationNumber", source = "registrationNumber")
+    @Mapping(target = "make", source = "make")
+    @Mapping(target = "model", source = "model")
+    @Mapping(target = "year", source = "year")
+    @Mapping(target = "color", source = "color")
+    @Mapping(target = "vinNumber", source = "vinNumber")
+    @Mapping(target = "mileage", source = "mileage")
+    Vehicle toEntity(VehicleRequestDTO request);
+
+    // The owner is usually an unloaded proxy here, so callers fill ownerEmail from the user they already hold
+    @Mapping(target = "ownerEmail", ignore = true)
+    VehicleResponseDTO toResponseDTO(Vehicle vehicle);
+
+    @Mapping(target = "ownerName", expression = "java(MapperSupport.fullName(vehicle.getOwner()))")
+    @Mapping(target = "ownerEmail", source = "owner.email")
+    @Mapping(target = "ownerPhone", source = "owner.phoneNumber")
+    VehicleSummaryDTO toSummaryDTO(Vehicle vehicle);
+
+    VehicleInfoDTO toInfoDTO(Vehicle vehicle);
+}
@@ -11,14 +11,25 @@ import java.util.Set;
 
 @Entity
 @Table(name = "appointments")
+@NamedEntityGraph(
+        name = "Appointment.detail",
+        attributeNodes = {
+                @NamedAttributeNode("customer"),
+                @NamedAttributeNode("vehicle"),
+                @NamedAttributeNode("assignedEmployee"),
+                @NamedAttributeNode("appointmentServices")
+        }
+)
 @Getter
 @Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class Appointment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointments_seq")
+    @SequenceGenerator(name = "appointments_seq", sequenceName = "appointments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -51,14 +62,17 @@ public class Appointment {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id", nullable = false)
     private User customer;
 
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "vehicle_id", nullable = false)
     private Vehicle vehicle;
 
+    @ToString.Exclude
     @ManyToMany
     @JoinTable(
             name = "appointment_services",
@@ -68,14 +82,26 @@ public class Appointment {
     private Set<Services> appointmentServices = new HashSet<>();
 
 
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_employee_id")
     private User assignedEmployee;
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "appointment", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<TimeLog> timeLogs = new HashSet<>();
 
+    @ToString.Exclude
     @OneToMany(mappedBy = "appointment", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<ServiceProgress> progressUpdates = new HashSet<>();
 
-}
\ No newline at end of file
+    @Override
+    public final boolean equals(Object o) {
+        return EntityIdentity.equals(this, o, Appointment::getId);
+    }
+
+    @Override
+    public final int hashCode() {
+        return EntityIdentity.hashCode(this);
+    }
+}
@@ -0,0 +1,47 @@
+package com.gearsync.backend.model;
+
+import org.hibernate.proxy.HibernateProxy;
+
+import java.util.function.Function;
+
+/**
+ * Id-based equals/hashCode for entities. Lazy proxies are compared through
+ * their lazy initializer, so neither side is ever loaded; for that to hold the
+ * entity's equals and hashCode must be final, otherwise the proxy initializes
+ * itself before delegating. The hash only depends on the entity class, which
+ * keeps it stable when a new entity gets its id on persist. Two unsaved
+ * entities are never equal.
+ */
+final class EntityIdentity {
+
+    private EntityIdentity() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> boolean equals(T self, Object other, Function<T, Object> id) {
+        if (self == other) {
+            return true;
+        }
+        if (other == null || effectiveClass(self) != effectiveClass(other)) {
+            return false;
+        }
+        Object selfId = idOf(self, id);
+        return selfId != null && selfId.equals(idOf((T) other, id));
+    }
+
+    static int hashCode(Object self) {
+        return effectiveClass(self).hashCode();
+    }
+
+    private static Class<?> effectiveClass(Object entity) {
+        return entity instanceof HibernateProxy proxy
+                ? proxy.getHibernateLazyInitializer().getPersistentClass()
+                : entity.getClass();
+    }
+
+    private static <T> Object idOf(T entity, Function<T, Object> id) {
+        return entity instanceof HibernateProxy proxy
+                ? proxy.getHibernateLazyInitializer().getIdentifier()
+                : id.apply(entity);
+    }
+}
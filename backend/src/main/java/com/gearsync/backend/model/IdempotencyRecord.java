@@ -0,0 +1,53 @@
+package com.gearsync.backend.model;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_records",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_scope_key", columnNames = {"scope", "idempotencyKey"}),
+        indexes = @Index(name = "idx_idempotency_expires", columnList = "expiresAt"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "idempotency_records_seq")
+    @SequenceGenerator(name = "idempotency_records_seq", sequenceName = "idempotency_records_seq", allocationSize = 50)
+    private Long id;
+
+    // Endpoint plus caller, so two users sending the same key never collide
+    @Column(nullable = false, length = 400)
+    private String scope;
+
+    @Column(nullable = false)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    private Integer statusCode;
+
+    @Column(columnDefinition = "TEXT")
+    private String responseBody;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Override
+    public final boolean equals(Object o) {
+        return EntityIdentity.equals(this, o, IdempotencyRecord::getId);
+    }
+
+    @Override
+    public final int hashCode() {
+        return EntityIdentity.hashCode(this);
+    }
+}
@@ -2,21 +2,26 @@ package com.gearsync.backend.model;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "service_progress")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class ServiceProgress {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "service_progress_seq")
+    @SequenceGenerator(name = "service_progress_seq", sequenceName = "service_progress_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -36,14 +41,17 @@ public class ServiceProgress {
     @Column(nullable = false, updatable = false)
     private LocalDateTime timestamp;
 
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "updated_by_employee_id", nullable = false)
     private User updatedByEmployee;
 
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "appointment_id")
     private Appointment appointment;
 
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id")
     private Project project;
@@ -66,4 +74,14 @@ public class ServiceProgress {
             throw new IllegalStateException("ServiceProgress must be associated with either an Appointment or a Project");
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public final boolean equals(Object o) {
+        return EntityIdentity.equals(this, o, ServiceProgress::getId);
+    }
+
+    @Override
+    public final int hashCode() {
+        return EntityIdentity.hashCode(this);
+    }
+}
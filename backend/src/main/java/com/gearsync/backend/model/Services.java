@@ -13,12 +13,14 @@ import java.util.Set;
 @Table(name = "services")
 @Getter
 @Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class Services {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "services_seq")
+    @SequenceGenerator(name = "services_seq", sequenceName = "services_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -48,7 +50,17 @@ public class Services {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @ToString.Exclude
     @ManyToMany(mappedBy = "appointmentServices")
     private Set<Appointment> appointments = new HashSet<>();
 
-}
\ No newline at end of file
+    @Override
+    public final boolean equals(Object o) {
+        return EntityIdentity.equals(this, o, Services::getId);
+    }
+
+    @Override
+    public final int hashCode() {
+        return EntityIdentity.hashCode(this);
+    }
+}
@@ -1,21 +1,26 @@
 package com.gearsync.backend.model;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "time_logs")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class TimeLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "time_logs_seq")
+    @SequenceGenerator(name = "time_logs_seq", sequenceName = "time_logs_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -41,14 +46,17 @@ public class TimeLog {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", nullable = false)
     private User employee;
 
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "appointment_id")
     private Appointment appointment;
 
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id")
     private Project project;
@@ -64,4 +72,14 @@ public class TimeLog {
             this.durationMinutes = (int) java.time.Duration.between(startTime, endTime).toMinutes();
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public final boolean equals(Object o) {
+        return EntityIdentity.equals(this, o, TimeLog::getId);
+    }
+
+    @Override
+    public final int hashCode() {
+        return EntityIdentity.hashCode(this);
+    }
+}
@@ -2,9 +2,17 @@ package com.gearsync.backend.repository;
 
 import com.gearsync.backend.model.Appointment;
 import com.gearsync.backend.model.AppointmentStatus;
+import com.gearsync.backend.model.Role;
 import com.gearsync.backend.model.Services;
 import com.gearsync.backend.model.User;
+import com.gearsync.backend.repository.projection.AppointmentDurationView;
+import com.gearsync.backend.repository.projection.AppointmentSummaryView;
+import com.gearsync.backend.repository.projection.AppointmentWorkloadView;
+import com.gearsync.backend.repository.projection.CustomerCountView;
+import com.gearsync.backend.repository.projection.StatusTotalsView;
 import com.gearsync.backend.service.AppointmentService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -13,11 +21,60 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
+
+    String SUMMARY_SELECT = """
+           select a.id as id,
+                  a.scheduledDateTime as scheduledDateTime,
+                  a.status as status,
+                  c.firstName as customerFirstName,
+                  c.lastName as customerLastName,
+                  c.email as customerEmail,
+                  v.registrationNumber as vehicleRegistrationNumber,
+                  v.make as vehicleMake,
+                  v.model as vehicleModel,
+                  e.firstName as employeeFirstName,
+                  e.lastName as employeeLastName,
+                  a.progressPercentage as progressPercentage,
+                  a.createdAt as createdAt,
+                  (select count(t) from TimeLog t where t.appointment = a) as timeLogsCount,
+                  (select coalesce(sum(t.durationMinutes), 0) from TimeLog t where t.appointment = a) as totalTimeLoggedMinutes
+           from Appointment a
+           join a.customer c
+           join a.vehicle v
+           left join a.assignedEmployee e
+           """;
+
+    String DURATION_SELECT = """
+           select a.id as id,
+                  a.scheduledDateTime as scheduledDateTime,
+                  coalesce(sum(s.estimatedDurationMinutes), 0) as durationMinutes
+           from Appointment a
+           left join a.appointmentServices s
+           """;
+
+    String WORKLOAD_SELECT = """
+           select a.id as id,
+                  a.scheduledDateTime as scheduledDateTime,
+                  e.id as employeeId,
+                  coalesce(sum(s.estimatedDurationMinutes), 0) as durationMinutes
+           from Appointment a
+           left join a.assignedEmployee e
+           left join a.appointmentServices s
+           """;
+
+    String SUMMARY_FILTER = """
+           where (:status is null or a.status = :status)
+             and (:from is null or a.scheduledDateTime >= :from)
+             and (:to is null or a.scheduledDateTime < :to)
+             and (:employeeId is null or e.id = :employeeId)
+           """;
+
     List<Appointment> findByCustomer(User customer);
     List<Appointment> findByAssignedEmployee(User employee);
     boolean existsByCustomerAndScheduledDateTime(User customer, LocalDateTime scheduledDateTime);
@@ -31,6 +88,10 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
 
     List<Appointment> findByAssignedEmployeeId(Long employeeId);
 
+    // Everything AppointmentResponseDTO shows, loaded in the same query
+    @EntityGraph("Appointment.detail")
+    List<Appointment> findWithDetailsByAssignedEmployeeId(Long employeeId);
+
     List<Appointment> findByStatus(AppointmentStatus status);
 
     List<Appointment> findByVehicleId(Long vehicleId);
@@ -79,6 +140,29 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
            """)
     BigDecimal sumFinalCostByStatus(AppointmentStatus status);
 
+    @Query("""
+           select a.status as status, count(a) as total, coalesce(sum(a.finalCost), 0) as finalCostTotal
+           from Appointment a
+           group by a.status
+           """)
+    List<StatusTotalsView> summarizeByStatus();
+
+    @Query("""
+           select a.status as status, count(a) as total, coalesce(sum(a.finalCost), 0) as finalCostTotal
+           from Appointment a
+           where a.customer.id = :customerId
+           group by a.status
+           """)
+    List<StatusTotalsView> summarizeByStatusForCustomer(@Param("customerId") Long customerId);
+
+    @Query("""
+           select distinct a from Appointment a
+           left join fetch a.appointmentServices
+           where a.customer.id = :customerId and a.scheduledDateTime >= :from
+           order by a.scheduledDateTime asc
+           """)
+    List<Appointment> findUpcomingWithServices(@Param("customerId") Long customerId, @Param("from") LocalDateTime from);
+
 
     long countByCustomer_Email(String email);
 
@@ -90,19 +174,160 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
     List<Appointment> findAllByCustomerIdAndScheduledDateTimeGreaterThanEqualOrderByScheduledDateTimeAsc(
             Long customerId, LocalDateTime scheduledFrom);
 
-     @Query("""
-        select distinct a
+    // Two-phase keyset paging: walk ids below the last one already handed out, then load only that page's rows.
+    // Inserts and deletes during the walk never shift later pages. appointmentServices is left to batch fetching,
+    // so rows are never multiplied by services per appointment.
+    @Query("select a.id from Appointment a where a.id < :beforeId order by a.id desc")
+    List<Long> findIdPageBefore(@Param("beforeId") Long beforeId, Pageable pageable);
+
+    @Query("""
+        select a
         from Appointment a
         left join fetch a.customer c
         left join fetch a.vehicle v
         left join fetch a.assignedEmployee e
-        left join fetch a.appointmentServices s
-        order by a.createdAt desc
+        where a.id in :ids
     """)
-    List<Appointment> findAllWithDetails();
+    List<Appointment> findWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
 
     List<Appointment> findByCustomerId(Long customerId);
 
+    @Query("""
+           select a.customer.id as customerId, count(a) as total
+           from Appointment a
+           where a.customer.role = :role
+           group by a.customer.id
+           """)
+    List<CustomerCountView> countPerCustomerByRole(@Param("role") Role role);
+
+    @Query("""
+           select a.customer.id as customerId, count(a) as total
+           from Appointment a
+           where a.customer.id in :customerIds
+           group by a.customer.id
+           """)
+    List<CustomerCountView> countPerCustomerIn(@Param("customerIds") Collection<Long> customerIds);
+
+    @Query(SUMMARY_SELECT)
+    List<AppointmentSummaryView> findAllSummaries();
+
+    @Query(DURATION_SELECT + """
+           where a.scheduledDateTime >= :from and a.scheduledDateTime < :to and a.status <> :excluded
+           group by a.id, a.scheduledDateTime
+           """)
+    List<AppointmentDurationView> findDurationsScheduledBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("excluded") AppointmentStatus excluded
+    );
+
+    @Query(DURATION_SELECT + """
+           where a.id = :id and a.status <> :excluded
+           group by a.id, a.scheduledDateTime
+           """)
+    Optional<AppointmentDurationView> findDurationById(
+            @Param("id") Long id,
+            @Param("excluded") AppointmentStatus excluded
+    );
+
+    @Query(WORKLOAD_SELECT + """
+           where e.id is not null and a.scheduledDateTime >= :from and a.scheduledDateTime < :to and a.status <> :excluded
+           group by a.id, a.scheduledDateTime, e.id
+           """)
+    List<AppointmentWorkloadView> findAssignedWorkloadBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("excluded") AppointmentStatus excluded
+    );
+
+    @Query(WORKLOAD_SELECT + """
+           where e.id = :employeeId and a.scheduledDateTime >= :from and a.status <> :excluded
+           group by a.id, a.scheduledDateTime, e.id
+           """)
+    List<AppointmentWorkloadView> findWorkloadByEmployeeFrom(
+            @Param("employeeId") Long employeeId,
+            @Param("from") LocalDateTime from,
+            @Param("excluded") AppointmentStatus excluded
+    );
+
+    @Query(WORKLOAD_SELECT + """
+           where a.id = :id and e.id is not null and a.status <> :excluded
+           group by a.id, a.scheduledDateTime, e.id
+           """)
+    Optional<AppointmentWorkloadView> findAssignedWorkloadById(
+            @Param("id") Long id,
+            @Param("excluded") AppointmentStatus excluded
+    );
+
+    @Query(WORKLOAD_SELECT + """
+           where e.id is null and a.status = :status and a.scheduledDateTime >= :from and a.scheduledDateTime < :to
+           group by a.id, a.scheduledDateTime, e.id
+           order by a.scheduledDateTime asc
+           """)
+    List<AppointmentWorkloadView> findUnassignedWorkloadBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("status") AppointmentStatus status
+    );
+
+    @Query(WORKLOAD_SELECT + """
+           where a.scheduledDateTime >= :from and a.scheduledDateTime < :to and a.status in :statuses
+           group by a.id, a.scheduledDateTime, e.id
+           """)
+    List<AppointmentWorkloadView> findWorkloadBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("statuses") Collection<AppointmentStatus> statuses
+    );
+
+    @Query(WORKLOAD_SELECT + """
+           where a.id = :id and a.status in :statuses
+           group by a.id, a.scheduledDateTime, e.id
+           """)
+    Optional<AppointmentWorkloadView> findWorkloadById(
+            @Param("id") Long id,
+            @Param("statuses") Collection<AppointmentStatus> statuses
+    );
+
+    @Query("select a from Appointment a join fetch a.customer join fetch a.vehicle where a.id in :ids")
+    List<Appointment> findAllWithCustomerAndVehicleByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY_SELECT + "where a.scheduledDateTime >= :from and a.scheduledDateTime < :to order by a.scheduledDateTime asc")
+    List<AppointmentSummaryView> findSummariesScheduledBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    @Query(SUMMARY_SELECT + "where a.id in :ids and a.scheduledDateTime >= :from and a.scheduledDateTime < :to")
+    List<AppointmentSummaryView> findSummariesByIdInScheduledBetween(
+            @Param("ids") Collection<Long> ids,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    @Query(SUMMARY_SELECT + "where a.status = :status")
+    List<AppointmentSummaryView> findSummariesByStatus(@Param("status") AppointmentStatus status);
+
+    @Query(SUMMARY_SELECT + "where a.status = :status and a.assignedEmployee is null")
+    List<AppointmentSummaryView> findUnassignedSummariesByStatus(@Param("status") AppointmentStatus status);
+
+    @Query(SUMMARY_SELECT + SUMMARY_FILTER)
+    Slice<AppointmentSummaryView> findSummarySlice(
+            @Param("status") AppointmentStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("employeeId") Long employeeId,
+            Pageable pageable
+    );
+
+    @Query("select count(a) from Appointment a left join a.assignedEmployee e " + SUMMARY_FILTER)
+    long countSummaries(
+            @Param("status") AppointmentStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("employeeId") Long employeeId
+    );
+
     Long countByAssignedEmployee_Email(String email);
 
     Long countByAssignedEmployee_EmailAndStatus(String email, AppointmentStatus status);
@@ -0,0 +1,43 @@
+package com.gearsync.backend.repository;
+
+import com.gearsync.backend.model.EmailOutbox;
+import com.gearsync.backend.model.EmailStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // Lock timeout -2 maps to SKIP LOCKED, so concurrent dispatchers never pick the same row
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+           select m from EmailOutbox m
+           where m.status = :status and m.nextAttemptAt <= :now
+           order by m.nextAttemptAt asc
+           """)
+    List<EmailOutbox> lockDue(@Param("status") EmailStatus status,
+                              @Param("now") LocalDateTime now,
+                              Pageable pageable);
+
+    long countByStatus(EmailStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("delete from EmailOutbox m where m.status in :statuses and m.createdAt <= :cutoff")
+    int deleteFinishedBefore(@Param("statuses") Collection<EmailStatus> statuses,
+                             @Param("cutoff") LocalDateTime cutoff);
+}
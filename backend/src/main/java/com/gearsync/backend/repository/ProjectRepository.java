@@ -2,26 +2,95 @@ package com.gearsync.backend.repository;
 
 import com.gearsync.backend.model.Project;
 import com.gearsync.backend.model.ProjectStatus;
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.repository.projection.CustomerCountView;
+import com.gearsync.backend.repository.projection.ProjectSummaryView;
+import com.gearsync.backend.repository.projection.ProjectWindowView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    String SUMMARY_SELECT = """
+           select p.id as id,
+                  p.projectName as projectName,
+                  p.description as description,
+                  p.status as status,
+                  c.id as customerId,
+                  c.firstName as customerFirstName,
+                  c.lastName as customerLastName,
+                  c.email as customerEmail,
+                  c.phoneNumber as customerPhone,
+                  v.id as vehicleId,
+                  v.registrationNumber as vehicleRegistrationNumber,
+                  v.make as vehicleMake,
+                  v.model as vehicleModel,
+                  v.year as vehicleYear,
+                  e.id as employeeId,
+                  e.firstName as employeeFirstName,
+                  e.lastName as employeeLastName,
+                  e.email as employeeEmail,
+                  p.estimatedCost as estimatedCost,
+                  p.actualCost as actualCost,
+                  p.estimatedDurationHours as estimatedDurationHours,
+                  p.progressPercentage as progressPercentage,
+                  p.startDate as startDate,
+                  p.completionDate as completionDate,
+                  p.expectedCompletionDate as expectedCompletionDate,
+                  p.createdAt as createdAt,
+                  p.updatedAt as updatedAt,
+                  (select count(t) from TimeLog t where t.project = p) as timeLogsCount,
+                  (select coalesce(sum(t.durationMinutes), 0) from TimeLog t where t.project = p) as totalTimeLoggedMinutes
+           from Project p
+           join p.customer c
+           join p.vehicle v
+           left join p.assignedEmployee e
+           """;
+
+    String WINDOW_SELECT = """
+           select p.id as id,
+                  p.assignedEmployee.id as employeeId,
+                  p.startDate as startDate,
+                  p.expectedCompletionDate as expectedCompletionDate,
+                  p.estimatedDurationHours as estimatedDurationHours
+           from Project p
+           """;
+
+    String SUMMARY_FILTER = """
+           where (:status is null or p.status = :status)
+             and (:from is null or p.createdAt >= :from)
+             and (:to is null or p.createdAt < :to)
+             and (:employeeId is null or e.id = :employeeId)
+           """;
+
+
     // Find all projects by customer
     List<Project> findByCustomerId(Long customerId);
 
+    // Customer, vehicle and assigned employee for ProjectResponseDTO, loaded in the same query
+    @EntityGraph("Project.detail")
+    List<Project> findWithDetailsByCustomerId(Long customerId);
+
     // Find projects by customer and status
     List<Project> findByCustomerIdAndStatus(Long customerId, ProjectStatus status);
 
     // Find all projects by assigned employee
     List<Project> findByAssignedEmployeeId(Long employeeId);
 
+    @EntityGraph("Project.detail")
+    List<Project> findWithDetailsByAssignedEmployeeId(Long employeeId);
+
     // Find all projects by status
     List<Project> findByStatus(ProjectStatus status);
 
@@ -55,11 +124,56 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     // Find projects by customer and vehicle
     List<Project> findByCustomerIdAndVehicleId(Long customerId, Long vehicleId);
 
-    // Find all projects with timeLogs eagerly loaded
-    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.timeLogs")
-    List<Project> findAllWithTimeLogs();
-
-    // Find projects by status with timeLogs eagerly loaded
-    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.timeLogs WHERE p.status = :status")
-    List<Project> findByStatusWithTimeLogs(@Param("status") ProjectStatus status);
+    // Project counts grouped per customer
+    @Query("""
+           select p.customer.id as customerId, count(p) as total
+           from Project p
+           where p.customer.role = :role
+           group by p.customer.id
+           """)
+    List<CustomerCountView> countPerCustomerByRole(@Param("role") Role role);
+
+    @Query("""
+           select p.customer.id as customerId, count(p) as total
+           from Project p
+           where p.customer.id in :customerIds
+           group by p.customer.id
+           """)
+    List<CustomerCountView> countPerCustomerIn(@Param("customerIds") Collection<Long> customerIds);
+
+    @Query(WINDOW_SELECT + "where p.assignedEmployee.id = :employeeId and p.status in :statuses")
+    List<ProjectWindowView> findWindowsByEmployee(
+            @Param("employeeId") Long employeeId,
+            @Param("statuses") Collection<ProjectStatus> statuses
+    );
+
+    @Query(WINDOW_SELECT + "where p.id = :id and p.assignedEmployee is not null and p.status in :statuses")
+    Optional<ProjectWindowView> findWindowById(
+            @Param("id") Long id,
+            @Param("statuses") Collection<ProjectStatus> statuses
+    );
+
+    // Summary rows with time log totals, no entity hydration
+    @Query(SUMMARY_SELECT)
+    List<ProjectSummaryView> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "where p.status = :status")
+    List<ProjectSummaryView> findSummariesByStatus(@Param("status") ProjectStatus status);
+
+    @Query(SUMMARY_SELECT + SUMMARY_FILTER)
+    Slice<ProjectSummaryView> findSummarySlice(
+            @Param("status") ProjectStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("employeeId") Long employeeId,
+            Pageable pageable
+    );
+
+    @Query("select count(p) from Project p left join p.assignedEmployee e " + SUMMARY_FILTER)
+    long countSummaries(
+            @Param("status") ProjectStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("employeeId") Long employeeId
+    );
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.gearsync.backend.repository;
+
+import com.gearsync.backend.model.SlotHold;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SlotHoldRepository extends JpaRepository<SlotHold, Long> {
+
+    @Query("""
+           select h from SlotHold h
+           where h.startTime >= :from and h.startTime < :to and h.expiresAt > :now
+           """)
+    List<SlotHold> findActiveBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("now") LocalDateTime now
+    );
+
+    List<SlotHold> findByCustomerId(Long customerId);
+
+    List<SlotHold> findByExpiresAtAfter(LocalDateTime now);
+
+    // Expired holds are already ignored by findActiveBetween; this only keeps the table small
+    @Transactional
+    @Modifying
+    @Query("delete from SlotHold h where h.id in :ids and h.expiresAt <= :now")
+    int deleteExpired(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from SlotHold h where h.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
@@ -1,9 +1,12 @@
 package com.gearsync.backend.repository;
 import com.gearsync.backend.model.Role;
 import com.gearsync.backend.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +16,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByPasswordResetToken(String resetToken);
     boolean existsByEmail(String email);
     List<User> findByRole(Role role);
+    Slice<User> findByRoleIn(Collection<Role> roles, Pageable pageable);
+    long countByRoleIn(Collection<Role> roles);
     default List<User> findAllEmployees() {
         return findByRole(Role.EMPLOYEE);
     }
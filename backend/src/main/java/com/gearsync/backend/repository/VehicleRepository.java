@@ -1,8 +1,16 @@
 package com.gearsync.backend.repository;
+import com.gearsync.backend.model.Role;
 import com.gearsync.backend.model.User;
 import com.gearsync.backend.model.Vehicle;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,6 +20,32 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
 
     long countByOwner_Email(String email);
 
+    @Query("select count(v) from Vehicle v where v.owner.id = :ownerId")
+    long countByOwnerId(@Param("ownerId") Long ownerId);
+
     List<Vehicle> findByOwnerId(Long ownerId);
 
+    List<Vehicle> findByOwner_Role(Role role);
+
+    List<Vehicle> findByOwnerIdIn(Collection<Long> ownerIds);
+
+    @Query("""
+           select v from Vehicle v
+           join fetch v.owner o
+           where (:from is null or v.createdAt >= :from)
+             and (:to is null or v.createdAt < :to)
+           """)
+    Slice<Vehicle> findSliceWithOwner(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    @Query("""
+           select count(v) from Vehicle v
+           where (:from is null or v.createdAt >= :from)
+             and (:to is null or v.createdAt < :to)
+           """)
+    long countCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
 }
@@ -0,0 +1,9 @@
+package com.gearsync.backend.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface AppointmentDurationView {
+    Long getId();
+    LocalDateTime getScheduledDateTime();
+    Long getDurationMinutes();
+}
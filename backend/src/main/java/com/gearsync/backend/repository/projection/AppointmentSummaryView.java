@@ -0,0 +1,25 @@
+package com.gearsync.backend.repository.projection;
+
+import com.gearsync.backend.model.AppointmentStatus;
+
+import java.time.LocalDateTime;
+
+public interface AppointmentSummaryView {
+    Long getId();
+    LocalDateTime getScheduledDateTime();
+    AppointmentStatus getStatus();
+    String getCustomerFirstName();
+    String getCustomerLastName();
+    String getCustomerEmail();
+    String getVehicleRegistrationNumber();
+    String getVehicleMake();
+    String getVehicleModel();
+    String getEmployeeFirstName();
+    String getEmployeeLastName();
+    Integer getProgressPercentage();
+    LocalDateTime getCreatedAt();
+
+    // Aggregated from time_logs in the same statement
+    Long getTimeLogsCount();
+    Long getTotalTimeLoggedMinutes();
+}
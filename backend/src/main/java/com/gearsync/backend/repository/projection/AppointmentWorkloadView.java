@@ -0,0 +1,10 @@
+package com.gearsync.backend.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface AppointmentWorkloadView {
+    Long getId();
+    LocalDateTime getScheduledDateTime();
+    Long getEmployeeId();
+    Long getDurationMinutes();
+}
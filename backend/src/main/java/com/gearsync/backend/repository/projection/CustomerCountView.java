@@ -0,0 +1,6 @@
+package com.gearsync.backend.repository.projection;
+
+public interface CustomerCountView {
+    Long getCustomerId();
+    Long getTotal();
+}
@@ -0,0 +1,44 @@
+package com.gearsync.backend.repository.projection;
+
+import com.gearsync.backend.model.ProjectStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface ProjectSummaryView {
+    Long getId();
+    String getProjectName();
+    String getDescription();
+    ProjectStatus getStatus();
+
+    Long getCustomerId();
+    String getCustomerFirstName();
+    String getCustomerLastName();
+    String getCustomerEmail();
+    String getCustomerPhone();
+
+    Long getVehicleId();
+    String getVehicleRegistrationNumber();
+    String getVehicleMake();
+    String getVehicleModel();
+    Integer getVehicleYear();
+
+    Long getEmployeeId();
+    String getEmployeeFirstName();
+    String getEmployeeLastName();
+    String getEmployeeEmail();
+
+    BigDecimal getEstimatedCost();
+    BigDecimal getActualCost();
+    Integer getEstimatedDurationHours();
+    Integer getProgressPercentage();
+    LocalDateTime getStartDate();
+    LocalDateTime getCompletionDate();
+    LocalDateTime getExpectedCompletionDate();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+
+    // Aggregated from time_logs in the same statement
+    Long getTimeLogsCount();
+    Long getTotalTimeLoggedMinutes();
+}
@@ -0,0 +1,11 @@
+package com.gearsync.backend.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface ProjectWindowView {
+    Long getId();
+    Long getEmployeeId();
+    LocalDateTime getStartDate();
+    LocalDateTime getExpectedCompletionDate();
+    Integer getEstimatedDurationHours();
+}
@@ -0,0 +1,11 @@
+package com.gearsync.backend.repository.projection;
+
+import com.gearsync.backend.model.AppointmentStatus;
+
+import java.math.BigDecimal;
+
+public interface StatusTotalsView {
+    AppointmentStatus getStatus();
+    Long getTotal();
+    BigDecimal getFinalCostTotal();
+}
@@ -0,0 +1,62 @@
+package com.gearsync.backend.security;
+
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.User;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.security.Principal;
+
+/**
+ * Principal built from the JWT claims. getName() stays the email so existing
+ * authentication.getName() callers keep working.
+ */
+@Getter
+public class AuthenticatedUser implements Principal {
+
+    private final Long id;
+    private final String email;
+    private final Role role;
+
+    // Set only when the user was loaded from the database rather than the token
+    @Getter(AccessLevel.NONE)
+    private final transient User entity;
+
+    public AuthenticatedUser(Long id, String email, Role role) {
+        this(id, email, role, null);
+    }
+
+    private AuthenticatedUser(Long id, String email, Role role, User entity) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.entity = entity;
+    }
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole(), user);
+    }
+
+    User loadedEntity() {
+        return entity;
+    }
+
+    public boolean hasRole(Role... roles) {
+        for (Role candidate : roles) {
+            if (candidate == role) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
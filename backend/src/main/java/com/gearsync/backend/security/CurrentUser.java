@@ -0,0 +1,46 @@
+package com.gearsync.backend.security;
+
+import com.gearsync.backend.model.User;
+import com.gearsync.backend.repository.UserRepository;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Resolves the caller from the request's security context. Falls back to a
+ * lookup by email when there is no JWT principal for that email (tokens issued
+ * before the id claim existed, background jobs, tests).
+ */
+public final class CurrentUser {
+
+    private CurrentUser() {
+    }
+
+    public static Optional<AuthenticatedUser> principal(String email) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            return Optional.empty();
+        }
+        if (user.getId() == null || user.getRole() == null || !user.getEmail().equals(email)) {
+            return Optional.empty();
+        }
+        return Optional.of(user);
+    }
+
+    public static AuthenticatedUser resolve(UserRepository userRepository,
+                                            String email,
+                                            Supplier<? extends RuntimeException> notFound) {
+        return principal(email)
+                .orElseGet(() -> userRepository.findByEmail(email)
+                        .map(AuthenticatedUser::of)
+                        .orElseThrow(notFound));
+    }
+
+    // Reuses the row loaded by resolve() or hands out an uninitialized reference
+    public static User entity(UserRepository userRepository, AuthenticatedUser user) {
+        User loaded = user.loadedEntity();
+        return loaded != null ? loaded : userRepository.getReferenceById(user.getId());
+    }
+}
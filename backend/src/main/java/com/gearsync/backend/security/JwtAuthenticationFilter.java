@@ -37,13 +37,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
-            String email = jwtUtil.validateTokenAndGetEmail(token);
+            AuthenticatedUser principal = jwtUtil.parsePrincipal(token);
 
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                String role = jwtUtil.extractRole(token);
-                SimpleGrantedAuthority authority = new SimpleGrantedAuthority(role);
+            if (principal != null && principal.getEmail() != null && principal.getRole() != null
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+                SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + principal.getRole());
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(email, null, List.of(authority));
+                        new UsernamePasswordAuthenticationToken(principal, null, List.of(authority));
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
@@ -1,9 +1,11 @@
 package com.gearsync.backend.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import com.gearsync.backend.model.Role;
@@ -18,42 +20,90 @@ public class JwtUtil {
     @Value("${jwt.secret}")
     private String secretKey;
 
+    @Value("${jwt.cache.max-entries:10000}")
+    private int cacheMaxEntries;
+
     private long expirationMs = 7 * 24 * 60 * 60 * 1000;
 
-    private SecretKey getSigningKey() {
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private VerifiedTokenCache tokenCache;
+
+    @PostConstruct
+    void init() {
         byte[] keyBytes = Base64.getDecoder().decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        signingKey = Keys.hmacShaKeyFor(keyBytes);
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        tokenCache = new VerifiedTokenCache(cacheMaxEntries);
     }
 
-    public String generateToken(String email, Role role) {
+    public String generateToken(Long userId, String email, Role role) {
         return Jwts.builder()
                 .setSubject(email)
+                .claim("uid", userId)
                 .claim("role", "ROLE_" + role)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public String validateTokenAndGetEmail(String token) {
+        AuthenticatedUser principal = parsePrincipal(token);
+        return principal != null ? principal.getEmail() : null;
+    }
+
+    public String extractRole(String token) {
+        AuthenticatedUser principal = parsePrincipal(token);
+        return principal != null && principal.getRole() != null ? "ROLE_" + principal.getRole() : null;
+    }
+
+    // Verifies once per distinct token; repeat tokens are served from the cache until they expire
+    public AuthenticatedUser parsePrincipal(String token) {
+        long now = System.currentTimeMillis();
+        AuthenticatedUser cached = tokenCache.get(token, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims;
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return claims.getSubject();
+            claims = parser.parseClaimsJws(token).getBody();
         } catch (Exception e) {
             return null;
         }
+
+        String roleClaim = claims.get("role", String.class);
+        Role role = null;
+        if (roleClaim != null && roleClaim.startsWith("ROLE_")) {
+            try {
+                role = Role.valueOf(roleClaim.substring("ROLE_".length()));
+            } catch (IllegalArgumentException ignored) {
+                role = null;
+            }
+        }
+
+        Number uid = claims.get("uid", Number.class);
+        AuthenticatedUser principal =
+                new AuthenticatedUser(uid != null ? uid.longValue() : null, claims.getSubject(), role);
+
+        if (claims.getExpiration() != null) {
+            tokenCache.put(token, principal, claims.getExpiration().getTime(), now);
+        }
+        return principal;
     }
 
-    public String extractRole(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("role", String.class);
-    }
-}
\ No newline at end of file
+    public long getTokenCacheHits() {
+        return tokenCache.hits();
+    }
+
+    public long getTokenCacheMisses() {
+        return tokenCache.misses();
+    }
+
+    public int getTokenCacheSize() {
+        return tokenCache.size();
+    }
+}
@@ -0,0 +1,213 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.AppointmentBoardDiffDTO;
+import com.gearsync.backend.dto.AppointmentSummaryDTO;
+import com.gearsync.backend.event.AppointmentChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Server-sent event stream of today's appointment board for admins. A new
+ * subscriber gets the whole board as a "snapshot" event; after that, changes
+ * are collected by appointment id and flushed as a single "diff" event per
+ * interval, so a burst of updates to the same appointment costs one row.
+ *
+ * Snapshots load outside the lock the flush holds, so a slow query or client
+ * never delays the other subscribers' frames. If a frame goes out while a
+ * snapshot loads, the snapshot may be older than that frame, so it is loaded
+ * again.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminBoardStreamService {
+
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String DIFF_EVENT = "diff";
+
+    private final AdminDashboardService adminDashboardService;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final Set<Long> dirtyIds = ConcurrentHashMap.newKeySet();
+    // Subscribers still loading their snapshot; changes are tracked for them too
+    private final AtomicInteger connecting = new AtomicInteger();
+
+    // Ids the connected clients currently have on their board; guarded by this
+    private final Set<Long> boardIds = new HashSet<>();
+    private LocalDate boardDate = LocalDate.now();
+    // Bumped under this whenever boardIds or dirtyIds are drained
+    private volatile long boardVersion;
+    private long lastFrameAtMillis = System.currentTimeMillis();
+
+    @Value("${app.dashboard.stream.timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${app.dashboard.stream.heartbeat-seconds:20}")
+    private long heartbeatSeconds;
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        register(emitter);
+        return emitter;
+    }
+
+    void register(SseEmitter emitter) {
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+
+        connecting.incrementAndGet();
+        try {
+            while (true) {
+                long version = boardVersion;
+                LocalDate today = LocalDate.now();
+                List<AppointmentSummaryDTO> board = adminDashboardService.getTodayBoard(today);
+                // Not yet in emitters, so no diff can overtake the snapshot
+                if (!send(emitter, SseEmitter.event().name(SNAPSHOT_EVENT).data(board))) {
+                    return;
+                }
+                if (attach(emitter, today, board, version)) {
+                    return;
+                }
+            }
+        } finally {
+            connecting.decrementAndGet();
+        }
+    }
+
+    private synchronized boolean attach(SseEmitter emitter, LocalDate date, List<AppointmentSummaryDTO> board,
+                                        long version) {
+        if (version != boardVersion) {
+            // A frame went out while the snapshot loaded and may be newer than it
+            return false;
+        }
+        if (emitters.isEmpty()) {
+            rollOverIfNewDay(date);
+        }
+        // On a new day the next flush rolls the board over and sends everyone a fresh snapshot
+        if (date.equals(boardDate)) {
+            for (AppointmentSummaryDTO row : board) {
+                // A pending change is not on the other clients' boards yet; the next diff adds it for everyone
+                if (!dirtyIds.contains(row.getId())) {
+                    boardIds.add(row.getId());
+                }
+            }
+        }
+        emitters.add(emitter);
+        return true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        if (event.appointmentId() != null && (!emitters.isEmpty() || connecting.get() > 0)) {
+            dirtyIds.add(event.appointmentId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.dashboard.stream.interval-ms:1000}")
+    public synchronized void flush() {
+        if (emitters.isEmpty()) {
+            if (!dirtyIds.isEmpty() || !boardIds.isEmpty()) {
+                dirtyIds.clear();
+                boardIds.clear();
+                boardVersion++;
+            }
+            return;
+        }
+
+        if (rollOverIfNewDay(LocalDate.now())) {
+            List<AppointmentSummaryDTO> board = adminDashboardService.getTodayBoard(boardDate);
+            board.forEach(row -> boardIds.add(row.getId()));
+            broadcast(SNAPSHOT_EVENT, board);
+            return;
+        }
+
+        AppointmentBoardDiffDTO diff = drainDiff();
+        if (!diff.isEmpty()) {
+            broadcast(DIFF_EVENT, diff);
+        } else if (System.currentTimeMillis() - lastFrameAtMillis >= heartbeatSeconds * 1000) {
+            // Keeps idle connections from being closed by proxies
+            for (SseEmitter emitter : emitters) {
+                send(emitter, SseEmitter.event().comment("keepalive"));
+            }
+            lastFrameAtMillis = System.currentTimeMillis();
+        }
+    }
+
+    private AppointmentBoardDiffDTO drainDiff() {
+        AppointmentBoardDiffDTO diff = new AppointmentBoardDiffDTO();
+        if (dirtyIds.isEmpty()) {
+            return diff;
+        }
+
+        List<Long> ids = new ArrayList<>(dirtyIds);
+        dirtyIds.removeAll(ids);
+        boardVersion++;
+
+        Map<Long, AppointmentSummaryDTO> current = adminDashboardService.getTodayBoard(boardDate, ids).stream()
+                .collect(Collectors.toMap(AppointmentSummaryDTO::getId, Function.identity()));
+
+        for (Long id : ids) {
+            AppointmentSummaryDTO row = current.get(id);
+            if (row != null) {
+                (boardIds.add(id) ? diff.getAdded() : diff.getChanged()).add(row);
+            } else if (boardIds.remove(id)) {
+                diff.getRemoved().add(id);
+            }
+        }
+        diff.setGeneratedAt(LocalDateTime.now());
+        return diff;
+    }
+
+    private boolean rollOverIfNewDay(LocalDate today) {
+        if (today.equals(boardDate)) {
+            return false;
+        }
+        boardDate = today;
+        boardIds.clear();
+        dirtyIds.clear();
+        boardVersion++;
+        return true;
+    }
+
+    private void broadcast(String eventName, Object payload) {
+        for (SseEmitter emitter : emitters) {
+            send(emitter, SseEmitter.event().name(eventName).data(payload));
+        }
+        lastFrameAtMillis = System.currentTimeMillis();
+    }
+
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (Exception e) {
+            log.debug("Dropping admin board subscriber: {}", e.getMessage());
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    int getSubscriberCount() {
+        return emitters.size();
+    }
+}
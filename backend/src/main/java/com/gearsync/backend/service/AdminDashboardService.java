@@ -1,19 +1,27 @@
 package com.gearsync.backend.service;
 
+import com.gearsync.backend.dto.AdminDashboardSnapshotDTO;
 import com.gearsync.backend.dto.AppointmentSummaryDTO;
 import com.gearsync.backend.model.Appointment;
 import com.gearsync.backend.model.AppointmentStatus;
 import com.gearsync.backend.repository.AppointmentRepository;
 import com.gearsync.backend.repository.UserRepository;
 import com.gearsync.backend.repository.VehicleRepository;
+import com.gearsync.backend.repository.projection.AppointmentSummaryView;
+import com.gearsync.backend.repository.projection.StatusTotalsView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,6 +32,11 @@ public class AdminDashboardService {
     private final AppointmentRepository appointmentRepository;
     private final VehicleRepository vehicleRepository;
 
+    @Value("${app.dashboard.snapshot-ttl-seconds:10}")
+    private long snapshotTtlSeconds;
+
+    private volatile CachedSnapshot cachedSnapshot;
+
     @Transactional(readOnly = true)
     public Long getUserCount() {
         return userRepository.count();
@@ -50,6 +63,20 @@ public class AdminDashboardService {
         return appointmentRepository.countByStatus(AppointmentStatus.IN_PROGRESS);
     }
 
+    @Transactional(readOnly = true)
+    public AdminDashboardSnapshotDTO getSnapshot() {
+        CachedSnapshot cached = cachedSnapshot;
+        if (cached != null && LocalDateTime.now().isBefore(cached.expiresAt())) {
+            return cached.snapshot();
+        }
+
+        AdminDashboardSnapshotDTO snapshot = buildSnapshot();
+        if (snapshotTtlSeconds > 0) {
+            cachedSnapshot = new CachedSnapshot(snapshot, snapshot.getGeneratedAt().plusSeconds(snapshotTtlSeconds));
+        }
+        return snapshot;
+    }
+
     @Transactional(readOnly = true)
     public List<AppointmentSummaryDTO> getConfirmedAppointments() {
         List<Appointment> appointments = appointmentRepository.findByStatusOrderByScheduledDateTimeAsc(AppointmentStatus.CONFIRMED);
@@ -69,6 +96,60 @@ public class AdminDashboardService {
                 .collect(Collectors.toList());
     }
 
+    // Today's board for the live stream; same rows as getTodayScheduledAppointments, loaded in one query
+    @Transactional(readOnly = true)
+    public List<AppointmentSummaryDTO> getTodayBoard(LocalDate day) {
+        return appointmentRepository.findSummariesScheduledBetween(day.atStartOfDay(), day.plusDays(1).atStartOfDay())
+                .stream()
+                .map(this::convertToSummaryDTO)
+                .collect(Collectors.toList());
+    }
+
+    // Only the given appointments that are still on the board for that day; missing ids have left it
+    @Transactional(readOnly = true)
+    public List<AppointmentSummaryDTO> getTodayBoard(LocalDate day, Collection<Long> appointmentIds) {
+        if (appointmentIds.isEmpty()) {
+            return List.of();
+        }
+        return appointmentRepository
+                .findSummariesByIdInScheduledBetween(appointmentIds, day.atStartOfDay(), day.plusDays(1).atStartOfDay())
+                .stream()
+                .map(this::convertToSummaryDTO)
+                .collect(Collectors.toList());
+    }
+
+    private AdminDashboardSnapshotDTO buildSnapshot() {
+        Map<AppointmentStatus, Long> countsByStatus = new EnumMap<>(AppointmentStatus.class);
+        BigDecimal totalEarnings = BigDecimal.ZERO;
+        long appointmentCount = 0;
+
+        for (StatusTotalsView row : appointmentRepository.summarizeByStatus()) {
+            countsByStatus.put(row.getStatus(), row.getTotal());
+            appointmentCount += row.getTotal();
+            if (row.getStatus() == AppointmentStatus.COMPLETED && row.getFinalCostTotal() != null) {
+                totalEarnings = row.getFinalCostTotal();
+            }
+        }
+
+        Map<String, Long> appointmentsByStatus = new LinkedHashMap<>();
+        for (AppointmentStatus status : AppointmentStatus.values()) {
+            appointmentsByStatus.put(status.name(), countsByStatus.getOrDefault(status, 0L));
+        }
+
+        AdminDashboardSnapshotDTO dto = new AdminDashboardSnapshotDTO();
+        dto.setUserCount(userRepository.count());
+        dto.setVehicleCount(vehicleRepository.count());
+        dto.setAppointmentCount(appointmentCount);
+        dto.setTotalEarnings(totalEarnings);
+        dto.setActiveServiceCount(countsByStatus.getOrDefault(AppointmentStatus.IN_PROGRESS, 0L));
+        dto.setAppointmentsByStatus(appointmentsByStatus);
+        dto.setGeneratedAt(LocalDateTime.now());
+        return dto;
+    }
+
+    private record CachedSnapshot(AdminDashboardSnapshotDTO snapshot, LocalDateTime expiresAt) {
+    }
+
     private AppointmentSummaryDTO convertToSummaryDTO(Appointment appointment) {
         AppointmentSummaryDTO dto = new AppointmentSummaryDTO();
         dto.setId(appointment.getId());
@@ -94,4 +175,27 @@ public class AdminDashboardService {
         
         return dto;
     }
+
+    private AppointmentSummaryDTO convertToSummaryDTO(AppointmentSummaryView row) {
+        AppointmentSummaryDTO dto = new AppointmentSummaryDTO();
+        dto.setId(row.getId());
+        dto.setScheduledDateTime(row.getScheduledDateTime());
+        dto.setStatus(row.getStatus().name());
+        dto.setProgressPercentage(row.getProgressPercentage());
+        dto.setCreatedAt(row.getCreatedAt());
+        dto.setCustomerName(row.getCustomerFirstName() + " " + row.getCustomerLastName());
+        dto.setCustomerEmail(row.getCustomerEmail());
+        dto.setVehicleRegistrationNumber(row.getVehicleRegistrationNumber());
+        dto.setVehicleMake(row.getVehicleMake());
+        dto.setVehicleModel(row.getVehicleModel());
+
+        if (row.getEmployeeFirstName() != null) {
+            dto.setAssignedEmployeeName(row.getEmployeeFirstName() + " " + row.getEmployeeLastName());
+        }
+
+        dto.setTimeLogsCount(row.getTimeLogsCount() != null ? row.getTimeLogsCount().intValue() : 0);
+        dto.setTotalTimeLoggedMinutes(
+                row.getTotalTimeLoggedMinutes() != null ? row.getTotalTimeLoggedMinutes().intValue() : 0);
+        return dto;
+    }
 }
@@ -1,23 +1,42 @@
 package com.gearsync.backend.service;
 
 import com.gearsync.backend.dto.*;
+import com.gearsync.backend.event.AppointmentChangedEvent;
+import com.gearsync.backend.event.ProjectChangedEvent;
 import com.gearsync.backend.exception.DuplicateResourceException;
 import com.gearsync.backend.exception.ResourceNotFoundException;
 import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.mapper.AppointmentMapper;
+import com.gearsync.backend.mapper.ProjectMapper;
+import com.gearsync.backend.mapper.UserMapper;
+import com.gearsync.backend.mapper.VehicleMapper;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.AppointmentRepository;
 import com.gearsync.backend.repository.ProjectRepository;
 import com.gearsync.backend.repository.UserRepository;
 import com.gearsync.backend.repository.VehicleRepository;
+import com.gearsync.backend.repository.projection.AppointmentSummaryView;
+import com.gearsync.backend.repository.projection.CustomerCountView;
+import com.gearsync.backend.repository.projection.ProjectSummaryView;
+import com.gearsync.backend.security.AuthenticatedUser;
+import com.gearsync.backend.security.CurrentUser;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,7 +51,10 @@ public class AdminServices {
 //    private static final SecureRandom random = new SecureRandom();
 
 
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
+    private final AppointmentMapper appointmentMapper;
+    private final ProjectMapper projectMapper;
+    private final VehicleMapper vehicleMapper;
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final EmailService emailService;
@@ -40,6 +62,21 @@ public class AdminServices {
     private final AppointmentRepository appointmentRepository;
     private final ProjectRepository projectRepository;
     private final VehicleRepository vehicleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmployeeScheduleService employeeScheduleService;
+    private final TransactionTemplate transactionTemplate;
+
+    // Matches hibernate.default_batch_fetch_size so a page's services load in one query
+    private static final int APPOINTMENT_PAGE_SIZE = 50;
+
+    private static final Set<String> APPOINTMENT_SORT_KEYS =
+            Set.of("id", "scheduledDateTime", "createdAt", "status", "progressPercentage");
+    private static final Set<String> PROJECT_SORT_KEYS =
+            Set.of("id", "projectName", "createdAt", "status", "progressPercentage", "expectedCompletionDate");
+    private static final Set<String> VEHICLE_SORT_KEYS =
+            Set.of("id", "registrationNumber", "make", "model", "year", "createdAt");
+    private static final Set<String> USER_SORT_KEYS =
+            Set.of("id", "email", "firstName", "lastName", "createdAt");
 
 
     @Transactional
@@ -48,7 +85,7 @@ public class AdminServices {
             if (userRepository.existsByEmail(employeeRegisterDTO.getEmail())) {
                 throw new IllegalArgumentException("Email already registered");
             }
-            User user = modelMapper.map(employeeRegisterDTO, User.class);
+            User user = userMapper.toEntity(employeeRegisterDTO);
             String generatedPassword = passwordManagementService.generateTemporaryPassword();
             user.setPassword(passwordEncoder.encode(generatedPassword));
             user.setIsFirstLogin(true);
@@ -70,7 +107,7 @@ public class AdminServices {
             if (userRepository.existsByEmail(adminRegisterDTO.getEmail())) {
                 throw new IllegalArgumentException("Email already registered");
             }
-            User user = modelMapper.map(adminRegisterDTO, User.class);
+            User user = userMapper.toEntity(adminRegisterDTO);
             String generatedPassword = passwordManagementService.generateTemporaryPassword();
             user.setPassword(passwordEncoder.encode(generatedPassword));
             user.setIsFirstLogin(true);
@@ -92,8 +129,8 @@ public class AdminServices {
             Long appointmentId,
             AssignAppointmentDTO request) {
 
-        User admin = userRepository.findByEmail(adminEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
+        AuthenticatedUser admin = CurrentUser.resolve(userRepository, adminEmail,
+                () -> new ResourceNotFoundException("Admin not found"));
 
         if (admin.getRole() != Role.ADMIN) {
             throw new UnauthorizedException("Only admins can assign employees to appointments");
@@ -122,6 +159,11 @@ public class AdminServices {
             throw new IllegalArgumentException("Cannot assign inactive employee");
         }
 
+        if (!Boolean.TRUE.equals(request.getAllowOverlap())) {
+            employeeScheduleService.requireNoConflict(employee.getId(),
+                    employeeScheduleService.appointmentWindow(appointment));
+        }
+
         appointment.setAssignedEmployee(employee);
 
         if (appointment.getStatus() == AppointmentStatus.SCHEDULED) {
@@ -143,6 +185,7 @@ public class AdminServices {
             );
         }
         Appointment updated = appointmentRepository.save(appointment);
+        eventPublisher.publishEvent(new AppointmentChangedEvent(updated.getId()));
         String customerEmail = appointment.getCustomer().getEmail();
         String vehicleRegistrationNumber = appointment.getVehicle().getRegistrationNumber();
         String customerName = appointment.getCustomer().getFirstName() + " " + appointment.getCustomer().getLastName();
@@ -151,7 +194,7 @@ public class AdminServices {
         LocalDateTime scheduledDateTime = appointment.getScheduledDateTime();
         emailService.sendCustomerAppointmentConfirmation(customerEmail,vehicleRegistrationNumber,customerName,scheduledDateTime,finalCost);
         List<Services> services = new ArrayList<>(appointment.getAppointmentServices());
-        return convertAppointmentToResponseDTO(updated, services);
+        return appointmentMapper.toResponseDTO(updated, services);
     }
 
 
@@ -168,8 +211,8 @@ public class AdminServices {
     @Transactional
     public AppointmentResponseDTO unassignAppointmentEmployee(String adminEmail, Long appointmentId) {
 
-        User admin = userRepository.findByEmail(adminEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
+        AuthenticatedUser admin = CurrentUser.resolve(userRepository, adminEmail,
+                () -> new ResourceNotFoundException("Admin not found"));
 
         if (admin.getRole() != Role.ADMIN) {
             throw new UnauthorizedException("Only admins can unassign employees");
@@ -189,9 +232,10 @@ public class AdminServices {
         }
 
         Appointment updated = appointmentRepository.save(appointment);
+        eventPublisher.publishEvent(new AppointmentChangedEvent(updated.getId()));
 
         List<Services> services = new ArrayList<>(appointment.getAppointmentServices());
-        return convertAppointmentToResponseDTO(updated, services);
+        return appointmentMapper.toResponseDTO(updated, services);
     }
 
 
@@ -201,8 +245,8 @@ public class AdminServices {
             Long projectId,
             ApproveProjectDTO request) {
 
-        User admin = userRepository.findByEmail(adminEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
+        AuthenticatedUser admin = CurrentUser.resolve(userRepository, adminEmail,
+                () -> new ResourceNotFoundException("Admin not found"));
 
         if (admin.getRole() != Role.ADMIN) {
             throw new UnauthorizedException("Only admins can approve projects");
@@ -237,6 +281,11 @@ public class AdminServices {
             project.setExpectedCompletionDate(request.getExpectedCompletionDate());
         }
 
+        if (!Boolean.TRUE.equals(request.getAllowOverlap())) {
+            employeeScheduleService.requireNoConflict(employee.getId(),
+                    employeeScheduleService.projectWindow(project));
+        }
+
         if (request.getApprovalNotes() != null && !request.getApprovalNotes().isEmpty()) {
             String timestamp = LocalDateTime.now().toString();
             String approvalNote = String.format(
@@ -255,8 +304,9 @@ public class AdminServices {
         }
 
         Project updated = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(updated.getId()));
 
-        return convertProjectToResponseDTO(updated);
+        return projectMapper.toResponseDTO(updated);
     }
 
 
@@ -267,8 +317,8 @@ public class AdminServices {
             RejectProjectDTO request) {
 
 
-        User admin = userRepository.findByEmail(adminEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
+        AuthenticatedUser admin = CurrentUser.resolve(userRepository, adminEmail,
+                () -> new ResourceNotFoundException("Admin not found"));
 
         if (admin.getRole() != Role.ADMIN) {
             throw new UnauthorizedException("Only admins can reject projects");
@@ -303,7 +353,7 @@ public class AdminServices {
         BigDecimal estimatedCost = project.getEstimatedCost() != null ?
                 project.getEstimatedCost() : BigDecimal.ZERO;
         emailService.sendCustomerProjectConfirmation(customerEmail,customerName,projectName,estimatedCost,estimatedDuration);
-        return convertProjectToResponseDTO(updated);
+        return projectMapper.toResponseDTO(updated);
     }
 
 
@@ -314,8 +364,8 @@ public class AdminServices {
             AssignProjectDTO request) {
 
 
-        User admin = userRepository.findByEmail(adminEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
+        AuthenticatedUser admin = CurrentUser.resolve(userRepository, adminEmail,
+                () -> new ResourceNotFoundException("Admin not found"));
 
         if (admin.getRole() != Role.ADMIN) {
             throw new UnauthorizedException("Only admins can assign employees to projects");
@@ -348,6 +398,11 @@ public class AdminServices {
         project.setEstimatedCost(request.getEstimatedCost());
         project.setEstimatedDurationHours(request.getEstimatedDurationHours());
 
+        if (!Boolean.TRUE.equals(request.getAllowOverlap())) {
+            employeeScheduleService.requireNoConflict(employee.getId(),
+                    employeeScheduleService.projectWindow(project));
+        }
+
         if (request.getAdminNotes() != null && !request.getAdminNotes().isEmpty()) {
             String timestamp = LocalDateTime.now().toString();
             String note = String.format(
@@ -362,16 +417,17 @@ public class AdminServices {
         }
 
         Project updated = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(updated.getId()));
 
-        return convertProjectToResponseDTO(updated);
+        return projectMapper.toResponseDTO(updated);
     }
 
 
     @Transactional
     public ProjectResponseDTO unassignProjectEmployee(String adminEmail, Long projectId) {
 
-        User admin = userRepository.findByEmail(adminEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
+        AuthenticatedUser admin = CurrentUser.resolve(userRepository, adminEmail,
+                () -> new ResourceNotFoundException("Admin not found"));
 
         if (admin.getRole() != Role.ADMIN) {
             throw new UnauthorizedException("Only admins can unassign employees");
@@ -387,113 +443,15 @@ public class AdminServices {
         project.setAssignedEmployee(null);
 
         Project updated = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(updated.getId()));
 
-        return convertProjectToResponseDTO(updated);
-    }
-
-    private AppointmentResponseDTO convertAppointmentToResponseDTO(
-            Appointment appointment,
-            List<Services> services) {
-
-        AppointmentResponseDTO dto = new AppointmentResponseDTO();
-        dto.setId(appointment.getId());
-        dto.setScheduledDateTime(appointment.getScheduledDateTime());
-        dto.setStatus(appointment.getStatus().name());
-        dto.setCustomerNotes(appointment.getCustomerNotes());
-        dto.setEmployeeNotes(appointment.getEmployeeNotes());
-        dto.setFinalCost(appointment.getFinalCost());
-        dto.setProgressPercentage(appointment.getProgressPercentage());
-
-        User customer = appointment.getCustomer();
-        dto.setCustomerId(customer.getId());
-        dto.setCustomerName(customer.getFirstName() + " " + customer.getLastName());
-        dto.setCustomerEmail(customer.getEmail());
-        dto.setCustomerPhone(customer.getPhoneNumber());
-
-        Vehicle vehicle = appointment.getVehicle();
-        dto.setVehicleId(vehicle.getId());
-        dto.setVehicleRegistrationNumber(vehicle.getRegistrationNumber());
-        dto.setVehicleMake(vehicle.getMake());
-        dto.setVehicleModel(vehicle.getModel());
-        dto.setVehicleYear(String.valueOf(vehicle.getYear()));
-
-        List<ServiceSummaryDTO> serviceSummaries = services.stream()
-                .map(service -> {
-                    ServiceSummaryDTO summary = new ServiceSummaryDTO();
-                    summary.setId(service.getId());
-                    summary.setServiceName(service.getServiceName());
-                    summary.setCategory(service.getCategory().name());
-                    summary.setBasePrice(service.getBasePrice());
-                    summary.setEstimatedDurationMinutes(service.getEstimatedDurationMinutes());
-                    return summary;
-                })
-                .collect(Collectors.toList());
-        dto.setServices(serviceSummaries);
-
-        BigDecimal estimatedCost = services.stream()
-                .map(Services::getBasePrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        dto.setEstimatedCost(estimatedCost);
-
-        if (appointment.getAssignedEmployee() != null) {
-            User employee = appointment.getAssignedEmployee();
-            dto.setAssignedEmployeeId(employee.getId());
-            dto.setAssignedEmployeeName(employee.getFirstName() + " " + employee.getLastName());
-            dto.setAssignedEmployeeEmail(employee.getEmail());
-        }
-
-        dto.setActualStartTime(appointment.getActualStartTime());
-        dto.setActualEndTime(appointment.getActualEndTime());
-        dto.setCreatedAt(appointment.getCreatedAt());
-        dto.setUpdatedAt(appointment.getUpdatedAt());
-
-        return dto;
-    }
-
-    private ProjectResponseDTO convertProjectToResponseDTO(Project project) {
-        ProjectResponseDTO dto = new ProjectResponseDTO();
-        dto.setId(project.getId());
-        dto.setProjectName(project.getProjectName());
-        dto.setDescription(project.getDescription());
-        dto.setStatus(project.getStatus().name());
-        dto.setEstimatedCost(project.getEstimatedCost());
-        dto.setActualCost(project.getActualCost());
-        dto.setEstimatedDurationHours(project.getEstimatedDurationHours());
-        dto.setStartDate(project.getStartDate());
-        dto.setCompletionDate(project.getCompletionDate());
-        dto.setExpectedCompletionDate(project.getExpectedCompletionDate());
-        dto.setProgressPercentage(project.getProgressPercentage());
-
-        User customer = project.getCustomer();
-        dto.setCustomerId(customer.getId());
-        dto.setCustomerName(customer.getFirstName() + " " + customer.getLastName());
-        dto.setCustomerEmail(customer.getEmail());
-        dto.setCustomerPhone(customer.getPhoneNumber());
-
-        Vehicle vehicle = project.getVehicle();
-        dto.setVehicleId(vehicle.getId());
-        dto.setVehicleRegistrationNumber(vehicle.getRegistrationNumber());
-        dto.setVehicleMake(vehicle.getMake());
-        dto.setVehicleModel(vehicle.getModel());
-        dto.setVehicleYear(String.valueOf(vehicle.getYear()));
-
-        if (project.getAssignedEmployee() != null) {
-            User employee = project.getAssignedEmployee();
-            dto.setAssignedEmployeeId(employee.getId());
-            dto.setAssignedEmployeeName(employee.getFirstName() + " " + employee.getLastName());
-            dto.setAssignedEmployeeEmail(employee.getEmail());
-        }
-
-        dto.setCreatedAt(project.getCreatedAt());
-        dto.setUpdatedAt(project.getUpdatedAt());
-
-        return dto;
+        return projectMapper.toResponseDTO(updated);
     }
 
     @Transactional
     public List<AppointmentSummaryDTO> getAllAppointments(String adminEmail) {
         validateAdmin(adminEmail);
-        List<Appointment> appointments = appointmentRepository.findAll();
+        List<AppointmentSummaryView> appointments = appointmentRepository.findAllSummaries();
         return appointments.stream()
                 .map(this::convertToAppointmentSummary)
                 .collect(Collectors.toList());
@@ -508,7 +466,7 @@ public class AdminServices {
 
         try {
             AppointmentStatus appointmentStatus = AppointmentStatus.valueOf(status.toUpperCase());
-            List<Appointment> appointments = appointmentRepository.findByStatus(appointmentStatus);
+            List<AppointmentSummaryView> appointments = appointmentRepository.findSummariesByStatus(appointmentStatus);
 
             return appointments.stream()
                     .map(this::convertToAppointmentSummary)
@@ -523,7 +481,7 @@ public class AdminServices {
     public List<ProjectSummaryDTO> getAllProjects(String adminEmail) {
 
         validateAdmin(adminEmail);
-        List<Project> projects = projectRepository.findAllWithTimeLogs();
+        List<ProjectSummaryView> projects = projectRepository.findAllSummaries();
 
         return projects.stream()
                 .map(this::convertToProjectSummary)
@@ -540,7 +498,7 @@ public class AdminServices {
 
         try {
             ProjectStatus projectStatus = ProjectStatus.valueOf(status.toUpperCase());
-            List<Project> projects = projectRepository.findByStatusWithTimeLogs(projectStatus);
+            List<ProjectSummaryView> projects = projectRepository.findSummariesByStatus(projectStatus);
 
             return projects.stream()
                     .map(this::convertToProjectSummary)
@@ -554,10 +512,10 @@ public class AdminServices {
     @Transactional
     public List<AppointmentSummaryDTO> getPendingAppointments(String adminEmail) {
         validateAdmin(adminEmail);
-        List<Appointment> appointments = appointmentRepository.findByStatus(AppointmentStatus.SCHEDULED);
+        List<AppointmentSummaryView> appointments =
+                appointmentRepository.findUnassignedSummariesByStatus(AppointmentStatus.SCHEDULED);
 
         return appointments.stream()
-                .filter(a -> a.getAssignedEmployee() == null)
                 .map(this::convertToAppointmentSummary)
                 .collect(Collectors.toList());
     }
@@ -567,7 +525,7 @@ public class AdminServices {
 
         validateAdmin(adminEmail);
 
-        List<Project> projects = projectRepository.findByStatus(ProjectStatus.PENDING);
+        List<ProjectSummaryView> projects = projectRepository.findSummariesByStatus(ProjectStatus.PENDING);
 
         return projects.stream()
                 .map(this::convertToProjectSummary)
@@ -686,137 +644,120 @@ public class AdminServices {
     }
 
     private void validateAdmin(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        AuthenticatedUser user = CurrentUser.resolve(userRepository, email,
+                () -> new ResourceNotFoundException("User not found"));
 
         if (user.getRole() != Role.ADMIN) {
             throw new UnauthorizedException("Only admins can access this resource");
         }
     }
 
-    private AppointmentSummaryDTO convertToAppointmentSummary(Appointment appointment) {
+    private AppointmentSummaryDTO convertToAppointmentSummary(AppointmentSummaryView row) {
         AppointmentSummaryDTO dto = new AppointmentSummaryDTO();
-        dto.setId(appointment.getId());
-        dto.setScheduledDateTime(appointment.getScheduledDateTime());
-        dto.setStatus(appointment.getStatus().name());
-        dto.setCustomerName(appointment.getCustomer().getFirstName() + " " + appointment.getCustomer().getLastName());
-        dto.setCustomerEmail(appointment.getCustomer().getEmail());
-        dto.setVehicleRegistrationNumber(appointment.getVehicle().getRegistrationNumber());
-        dto.setVehicleMake(appointment.getVehicle().getMake());
-        dto.setVehicleModel(appointment.getVehicle().getModel());
-
-        if (appointment.getAssignedEmployee() != null) {
-            dto.setAssignedEmployeeName(
-                    appointment.getAssignedEmployee().getFirstName() + " " +
-                            appointment.getAssignedEmployee().getLastName()
-            );
+        dto.setId(row.getId());
+        dto.setScheduledDateTime(row.getScheduledDateTime());
+        dto.setStatus(row.getStatus().name());
+        dto.setCustomerName(row.getCustomerFirstName() + " " + row.getCustomerLastName());
+        dto.setCustomerEmail(row.getCustomerEmail());
+        dto.setVehicleRegistrationNumber(row.getVehicleRegistrationNumber());
+        dto.setVehicleMake(row.getVehicleMake());
+        dto.setVehicleModel(row.getVehicleModel());
+
+        if (row.getEmployeeFirstName() != null) {
+            dto.setAssignedEmployeeName(row.getEmployeeFirstName() + " " + row.getEmployeeLastName());
         } else {
             dto.setAssignedEmployeeName("Unassigned");
         }
 
-        dto.setProgressPercentage(appointment.getProgressPercentage());
-        dto.setCreatedAt(appointment.getCreatedAt());
-        
-        // Calculate time log statistics
-        if (appointment.getTimeLogs() != null && !appointment.getTimeLogs().isEmpty()) {
-            dto.setTimeLogsCount(appointment.getTimeLogs().size());
-            int totalMinutes = appointment.getTimeLogs().stream()
-                    .mapToInt(timeLog -> {
-                        long minutes = java.time.Duration.between(
-                                timeLog.getStartTime(),
-                                timeLog.getEndTime()
-                        ).toMinutes();
-                        return (int) minutes;
-                    })
-                    .sum();
-            dto.setTotalTimeLoggedMinutes(totalMinutes);
-        } else {
-            dto.setTimeLogsCount(0);
-            dto.setTotalTimeLoggedMinutes(0);
-        }
+        dto.setProgressPercentage(row.getProgressPercentage());
+        dto.setCreatedAt(row.getCreatedAt());
+
+        // Time log statistics come pre-aggregated from the summary query
+        dto.setTimeLogsCount(row.getTimeLogsCount() != null ? row.getTimeLogsCount().intValue() : 0);
+        dto.setTotalTimeLoggedMinutes(
+                row.getTotalTimeLoggedMinutes() != null ? row.getTotalTimeLoggedMinutes().intValue() : 0);
 
         return dto;
     }
 
-    private ProjectSummaryDTO convertToProjectSummary(Project project) {
+    private ProjectSummaryDTO convertToProjectSummary(ProjectSummaryView row) {
         ProjectSummaryDTO dto = new ProjectSummaryDTO();
-        dto.setId(project.getId());
-        dto.setProjectName(project.getProjectName());
-        dto.setDescription(project.getDescription());
-        dto.setStatus(project.getStatus().name());
-        
+        dto.setId(row.getId());
+        dto.setProjectName(row.getProjectName());
+        dto.setDescription(row.getDescription());
+        dto.setStatus(row.getStatus().name());
+
         // Customer info
-        dto.setCustomerId(project.getCustomer().getId());
-        dto.setCustomerName(project.getCustomer().getFirstName() + " " + project.getCustomer().getLastName());
-        dto.setCustomerEmail(project.getCustomer().getEmail());
-        dto.setCustomerPhone(project.getCustomer().getPhoneNumber());
-        
+        dto.setCustomerId(row.getCustomerId());
+        dto.setCustomerName(row.getCustomerFirstName() + " " + row.getCustomerLastName());
+        dto.setCustomerEmail(row.getCustomerEmail());
+        dto.setCustomerPhone(row.getCustomerPhone());
+
         // Vehicle info
-        dto.setVehicleId(project.getVehicle().getId());
-        dto.setVehicleRegistrationNumber(project.getVehicle().getRegistrationNumber());
-        dto.setVehicleMake(project.getVehicle().getMake());
-        dto.setVehicleModel(project.getVehicle().getModel());
-        dto.setVehicleYear(project.getVehicle().getYear() != null ? String.valueOf(project.getVehicle().getYear()) : null);
+        dto.setVehicleId(row.getVehicleId());
+        dto.setVehicleRegistrationNumber(row.getVehicleRegistrationNumber());
+        dto.setVehicleMake(row.getVehicleMake());
+        dto.setVehicleModel(row.getVehicleModel());
+        dto.setVehicleYear(row.getVehicleYear() != null ? String.valueOf(row.getVehicleYear()) : null);
 
         // Employee assignment
-        if (project.getAssignedEmployee() != null) {
-            dto.setAssignedEmployeeId(project.getAssignedEmployee().getId());
-            dto.setAssignedEmployeeName(
-                    project.getAssignedEmployee().getFirstName() + " " +
-                            project.getAssignedEmployee().getLastName()
-            );
-            dto.setAssignedEmployeeEmail(project.getAssignedEmployee().getEmail());
+        if (row.getEmployeeId() != null) {
+            dto.setAssignedEmployeeId(row.getEmployeeId());
+            dto.setAssignedEmployeeName(row.getEmployeeFirstName() + " " + row.getEmployeeLastName());
+            dto.setAssignedEmployeeEmail(row.getEmployeeEmail());
         } else {
             dto.setAssignedEmployeeName("Unassigned");
         }
 
         // Cost and duration
-        dto.setEstimatedCost(project.getEstimatedCost());
-        dto.setActualCost(project.getActualCost());
-        dto.setEstimatedDurationHours(project.getEstimatedDurationHours());
-        dto.setProgressPercentage(project.getProgressPercentage());
-        
+        dto.setEstimatedCost(row.getEstimatedCost());
+        dto.setActualCost(row.getActualCost());
+        dto.setEstimatedDurationHours(row.getEstimatedDurationHours());
+        dto.setProgressPercentage(row.getProgressPercentage());
+
         // Dates
-        dto.setStartDate(project.getStartDate());
-        dto.setCompletionDate(project.getCompletionDate());
-        dto.setExpectedCompletionDate(project.getExpectedCompletionDate());
-        dto.setCreatedAt(project.getCreatedAt());
-        dto.setUpdatedAt(project.getUpdatedAt());
-        
-        // Calculate time log statistics
-        if (project.getTimeLogs() != null && !project.getTimeLogs().isEmpty()) {
-            dto.setTimeLogsCount(project.getTimeLogs().size());
-            double totalHours = project.getTimeLogs().stream()
-                    .mapToDouble(timeLog -> {
-                        long minutes = java.time.Duration.between(
-                                timeLog.getStartTime(),
-                                timeLog.getEndTime()
-                        ).toMinutes();
-                        return minutes / 60.0;
-                    })
-                    .sum();
-            dto.setTotalTimeLoggedHours(totalHours);
-        } else {
-            dto.setTimeLogsCount(0);
-            dto.setTotalTimeLoggedHours(0.0);
-        }
+        dto.setStartDate(row.getStartDate());
+        dto.setCompletionDate(row.getCompletionDate());
+        dto.setExpectedCompletionDate(row.getExpectedCompletionDate());
+        dto.setCreatedAt(row.getCreatedAt());
+        dto.setUpdatedAt(row.getUpdatedAt());
+
+        // Time log statistics come pre-aggregated from the summary query
+        long totalMinutes = row.getTotalTimeLoggedMinutes() != null ? row.getTotalTimeLoggedMinutes() : 0L;
+        dto.setTimeLogsCount(row.getTimeLogsCount() != null ? row.getTimeLogsCount().intValue() : 0);
+        dto.setTotalTimeLoggedHours(totalMinutes / 60.0);
 
         return dto;
     }
 
-    @Transactional
-    public List<AppointmentResponseDTO> getAllAppointments() {
-        List<Appointment> all = appointmentRepository.findAllWithDetails();
-
-        return all.stream()
-                .map(a -> {
-                    List<Services> services = new ArrayList<>();
-                    Set<Services> svcSet = a.getAppointmentServices();
-                    if (svcSet != null && !svcSet.isEmpty()) {
-                        services = new ArrayList<>(svcSet);
-                    }
-                    return convertAppointmentToResponseDTO(a, services);
-                })
+    /**
+     * Hands every appointment to the consumer a page at a time, newest id first. Each page runs in its own
+     * transaction and is released once the consumer returns, so memory is bounded by the page size no matter
+     * how many appointments exist.
+     */
+    public void getAllAppointments(Consumer<List<AppointmentResponseDTO>> pageConsumer) {
+        long beforeId = Long.MAX_VALUE;
+        while (true) {
+            List<Long> ids = appointmentRepository.findIdPageBefore(beforeId, PageRequest.ofSize(APPOINTMENT_PAGE_SIZE));
+            if (ids.isEmpty()) {
+                return;
+            }
+            pageConsumer.accept(transactionTemplate.execute(status -> loadAppointmentPage(ids)));
+            if (ids.size() < APPOINTMENT_PAGE_SIZE) {
+                return;
+            }
+            beforeId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private List<AppointmentResponseDTO> loadAppointmentPage(List<Long> ids) {
+        Map<Long, Appointment> byId = appointmentRepository.findWithDetailsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Appointment::getId, Function.identity()));
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(a -> appointmentMapper.toResponseDTO(a, new ArrayList<>(a.getAppointmentServices())))
                 .collect(Collectors.toList());
     }
 
@@ -828,7 +769,7 @@ public class AdminServices {
         List<Vehicle> vehicles = vehicleRepository.findAll();
 
         return vehicles.stream()
-                .map(this::convertToVehicleSummary)
+                .map(vehicleMapper::toSummaryDTO)
                 .collect(Collectors.toList());
     }
 
@@ -839,9 +780,12 @@ public class AdminServices {
 
         List<User> customers = userRepository.findByRole(Role.CUSTOMER);
 
-        return customers.stream()
-                .map(this::convertToCustomerWithVehicles)
-                .collect(Collectors.toList());
+        return convertToCustomersWithVehicles(
+                customers,
+                vehicleRepository.findByOwner_Role(Role.CUSTOMER),
+                appointmentRepository.countPerCustomerByRole(Role.CUSTOMER),
+                projectRepository.countPerCustomerByRole(Role.CUSTOMER)
+        );
     }
 
     @Transactional
@@ -856,62 +800,232 @@ public class AdminServices {
             throw new IllegalArgumentException("User is not a customer");
         }
 
-        return convertToCustomerWithVehicles(customer);
+        return convertToCustomersWithVehicles(List.of(customer)).get(0);
     }
 
-    private VehicleSummaryDTO convertToVehicleSummary(Vehicle vehicle) {
-        VehicleSummaryDTO dto = new VehicleSummaryDTO();
-        dto.setId(vehicle.getId());
-        dto.setRegistrationNumber(vehicle.getRegistrationNumber());
-        dto.setMake(vehicle.getMake());
-        dto.setModel(vehicle.getModel());
-        dto.setYear(vehicle.getYear());
-        dto.setColor(vehicle.getColor());
-        dto.setVinNumber(vehicle.getVinNumber());
-        dto.setMileage(vehicle.getMileage());
+    @Transactional
+    public PageResponseDTO<AppointmentSummaryDTO> getAppointmentsPage(String adminEmail, PageQueryDTO query) {
+
+        validateAdmin(adminEmail);
 
-        User owner = vehicle.getOwner();
-        dto.setOwnerName(owner.getFirstName() + " " + owner.getLastName());
-        dto.setOwnerEmail(owner.getEmail());
-        dto.setOwnerPhone(owner.getPhoneNumber());
-        dto.setCreatedAt(vehicle.getCreatedAt());
+        AppointmentStatus status = parseAppointmentStatus(query.getStatus());
+        Pageable pageable = toPageable(query, APPOINTMENT_SORT_KEYS, "scheduledDateTime");
 
-        return dto;
+        Slice<AppointmentSummaryDTO> slice = appointmentRepository
+                .findSummarySlice(status, query.getFrom(), query.getTo(), query.getEmployeeId(), pageable)
+                .map(this::convertToAppointmentSummary);
+
+        Long total = query.isIncludeTotal()
+                ? appointmentRepository.countSummaries(status, query.getFrom(), query.getTo(), query.getEmployeeId())
+                : null;
+
+        return toPageResponse(slice, total);
     }
 
-    private CustomerWithVehiclesDTO convertToCustomerWithVehicles(User customer) {
-        CustomerWithVehiclesDTO dto = new CustomerWithVehiclesDTO();
-        dto.setId(customer.getId());
-        dto.setEmail(customer.getEmail());
-        dto.setFirstName(customer.getFirstName());
-        dto.setLastName(customer.getLastName());
-        dto.setPhoneNumber(customer.getPhoneNumber());
-        dto.setIsActive(customer.getIsActive());
-        dto.setCreatedAt(customer.getCreatedAt());
-
-        List<Vehicle> vehicles = vehicleRepository.findByOwnerId(customer.getId());
-        List<VehicleInfoDTO> vehicleInfos = vehicles.stream()
-                .map(vehicle -> {
-                    VehicleInfoDTO vDto = new VehicleInfoDTO();
-                    vDto.setId(vehicle.getId());
-                    vDto.setRegistrationNumber(vehicle.getRegistrationNumber());
-                    vDto.setMake(vehicle.getMake());
-                    vDto.setModel(vehicle.getModel());
-                    vDto.setYear(vehicle.getYear());
-                    vDto.setColor(vehicle.getColor());
-                    return vDto;
-                })
-                .collect(Collectors.toList());
+    @Transactional
+    public PageResponseDTO<ProjectSummaryDTO> getProjectsPage(String adminEmail, PageQueryDTO query) {
+
+        validateAdmin(adminEmail);
+
+        ProjectStatus status = parseProjectStatus(query.getStatus());
+        Pageable pageable = toPageable(query, PROJECT_SORT_KEYS, "createdAt");
+
+        Slice<ProjectSummaryDTO> slice = projectRepository
+                .findSummarySlice(status, query.getFrom(), query.getTo(), query.getEmployeeId(), pageable)
+                .map(this::convertToProjectSummary);
+
+        Long total = query.isIncludeTotal()
+                ? projectRepository.countSummaries(status, query.getFrom(), query.getTo(), query.getEmployeeId())
+                : null;
 
-        dto.setVehicles(vehicleInfos);
-        dto.setTotalVehicles(vehicles.size());
+        return toPageResponse(slice, total);
+    }
+
+    @Transactional
+    public PageResponseDTO<VehicleSummaryDTO> getVehiclesPage(String adminEmail, PageQueryDTO query) {
+
+        validateAdmin(adminEmail);
+
+        Pageable pageable = toPageable(query, VEHICLE_SORT_KEYS, "createdAt");
 
-        List<Appointment> appointments = appointmentRepository.findByCustomerId(customer.getId());
-        List<Project> projects = projectRepository.findByCustomerId(customer.getId());
+        Slice<VehicleSummaryDTO> slice = vehicleRepository
+                .findSliceWithOwner(query.getFrom(), query.getTo(), pageable)
+                .map(vehicleMapper::toSummaryDTO);
 
-        dto.setTotalAppointments(appointments.size());
-        dto.setTotalProjects(projects.size());
+        Long total = query.isIncludeTotal()
+                ? vehicleRepository.countCreatedBetween(query.getFrom(), query.getTo())
+                : null;
+
+        return toPageResponse(slice, total);
+    }
 
+    @Transactional
+    public PageResponseDTO<CustomerWithVehiclesDTO> getCustomersPage(String adminEmail, PageQueryDTO query) {
+
+        validateAdmin(adminEmail);
+
+        List<Role> roles = List.of(Role.CUSTOMER);
+        Pageable pageable = toPageable(query, USER_SORT_KEYS, "createdAt");
+
+        Slice<User> customers = userRepository.findByRoleIn(roles, pageable);
+        Slice<CustomerWithVehiclesDTO> slice = new SliceImpl<>(
+                convertToCustomersWithVehicles(customers.getContent()),
+                customers.getPageable(),
+                customers.hasNext()
+        );
+
+        Long total = query.isIncludeTotal() ? userRepository.countByRoleIn(roles) : null;
+
+        return toPageResponse(slice, total);
+    }
+
+    @Transactional
+    public PageResponseDTO<UserDto> getStaffPage(String adminEmail, PageQueryDTO query) {
+
+        validateAdmin(adminEmail);
+
+        List<Role> roles = List.of(Role.EMPLOYEE);
+        Pageable pageable = toPageable(query, USER_SORT_KEYS, "createdAt");
+
+        Slice<UserDto> slice = userRepository.findByRoleIn(roles, pageable)
+                .map(this::convertToStaffDto);
+
+        Long total = query.isIncludeTotal() ? userRepository.countByRoleIn(roles) : null;
+
+        return toPageResponse(slice, total);
+    }
+
+    private Pageable toPageable(PageQueryDTO query, Set<String> allowedSortKeys, String defaultSortKey) {
+        if (query.getPage() < 0) {
+            throw new IllegalArgumentException("Page cannot be negative");
+        }
+        if (query.getSize() < 1 || query.getSize() > 200) {
+            throw new IllegalArgumentException("Page size must be between 1 and 200");
+        }
+
+        String sortKey = query.getSort() == null || query.getSort().isBlank() ? defaultSortKey : query.getSort();
+        if (!allowedSortKeys.contains(sortKey)) {
+            throw new IllegalArgumentException("Invalid sort key: " + sortKey + ". Valid keys: " + allowedSortKeys);
+        }
+
+        Sort.Direction direction = Sort.Direction.fromOptionalString(query.getDirection())
+                .orElseThrow(() -> new IllegalArgumentException("Invalid sort direction: " + query.getDirection()));
+
+        // Tie-break on id so rows never shift between pages
+        Sort sort = Sort.by(direction, sortKey);
+        if (!sortKey.equals("id")) {
+            sort = sort.and(Sort.by(direction, "id"));
+        }
+
+        return PageRequest.of(query.getPage(), query.getSize(), sort);
+    }
+
+    private <T> PageResponseDTO<T> toPageResponse(Slice<T> slice, Long total) {
+        PageResponseDTO<T> response = new PageResponseDTO<>();
+        response.setContent(slice.getContent());
+        response.setPage(slice.getNumber());
+        response.setSize(slice.getSize());
+        response.setHasNext(slice.hasNext());
+
+        if (total != null) {
+            response.setTotalElements(total);
+            response.setTotalPages((int) ((total + slice.getSize() - 1) / slice.getSize()));
+        }
+
+        return response;
+    }
+
+    private AppointmentStatus parseAppointmentStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return AppointmentStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + status +
+                    ". Valid statuses: " + Arrays.toString(AppointmentStatus.values()));
+        }
+    }
+
+    private ProjectStatus parseProjectStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return ProjectStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + status +
+                    ". Valid statuses: " + Arrays.toString(ProjectStatus.values()));
+        }
+    }
+
+    private UserDto convertToStaffDto(User user) {
+        UserDto dto = new UserDto();
+        dto.setId(user.getId());
+        dto.setName(user.getFirstName() + " " + user.getLastName());
+        dto.setEmail(user.getEmail());
+        dto.setFirstName(user.getFirstName());
+        dto.setLastName(user.getLastName());
+        dto.setPhoneNumber(user.getPhoneNumber());
+        dto.setRole(user.getRole().name());
+        dto.setIsActive(user.getIsActive());
+        dto.setCreatedAt(user.getCreatedAt());
         return dto;
     }
+
+    private List<CustomerWithVehiclesDTO> convertToCustomersWithVehicles(List<User> customers) {
+        if (customers.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> customerIds = customers.stream().map(User::getId).collect(Collectors.toList());
+
+        return convertToCustomersWithVehicles(
+                customers,
+                vehicleRepository.findByOwnerIdIn(customerIds),
+                appointmentRepository.countPerCustomerIn(customerIds),
+                projectRepository.countPerCustomerIn(customerIds)
+        );
+    }
+
+    private List<CustomerWithVehiclesDTO> convertToCustomersWithVehicles(
+            List<User> customers,
+            List<Vehicle> vehicles,
+            List<CustomerCountView> appointmentCounts,
+            List<CustomerCountView> projectCounts) {
+
+        // owner.getId() reads the proxy identifier without initializing the owner
+        Map<Long, List<VehicleInfoDTO>> vehiclesByOwner = vehicles.stream()
+                .collect(Collectors.groupingBy(
+                        vehicle -> vehicle.getOwner().getId(),
+                        Collectors.mapping(vehicleMapper::toInfoDTO, Collectors.toList())
+                ));
+
+        Map<Long, Long> appointmentsByCustomer = appointmentCounts.stream()
+                .collect(Collectors.toMap(CustomerCountView::getCustomerId, CustomerCountView::getTotal));
+        Map<Long, Long> projectsByCustomer = projectCounts.stream()
+                .collect(Collectors.toMap(CustomerCountView::getCustomerId, CustomerCountView::getTotal));
+
+        return customers.stream()
+                .map(customer -> {
+                    CustomerWithVehiclesDTO dto = new CustomerWithVehiclesDTO();
+                    dto.setId(customer.getId());
+                    dto.setEmail(customer.getEmail());
+                    dto.setFirstName(customer.getFirstName());
+                    dto.setLastName(customer.getLastName());
+                    dto.setPhoneNumber(customer.getPhoneNumber());
+                    dto.setIsActive(customer.getIsActive());
+                    dto.setCreatedAt(customer.getCreatedAt());
+
+                    List<VehicleInfoDTO> vehicleInfos =
+                            vehiclesByOwner.getOrDefault(customer.getId(), new ArrayList<>());
+                    dto.setVehicles(vehicleInfos);
+                    dto.setTotalVehicles(vehicleInfos.size());
+
+                    dto.setTotalAppointments(appointmentsByCustomer.getOrDefault(customer.getId(), 0L).intValue());
+                    dto.setTotalProjects(projectsByCustomer.getOrDefault(customer.getId(), 0L).intValue());
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
 }
@@ -1,14 +1,18 @@
 package com.gearsync.backend.service;
 
 import com.gearsync.backend.dto.*;
+import com.gearsync.backend.event.AppointmentChangedEvent;
 import com.gearsync.backend.exception.*;
+import com.gearsync.backend.mapper.AppointmentMapper;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.AppointmentRepository;
 import com.gearsync.backend.repository.ServiceRepository;
 import com.gearsync.backend.repository.UserRepository;
 import com.gearsync.backend.repository.VehicleRepository;
+import com.gearsync.backend.security.AuthenticatedUser;
+import com.gearsync.backend.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,15 +32,18 @@ public class AppointmentService {
     private final UserRepository userRepository;
     private final VehicleRepository vehicleRepository;
     private final ServiceRepository serviceRepository;
-    private final ModelMapper modelMapper;
+    private final AppointmentMapper appointmentMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlotReservationService slotReservationService;
+    private final SlotHoldService slotHoldService;
 
     private static final Set<String> ALLOWED_CUSTOMER_STATUSES = new HashSet<>( List.of("SCHEDULED", "CONFIRMED", "RESCHEDULED") );
 
     @Transactional
     public AppointmentResponseDTO bookAppointment(String customerEmail, AppointmentRequestDTO request) {
 
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new UserNotFoundException("Customer not found"));
+        AuthenticatedUser customer = CurrentUser.resolve(userRepository, customerEmail,
+                () -> new UserNotFoundException("Customer not found"));
 
         Vehicle vehicle = vehicleRepository.findById(request.getVehicleId())
                 .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found with ID: " + request.getVehicleId()));
@@ -50,7 +57,7 @@ public class AppointmentService {
         }
 
         if (appointmentRepository.existsByCustomerAndScheduledDateTime(
-                customer, request.getScheduledDateTime())) {
+                CurrentUser.entity(userRepository, customer), request.getScheduledDateTime())) {
             throw new DuplicateResourceException(
                     "You already have an appointment scheduled at " + request.getScheduledDateTime()
             );
@@ -80,9 +87,15 @@ public class AppointmentService {
                 .mapToInt(Services::getEstimatedDurationMinutes)
                 .sum();
 
+        // The customer's own hold must not count against the booking it was taken for
+        slotHoldService.consumeHold(customer.getId(), request.getHoldId(), request.getScheduledDateTime());
+
+        // Held until commit, so concurrent bookings of overlapping slots queue here instead of overbooking
+        slotReservationService.reserve(request.getScheduledDateTime(), totalDuration, null);
+
 
         Appointment appointment = new Appointment();
-        appointment.setCustomer(customer);
+        appointment.setCustomer(CurrentUser.entity(userRepository, customer));
         appointment.setVehicle(vehicle);
         appointment.setScheduledDateTime(request.getScheduledDateTime());
         appointment.setStatus(AppointmentStatus.SCHEDULED);
@@ -93,101 +106,27 @@ public class AppointmentService {
         appointment.setAppointmentServices(new HashSet<>(services));
 
         Appointment savedAppointment = appointmentRepository.save(appointment);
+        eventPublisher.publishEvent(new AppointmentChangedEvent(savedAppointment.getId()));
 
-        return convertToResponseDTO(savedAppointment, services);
-    }
-
-    private AppointmentResponseDTO convertToResponseDTO(
-            Appointment appointment,
-            List<Services> services) {
-
-        AppointmentResponseDTO dto = new AppointmentResponseDTO();
-        dto.setId(appointment.getId());
-        dto.setScheduledDateTime(appointment.getScheduledDateTime());
-        dto.setStatus(appointment.getStatus().name());
-        dto.setCustomerNotes(appointment.getCustomerNotes());
-        dto.setEmployeeNotes(appointment.getEmployeeNotes());
-        dto.setFinalCost(appointment.getFinalCost());
-        dto.setProgressPercentage(appointment.getProgressPercentage());
-
-        User customer = appointment.getCustomer();
-        dto.setCustomerId(customer.getId());
-        dto.setCustomerName(customer.getFirstName() + " " + customer.getLastName());
-        dto.setCustomerEmail(customer.getEmail());
-        dto.setCustomerPhone(customer.getPhoneNumber());
-
-        Vehicle vehicle = appointment.getVehicle();
-        dto.setVehicleId(vehicle.getId());
-        dto.setVehicleRegistrationNumber(vehicle.getRegistrationNumber());
-        dto.setVehicleMake(vehicle.getMake());
-        dto.setVehicleModel(vehicle.getModel());
-        dto.setVehicleYear(String.valueOf(vehicle.getYear()));
-
-        List<ServiceSummaryDTO> serviceSummaries = services.stream()
-                .map(service -> {
-                    ServiceSummaryDTO summary = new ServiceSummaryDTO();
-                    summary.setId(service.getId());
-                    summary.setServiceName(service.getServiceName());
-                    summary.setCategory(service.getCategory().name());
-                    summary.setBasePrice(service.getBasePrice());
-                    summary.setEstimatedDurationMinutes(service.getEstimatedDurationMinutes());
-                    return summary;
-                })
-                .collect(Collectors.toList());
-        dto.setServices(serviceSummaries);
-
-        BigDecimal estimatedCost = services.stream()
-                .map(Services::getBasePrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        dto.setEstimatedCost(estimatedCost);
-
-        if (appointment.getAssignedEmployee() != null) {
-            User employee = appointment.getAssignedEmployee();
-            dto.setAssignedEmployeeId(employee.getId());
-            dto.setAssignedEmployeeName(employee.getFirstName() + " " + employee.getLastName());
-            dto.setAssignedEmployeeEmail(employee.getEmail());
-        }
-
-        dto.setActualStartTime(appointment.getActualStartTime());
-        dto.setActualEndTime(appointment.getActualEndTime());
-        dto.setCreatedAt(appointment.getCreatedAt());
-        dto.setUpdatedAt(appointment.getUpdatedAt());
-
-        return dto;
+        return appointmentMapper.toResponseDTO(savedAppointment, services);
     }
 
     @Transactional
     public List<MyAppointmentDTO> getMyAppointments(String customerEmail) {
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+        AuthenticatedUser customer = CurrentUser.resolve(userRepository, customerEmail,
+                () -> new ResourceNotFoundException("Customer not found"));
 
         List<Appointment> appointments = appointmentRepository.findAllByCustomerId(customer.getId());
 
-        return appointments.stream().map(appointment -> {
-            MyAppointmentDTO dto = new MyAppointmentDTO();
-            dto.setId(appointment.getId());
-            dto.setScheduledDateTime(appointment.getScheduledDateTime());
-            dto.setStatus(appointment.getStatus().name());
-            dto.setCustomerNotes(appointment.getCustomerNotes());
-            dto.setFinalCost(appointment.getFinalCost());
-            dto.setServices(
-                    appointment.getAppointmentServices().stream().map(service -> {
-                        ServiceSummaryDTO sDto = new ServiceSummaryDTO();
-                        sDto.setId(service.getId());
-                        sDto.setServiceName(service.getServiceName());
-                        sDto.setBasePrice(service.getBasePrice());
-                        return sDto;
-                    }).collect(Collectors.toSet())
-            );
-
-            return dto;
-        }).collect(Collectors.toList());
+        return appointments.stream()
+                .map(appointmentMapper::toMyAppointmentDTO)
+                .collect(Collectors.toList());
     }
 
     @Transactional
     public MyAppointmentDTO getAppointmentById(String customerEmail, Long appointmentId) {
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+        AuthenticatedUser customer = CurrentUser.resolve(userRepository, customerEmail,
+                () -> new ResourceNotFoundException("Customer not found"));
 
         Appointment appointment = appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found"));
@@ -196,8 +135,7 @@ public class AppointmentService {
             throw new UnauthorizedException("You can only view your own appointments");
         }
 
-        MyAppointmentDTO response = modelMapper.map(appointment, MyAppointmentDTO.class);
-        return response;
+        return appointmentMapper.toMyAppointmentDTO(appointment);
     }
 
     @Transactional
@@ -206,8 +144,8 @@ public class AppointmentService {
             Long appointmentId,
             UpdateAppointmentRequestDTO request) {
 
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+        AuthenticatedUser customer = CurrentUser.resolve(userRepository, customerEmail,
+                () -> new ResourceNotFoundException("Customer not found"));
 
         Appointment appointment = appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found with ID: " + appointmentId));
@@ -229,6 +167,8 @@ public class AppointmentService {
         }
 
         boolean isUpdated = false;
+        // Set when the booked time or its length changes and capacity has to be checked again
+        boolean rescheduled = false;
 
         if (request.getVehicleId() != null && !request.getVehicleId().equals(appointment.getVehicle().getId())) {
             Vehicle newVehicle = vehicleRepository.findById(request.getVehicleId())
@@ -257,6 +197,7 @@ public class AppointmentService {
             appointment.getAppointmentServices().clear();
             appointment.setAppointmentServices(new HashSet<>(newServices));
             isUpdated = true;
+            rescheduled = true;
         }
 
         if (request.getScheduledDateTime() != null &&
@@ -284,6 +225,7 @@ public class AppointmentService {
                 }
             }
             appointment.setScheduledDateTime(request.getScheduledDateTime());
+            rescheduled = true;
             if (appointment.getStatus() == AppointmentStatus.CONFIRMED) {
                 appointment.setStatus(AppointmentStatus.RESCHEDULED);
             }
@@ -299,7 +241,15 @@ public class AppointmentService {
             throw new IllegalArgumentException("No valid fields provided for update");
         }
 
+        if (rescheduled) {
+            int duration = appointment.getAppointmentServices().stream()
+                    .mapToInt(Services::getEstimatedDurationMinutes)
+                    .sum();
+            slotReservationService.reserve(appointment.getScheduledDateTime(), duration, appointment.getId());
+        }
+
         Appointment updatedAppointment = appointmentRepository.save(appointment);
+        eventPublisher.publishEvent(new AppointmentChangedEvent(updatedAppointment.getId()));
         UpdateAppointmentRequestDTO updateAppointmentRequestDTO = new UpdateAppointmentRequestDTO();
         updateAppointmentRequestDTO.setVehicleId(updatedAppointment.getVehicle().getId());
         updateAppointmentRequestDTO.setScheduledDateTime(updatedAppointment.getScheduledDateTime());
@@ -315,8 +265,8 @@ public class AppointmentService {
     @Transactional
     public AppointmentResponseDTO cancelAppointment(String customerEmail, Long appointmentId) {
 
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+        AuthenticatedUser customer = CurrentUser.resolve(userRepository, customerEmail,
+                () -> new ResourceNotFoundException("Customer not found"));
 
         Appointment appointment = appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found"));
@@ -335,14 +285,15 @@ public class AppointmentService {
 
         appointment.setStatus(AppointmentStatus.CANCELLED);
         Appointment updated = appointmentRepository.save(appointment);
+        eventPublisher.publishEvent(new AppointmentChangedEvent(updated.getId()));
         List<Services> services = new ArrayList<>(appointment.getAppointmentServices());
-        return convertToResponseDTO(updated, services);
+        return appointmentMapper.toResponseDTO(updated, services);
     }
 
     @Transactional
     public void deleteAppointment(String customerEmail, Long appointmentId) {
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+        AuthenticatedUser customer = CurrentUser.resolve(userRepository, customerEmail,
+                () -> new ResourceNotFoundException("Customer not found"));
 
         Appointment appointment = appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found"));
@@ -359,6 +310,7 @@ public class AppointmentService {
 
         appointmentRepository.deleteById(appointment.getId());
         appointmentRepository.flush();
+        eventPublisher.publishEvent(new AppointmentChangedEvent(appointment.getId()));
     }
 
 }
\ No newline at end of file
@@ -1,9 +1,9 @@
 package com.gearsync.backend.service;
 import com.gearsync.backend.dto.UserRegisterDTO;
+import com.gearsync.backend.mapper.UserMapper;
 import com.gearsync.backend.model.User;
 import com.gearsync.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import java.util.Optional;
@@ -14,14 +14,14 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
 
     public boolean isEmailRegistered(String email) {
         return userRepository.findByEmail(email).isPresent();
     }
 
     public User register(UserRegisterDTO userRegisterDTO) {
-        User user = modelMapper.map(userRegisterDTO, User.class);
+        User user = userMapper.toEntity(userRegisterDTO);
         user.setPassword(passwordEncoder.encode(userRegisterDTO.getPassword()));
         return userRepository.save(user);
     }
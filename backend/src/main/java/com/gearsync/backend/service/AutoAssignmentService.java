@@ -0,0 +1,266 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.AutoAssignRequestDTO;
+import com.gearsync.backend.dto.AutoAssignResultDTO;
+import com.gearsync.backend.dto.AutoAssignmentDTO;
+import com.gearsync.backend.event.AppointmentChangedEvent;
+import com.gearsync.backend.exception.ResourceNotFoundException;
+import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.model.Appointment;
+import com.gearsync.backend.model.AppointmentStatus;
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.User;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.gearsync.backend.repository.UserRepository;
+import com.gearsync.backend.repository.projection.AppointmentWorkloadView;
+import com.gearsync.backend.security.AuthenticatedUser;
+import com.gearsync.backend.security.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Assigns pending appointments to the active employee with the fewest booked
+ * minutes that day. Booked minutes per employee and day are kept in memory,
+ * loaded with one query per day and then kept current from
+ * AppointmentChangedEvent, like the slot availability index. Within a day the
+ * longest appointments are placed first so the short ones can even out the
+ * loads at the end. Nobody is given more than max-daily-minutes, and an
+ * employee whose schedule already overlaps the appointment is passed over for
+ * the next least loaded one.
+ */
+@Service
+@RequiredArgsConstructor
+public class AutoAssignmentService {
+
+    private final AppointmentRepository appointmentRepository;
+    private final UserRepository userRepository;
+    private final SlotAvailabilityService slotAvailabilityService;
+    private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmployeeScheduleService employeeScheduleService;
+
+    private final Map<LocalDate, DayWorkload> days = new ConcurrentHashMap<>();
+
+    @Value("${app.assignment.max-daily-minutes:480}")
+    private int maxDailyMinutes;
+
+    @Value("${app.booking.max-days-ahead:90}")
+    private int maxDaysAhead;
+
+    @Value("${app.assignment.refresh-seconds:60}")
+    private long refreshSeconds;
+
+    @Transactional
+    public AutoAssignResultDTO autoAssign(String adminEmail, AutoAssignRequestDTO request) {
+        validateAdmin(adminEmail);
+
+        LocalDate date = request.getDate();
+        LocalDate today = LocalDate.now();
+        if (date != null && date.isBefore(today)) {
+            throw new IllegalArgumentException("Cannot auto-assign appointments in the past");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = date == null || date.equals(today) ? now : date.atStartOfDay();
+        LocalDateTime to = (date == null ? today.plusDays(maxDaysAhead + 1L) : date.plusDays(1)).atStartOfDay();
+
+        List<AppointmentWorkloadView> pending =
+                appointmentRepository.findUnassignedWorkloadBetween(from, to, AppointmentStatus.SCHEDULED);
+        List<User> employees = userRepository.findActiveEmployees();
+
+        AutoAssignResultDTO result = plan(pending, employees);
+        result.setDryRun(Boolean.TRUE.equals(request.getDryRun()));
+        if (!result.isDryRun() && !result.getAssignments().isEmpty()) {
+            apply(result, employees);
+        }
+        return result;
+    }
+
+    AutoAssignResultDTO plan(List<AppointmentWorkloadView> pending, List<User> employees) {
+        AutoAssignResultDTO result = new AutoAssignResultDTO();
+        Map<Long, User> employeesById = employees.stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        Map<LocalDate, List<AppointmentWorkloadView>> byDay = new TreeMap<>();
+        for (AppointmentWorkloadView row : pending) {
+            byDay.computeIfAbsent(row.getScheduledDateTime().toLocalDate(), day -> new ArrayList<>()).add(row);
+        }
+
+        for (Map.Entry<LocalDate, List<AppointmentWorkloadView>> entry : byDay.entrySet()) {
+            Map<Long, Integer> booked = dayWorkload(entry.getKey()).snapshot();
+            PriorityQueue<EmployeeLoad> loads = new PriorityQueue<>(
+                    Comparator.comparingInt(EmployeeLoad::minutes).thenComparing(EmployeeLoad::employeeId));
+            for (Long employeeId : employeesById.keySet()) {
+                loads.add(new EmployeeLoad(employeeId, booked.getOrDefault(employeeId, 0)));
+            }
+
+            List<AppointmentWorkloadView> rows = entry.getValue();
+            rows.sort(Comparator.comparingInt((AppointmentWorkloadView row) -> duration(row)).reversed()
+                    .thenComparing(AppointmentWorkloadView::getScheduledDateTime)
+                    .thenComparing(AppointmentWorkloadView::getId));
+            // Windows handed out by this plan, which the schedule index has not seen yet
+            Map<Long, IntervalTree<Long>> planned = new HashMap<>();
+            for (AppointmentWorkloadView row : rows) {
+                int duration = duration(row);
+                EmployeeScheduleService.WorkWindow window = new EmployeeScheduleService.WorkWindow(
+                        EmployeeScheduleService.APPOINTMENT, row.getId(), row.getScheduledDateTime(),
+                        row.getScheduledDateTime().plusMinutes(duration));
+
+                List<EmployeeLoad> skipped = new ArrayList<>();
+                EmployeeLoad chosen = null;
+                // Loads only grow from here, so once one is over the daily limit all the rest are too
+                while (!loads.isEmpty() && loads.peek().minutes() + duration <= maxDailyMinutes) {
+                    EmployeeLoad candidate = loads.poll();
+                    if (isFree(candidate.employeeId(), window, planned)) {
+                        chosen = candidate;
+                        break;
+                    }
+                    skipped.add(candidate);
+                }
+                loads.addAll(skipped);
+                if (chosen == null) {
+                    result.getUnassignedAppointmentIds().add(row.getId());
+                    continue;
+                }
+                EmployeeLoad updated = new EmployeeLoad(chosen.employeeId(), chosen.minutes() + duration);
+                loads.add(updated);
+                planned.computeIfAbsent(chosen.employeeId(), id -> new IntervalTree<>())
+                        .put(row.getId(), window.start(), window.end(), row.getId());
+
+                User employee = employeesById.get(chosen.employeeId());
+                result.getAssignments().add(new AutoAssignmentDTO(row.getId(), row.getScheduledDateTime(), duration,
+                        employee.getId(), employee.getFirstName() + " " + employee.getLastName(), updated.minutes()));
+            }
+        }
+        return result;
+    }
+
+    private boolean isFree(Long employeeId, EmployeeScheduleService.WorkWindow window,
+                           Map<Long, IntervalTree<Long>> planned) {
+        IntervalTree<Long> own = planned.get(employeeId);
+        if (own != null && !own.overlapping(window.start(), window.end()).isEmpty()) {
+            return false;
+        }
+        return employeeScheduleService.findConflicts(employeeId, window).isEmpty();
+    }
+
+    private void apply(AutoAssignResultDTO result, List<User> employees) {
+        Map<Long, User> employeesById = employees.stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Appointment> appointments = appointmentRepository.findAllWithCustomerAndVehicleByIdIn(
+                        result.getAssignments().stream().map(AutoAssignmentDTO::getAppointmentId).toList())
+                .stream()
+                .collect(Collectors.toMap(Appointment::getId, Function.identity()));
+
+        List<Appointment> changed = new ArrayList<>();
+        Iterator<AutoAssignmentDTO> assignments = result.getAssignments().iterator();
+        while (assignments.hasNext()) {
+            AutoAssignmentDTO assignment = assignments.next();
+            Appointment appointment = appointments.get(assignment.getAppointmentId());
+            // Assigned or cancelled by someone else since the plan was read
+            if (appointment == null || appointment.getAssignedEmployee() != null
+                    || appointment.getStatus() != AppointmentStatus.SCHEDULED) {
+                assignments.remove();
+                result.getUnassignedAppointmentIds().add(assignment.getAppointmentId());
+                continue;
+            }
+            appointment.setAssignedEmployee(employeesById.get(assignment.getEmployeeId()));
+            appointment.setStatus(AppointmentStatus.CONFIRMED);
+            changed.add(appointment);
+        }
+
+        appointmentRepository.saveAll(changed);
+        for (Appointment appointment : changed) {
+            eventPublisher.publishEvent(new AppointmentChangedEvent(appointment.getId()));
+            User customer = appointment.getCustomer();
+            emailService.sendCustomerAppointmentConfirmation(
+                    customer.getEmail(),
+                    appointment.getVehicle().getRegistrationNumber(),
+                    customer.getFirstName() + " " + customer.getLastName(),
+                    appointment.getScheduledDateTime(),
+                    appointment.getFinalCost() != null ? appointment.getFinalCost() : BigDecimal.ZERO);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        Long id = event.appointmentId();
+        if (id == null || days.isEmpty()) {
+            return;
+        }
+        // Rescheduling or reassigning can move the minutes to another day or employee
+        days.values().forEach(day -> day.remove(id));
+
+        appointmentRepository.findAssignedWorkloadById(id, AppointmentStatus.CANCELLED).ifPresent(row -> {
+            DayWorkload day = days.get(row.getScheduledDateTime().toLocalDate());
+            if (day != null) {
+                day.ensureLoaded(() -> loadDay(row.getScheduledDateTime().toLocalDate()));
+                day.put(id, new DayWorkload.Booking(row.getEmployeeId(), duration(row)));
+            }
+        });
+    }
+
+    @Scheduled(cron = "${app.booking.availability.evict-cron:0 5 0 * * *}")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        days.keySet().removeIf(day -> day.isBefore(today));
+    }
+
+    int bookedMinutes(LocalDate date, Long employeeId) {
+        return dayWorkload(date).minutesOf(employeeId);
+    }
+
+    private DayWorkload dayWorkload(LocalDate date) {
+        long now = System.currentTimeMillis();
+        DayWorkload day = days.compute(date, (key, existing) ->
+                existing == null || now - existing.getCreatedAtMillis() > refreshSeconds * 1000
+                        ? new DayWorkload()
+                        : existing);
+        day.ensureLoaded(() -> loadDay(date));
+        return day;
+    }
+
+    private Map<Long, DayWorkload.Booking> loadDay(LocalDate date) {
+        Map<Long, DayWorkload.Booking> bookings = new HashMap<>();
+        for (AppointmentWorkloadView row : appointmentRepository.findAssignedWorkloadBetween(
+                date.atStartOfDay(), date.plusDays(1).atStartOfDay(), AppointmentStatus.CANCELLED)) {
+            bookings.put(row.getId(), new DayWorkload.Booking(row.getEmployeeId(), duration(row)));
+        }
+        return bookings;
+    }
+
+    private int duration(AppointmentWorkloadView row) {
+        return slotAvailabilityService.effectiveDuration(row.getDurationMinutes());
+    }
+
+    private void validateAdmin(String email) {
+        AuthenticatedUser user = CurrentUser.resolve(userRepository, email,
+                () -> new ResourceNotFoundException("User not found"));
+
+        if (user.getRole() != Role.ADMIN) {
+            throw new UnauthorizedException("Only admins can access this resource");
+        }
+    }
+
+    private record EmployeeLoad(Long employeeId, int minutes) {
+    }
+}
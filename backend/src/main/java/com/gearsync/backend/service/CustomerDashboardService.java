@@ -1,14 +1,18 @@
 package com.gearsync.backend.service;
 
+import com.gearsync.backend.dto.CustomerDashboardDTO;
 import com.gearsync.backend.dto.MyAppointmentDTO;
-import com.gearsync.backend.dto.ServiceSummaryDTO;
 import com.gearsync.backend.exception.ResourceNotFoundException;
+import com.gearsync.backend.mapper.AppointmentMapper;
 import com.gearsync.backend.model.Appointment;
 import com.gearsync.backend.model.AppointmentStatus;
 import com.gearsync.backend.model.User;
 import com.gearsync.backend.repository.AppointmentRepository;
 import com.gearsync.backend.repository.UserRepository;
 import com.gearsync.backend.repository.VehicleRepository;
+import com.gearsync.backend.repository.projection.StatusTotalsView;
+import com.gearsync.backend.security.AuthenticatedUser;
+import com.gearsync.backend.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +30,7 @@ public class CustomerDashboardService {
     private final AppointmentRepository appointmentRepository;
     private final VehicleRepository vehicleRepository;
     private final UserRepository userRepository;
+    private final AppointmentMapper appointmentMapper;
 
     @Transactional(readOnly = true)
     public Long myAppointmentCount(String email) {
@@ -56,8 +61,8 @@ public class CustomerDashboardService {
 
     @Transactional(readOnly = true)
     public List<MyAppointmentDTO> upcomingAppointments(String customerEmail) {
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+        AuthenticatedUser customer = CurrentUser.resolve(userRepository, customerEmail,
+                () -> new ResourceNotFoundException("Customer not found"));
 
         LocalDateTime startOfTomorrow = LocalDate.now().plusDays(1).atStartOfDay();
 
@@ -65,34 +70,46 @@ public class CustomerDashboardService {
                 appointmentRepository.findAllByCustomerIdAndScheduledDateTimeGreaterThanEqualOrderByScheduledDateTimeAsc(
                         customer.getId(), startOfTomorrow);
 
-        return appointments.stream().map(appointment -> {
-            MyAppointmentDTO dto = new MyAppointmentDTO();
-            dto.setId(appointment.getId());
-            dto.setScheduledDateTime(appointment.getScheduledDateTime());
-            dto.setStatus(appointment.getStatus().name());
-            dto.setCustomerNotes(appointment.getCustomerNotes());
-            dto.setEmployeeNotes(appointment.getEmployeeNotes());
-            dto.setFinalCost(appointment.getFinalCost());
-            dto.setProgressPercentage(appointment.getProgressPercentage());
-
-            dto.setServices(
-                    appointment.getAppointmentServices().stream().map(service -> {
-                        ServiceSummaryDTO sDto = new ServiceSummaryDTO();
-                        sDto.setId(service.getId());
-                        sDto.setServiceName(service.getServiceName());
-                        sDto.setCategory(service.getCategory().name());
-                        sDto.setBasePrice(service.getBasePrice());
-                        sDto.setEstimatedDurationMinutes(service.getEstimatedDurationMinutes());
-                        return sDto;
-                    }).collect(Collectors.toSet())
-            );
-
-            BigDecimal estimatedCost = dto.getServices().stream()
-                    .map(ServiceSummaryDTO::getBasePrice)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            dto.setEstimatedCost(estimatedCost);
-
-            return dto;
-        }).collect(Collectors.toList());
+        return appointments.stream()
+                .map(appointmentMapper::toMyAppointmentDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public CustomerDashboardDTO getDashboard(String customerEmail) {
+        AuthenticatedUser customer = CurrentUser.resolve(userRepository, customerEmail,
+                () -> new ResourceNotFoundException("Customer not found"));
+
+        long appointmentCount = 0;
+        long activeCount = 0;
+        long completedCount = 0;
+        BigDecimal totalSpent = BigDecimal.ZERO;
+
+        for (StatusTotalsView row : appointmentRepository.summarizeByStatusForCustomer(customer.getId())) {
+            appointmentCount += row.getTotal();
+            if (row.getStatus() == AppointmentStatus.IN_PROGRESS) {
+                activeCount = row.getTotal();
+            } else if (row.getStatus() == AppointmentStatus.COMPLETED) {
+                completedCount = row.getTotal();
+                if (row.getFinalCostTotal() != null) {
+                    totalSpent = row.getFinalCostTotal();
+                }
+            }
+        }
+
+        LocalDateTime startOfTomorrow = LocalDate.now().plusDays(1).atStartOfDay();
+        List<MyAppointmentDTO> upcoming = appointmentRepository
+                .findUpcomingWithServices(customer.getId(), startOfTomorrow).stream()
+                .map(appointmentMapper::toMyAppointmentDTO)
+                .collect(Collectors.toList());
+
+        CustomerDashboardDTO dto = new CustomerDashboardDTO();
+        dto.setAppointmentCount(appointmentCount);
+        dto.setActiveAppointmentCount(Math.toIntExact(activeCount));
+        dto.setCompletedServicesCount(Math.toIntExact(completedCount));
+        dto.setVehicleCount(vehicleRepository.countByOwnerId(customer.getId()));
+        dto.setTotalSpent(totalSpent);
+        dto.setUpcomingAppointments(upcoming);
+        return dto;
     }
 }
@@ -0,0 +1,101 @@
+package com.gearsync.backend.service;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Occupied capacity of one business day, in fixed-size slots. Each slot keeps a
+ * count of overlapping appointments and a bit that is set once the slot is at
+ * capacity, so "is there a free run of n slots from here" is a BitSet scan.
+ * Bookings are keyed by appointment id, which makes re-applying an update safe.
+ */
+final class DaySlotIndex {
+
+    private final int capacity;
+    private final int[] occupancy;
+    private final BitSet full;
+    private final Map<Long, SlotRange> bookings = new HashMap<>();
+    private final long createdAtMillis = System.currentTimeMillis();
+    private boolean loaded;
+
+    DaySlotIndex(int slotCount, int capacity) {
+        this.capacity = capacity;
+        this.occupancy = new int[slotCount];
+        this.full = new BitSet(slotCount);
+    }
+
+    synchronized void ensureLoaded(Supplier<Map<Long, SlotRange>> loader) {
+        if (loaded) {
+            return;
+        }
+        loader.get().forEach(this::put);
+        loaded = true;
+    }
+
+    synchronized void put(Long appointmentId, SlotRange range) {
+        remove(appointmentId);
+        if (range == null || range.count() <= 0) {
+            return;
+        }
+        bookings.put(appointmentId, range);
+        for (int slot = range.first(); slot < range.end(); slot++) {
+            if (++occupancy[slot] >= capacity) {
+                full.set(slot);
+            }
+        }
+    }
+
+    synchronized boolean remove(Long appointmentId) {
+        SlotRange range = bookings.remove(appointmentId);
+        if (range == null) {
+            return false;
+        }
+        for (int slot = range.first(); slot < range.end(); slot++) {
+            if (--occupancy[slot] < capacity) {
+                full.clear(slot);
+            }
+        }
+        return true;
+    }
+
+    // Capacity left for a booking covering [first, first + count); 0 when any slot in the run is full
+    synchronized int remaining(int first, int count) {
+        if (first < 0 || count <= 0 || first + count > occupancy.length) {
+            return 0;
+        }
+        int next = full.nextSetBit(first);
+        if (next >= 0 && next < first + count) {
+            return 0;
+        }
+        int max = 0;
+        for (int slot = first; slot < first + count; slot++) {
+            max = Math.max(max, occupancy[slot]);
+        }
+        return capacity - max;
+    }
+
+    synchronized int[] remainingPerStart(int count) {
+        int starts = Math.max(0, occupancy.length - count + 1);
+        int[] result = new int[starts];
+        for (int first = 0; first < starts; first++) {
+            result[first] = remaining(first, count);
+        }
+        return result;
+    }
+
+    int slotCount() {
+        return occupancy.length;
+    }
+
+    long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    record SlotRange(int first, int count) {
+        int end() {
+            return first + count;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.gearsync.backend.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Booked minutes per employee for one day. Bookings are keyed by appointment
+ * id, so re-applying an update after a reassignment moves the minutes rather
+ * than counting them twice.
+ */
+final class DayWorkload {
+
+    private final Map<Long, Booking> bookings = new HashMap<>();
+    private final Map<Long, Integer> minutesByEmployee = new HashMap<>();
+    private final long createdAtMillis = System.currentTimeMillis();
+    private boolean loaded;
+
+    synchronized void ensureLoaded(Supplier<Map<Long, Booking>> loader) {
+        if (loaded) {
+            return;
+        }
+        loader.get().forEach(this::put);
+        loaded = true;
+    }
+
+    synchronized void put(Long appointmentId, Booking booking) {
+        remove(appointmentId);
+        bookings.put(appointmentId, booking);
+        minutesByEmployee.merge(booking.employeeId(), booking.minutes(), Integer::sum);
+    }
+
+    synchronized boolean remove(Long appointmentId) {
+        Booking booking = bookings.remove(appointmentId);
+        if (booking == null) {
+            return false;
+        }
+        minutesByEmployee.computeIfPresent(booking.employeeId(),
+                (id, minutes) -> minutes == booking.minutes() ? null : minutes - booking.minutes());
+        return true;
+    }
+
+    synchronized int minutesOf(Long employeeId) {
+        return minutesByEmployee.getOrDefault(employeeId, 0);
+    }
+
+    synchronized Map<Long, Integer> snapshot() {
+        return new HashMap<>(minutesByEmployee);
+    }
+
+    long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    record Booking(Long employeeId, int minutes) {
+    }
+}
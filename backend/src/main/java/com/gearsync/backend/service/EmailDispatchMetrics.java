@@ -0,0 +1,39 @@
+package com.gearsync.backend.service;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals for the outbox dispatcher. Throughput is messages sent per
+ * second of time spent inside SMTP calls, not wall-clock time.
+ */
+public class EmailDispatchMetrics {
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder sendNanos = new LongAdder();
+
+    void recordBatch(int sentCount, int failedCount, long elapsedNanos) {
+        sent.add(sentCount);
+        failed.add(failedCount);
+        batches.increment();
+        sendNanos.add(elapsedNanos);
+    }
+
+    public long getSent() {
+        return sent.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    public double getMessagesPerSecond() {
+        long nanos = sendNanos.sum();
+        return nanos == 0 ? 0 : sent.sum() * 1_000_000_000.0 / nanos;
+    }
+}
@@ -0,0 +1,198 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.model.EmailOutbox;
+import com.gearsync.backend.model.EmailStatus;
+import com.gearsync.backend.repository.EmailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final EmailDispatchMetrics metrics = new EmailDispatchMetrics();
+
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.initial-backoff-seconds:30}")
+    private long initialBackoffSeconds;
+
+    @Value("${app.mail.outbox.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    @Value("${app.mail.outbox.claim-seconds:300}")
+    private long claimSeconds;
+
+    @Value("${app.mail.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    // Joins the caller's transaction, so the email is only queued if the business change commits
+    @Transactional
+    public EmailOutbox enqueue(String to, String subject, String htmlBody) {
+        EmailOutbox email = new EmailOutbox();
+        email.setRecipient(to);
+        email.setSubject(subject);
+        email.setHtmlBody(htmlBody);
+        email.setStatus(EmailStatus.PENDING);
+        email.setAttempts(0);
+        email.setNextAttemptAt(LocalDateTime.now());
+        return emailOutboxRepository.save(email);
+    }
+
+    /**
+     * Runs every poll interval; each run flushes one batch over a single SMTP
+     * connection. The batch is claimed in one short transaction by pushing its
+     * next attempt past the claim window, sent with no transaction or pooled
+     * connection held, and the outcome recorded in a second short transaction.
+     * If the node dies mid-send the claim lapses and the batch is retried.
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:5000}")
+    public void dispatchDue() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> due = transactionTemplate.execute(status -> claimDue(now));
+        if (due == null || due.isEmpty()) {
+            return;
+        }
+
+        Map<MimeMessage, EmailOutbox> batch = new IdentityHashMap<>();
+        for (EmailOutbox email : due) {
+            try {
+                batch.put(toMimeMessage(email), email);
+            } catch (Exception e) {
+                recordFailure(email, e, now);
+            }
+        }
+
+        long started = System.nanoTime();
+        Map<Object, Exception> failures = send(batch.keySet());
+        long elapsedNanos = System.nanoTime() - started;
+
+        int sent = 0;
+        for (Map.Entry<MimeMessage, EmailOutbox> entry : batch.entrySet()) {
+            EmailOutbox email = entry.getValue();
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                email.setStatus(EmailStatus.SENT);
+                email.setSentAt(now);
+                email.setLastError(null);
+                email.setAttempts(email.getAttempts() + 1);
+                sent++;
+            } else {
+                recordFailure(email, failure, now);
+            }
+        }
+        transactionTemplate.execute(status -> emailOutboxRepository.saveAll(due));
+
+        metrics.recordBatch(sent, due.size() - sent, elapsedNanos);
+        log.debug("Email batch: {} sent, {} failed in {} ms",
+                sent, due.size() - sent, elapsedNanos / 1_000_000);
+    }
+
+    private List<EmailOutbox> claimDue(LocalDateTime now) {
+        List<EmailOutbox> due = emailOutboxRepository.lockDue(
+                EmailStatus.PENDING, now, PageRequest.of(0, Math.max(1, batchSize)));
+        for (EmailOutbox email : due) {
+            email.setNextAttemptAt(now.plusSeconds(claimSeconds));
+        }
+        return due;
+    }
+
+    // Bodies carry temporary passwords and OTPs, so finished emails are not kept past the retention window
+    @Scheduled(fixedDelayString = "${app.mail.outbox.purge-interval-ms:3600000}")
+    public void purgeFinished() {
+        int deleted = emailOutboxRepository.deleteFinishedBefore(
+                List.of(EmailStatus.SENT, EmailStatus.FAILED), LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.debug("Purged {} finished outbox emails", deleted);
+        }
+    }
+
+    public EmailDispatchMetrics getMetrics() {
+        return metrics;
+    }
+
+    // JavaMailSender sends a varargs batch over one transport; only the failed messages are reported back
+    private Map<Object, Exception> send(Set<MimeMessage> messages) {
+        if (messages.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+            return Map.of();
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                return failAll(messages, e);
+            }
+            return e.getFailedMessages();
+        } catch (Exception e) {
+            return failAll(messages, e);
+        }
+    }
+
+    private Map<Object, Exception> failAll(Set<MimeMessage> messages, Exception e) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        for (MimeMessage message : messages) {
+            failures.put(message, e);
+        }
+        return failures;
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox email) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getHtmlBody(), true);
+        return message;
+    }
+
+    private void recordFailure(EmailOutbox email, Exception e, LocalDateTime now) {
+        int attempt = email.getAttempts() + 1;
+        email.setAttempts(attempt);
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        email.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+
+        if (attempt >= maxAttempts) {
+            email.setStatus(EmailStatus.FAILED);
+            log.warn("Giving up on email {} to {} after {} attempts: {}",
+                    email.getId(), email.getRecipient(), attempt, message);
+            return;
+        }
+
+        email.setNextAttemptAt(now.plusSeconds(backoffSeconds(attempt)));
+    }
+
+    // 30s, 60s, 120s, ... capped at maxBackoffSeconds
+    long backoffSeconds(int attempt) {
+        long shift = Math.min(attempt - 1, 30);
+        return Math.min(maxBackoffSeconds, initialBackoffSeconds << shift);
+    }
+}
@@ -0,0 +1,101 @@
+package com.gearsync.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template compiled once into alternating static fragments and variable
+ * slots. Values known at startup (app name, URL) are folded into the static
+ * fragments; everything else is HTML-escaped and appended at render time.
+ */
+public final class EmailTemplate {
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(8192));
+
+    private final String name;
+    private final String[] fragments;
+    private final String[] slots;
+    private final int estimatedLength;
+
+    private EmailTemplate(String name, String[] fragments, String[] slots) {
+        this.name = name;
+        this.fragments = fragments;
+        this.slots = slots;
+        int length = 0;
+        for (String fragment : fragments) {
+            length += fragment.length();
+        }
+        this.estimatedLength = length + slots.length * 32;
+    }
+
+    public static EmailTemplate compile(String name, String source, Map<String, String> constants) {
+        List<String> fragments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        int position = 0;
+        while (true) {
+            int open = source.indexOf("{{", position);
+            if (open < 0) {
+                current.append(source, position, source.length());
+                break;
+            }
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in email template " + name);
+            }
+
+            current.append(source, position, open);
+            String key = source.substring(open + 2, close).trim();
+            if (constants.containsKey(key)) {
+                appendEscaped(current, constants.get(key));
+            } else {
+                fragments.add(current.toString());
+                slots.add(key);
+                current.setLength(0);
+            }
+            position = close + 2;
+        }
+        fragments.add(current.toString());
+
+        return new EmailTemplate(name, fragments.toArray(new String[0]), slots.toArray(new String[0]));
+    }
+
+    public String render(Map<String, ?> values) {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        out.ensureCapacity(estimatedLength);
+
+        for (int i = 0; i < slots.length; i++) {
+            out.append(fragments[i]);
+            Object value = values.get(slots[i]);
+            if (value == null && !values.containsKey(slots[i])) {
+                throw new IllegalArgumentException(
+                        "Missing value for '" + slots[i] + "' in email template " + name);
+            }
+            appendEscaped(out, value != null ? value.toString() : "");
+        }
+        out.append(fragments[slots.length]);
+
+        return out.toString();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
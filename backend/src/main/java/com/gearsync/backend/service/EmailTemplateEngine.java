@@ -0,0 +1,62 @@
+package com.gearsync.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+public class EmailTemplateEngine {
+
+    public static final String APPOINTMENT_CONFIRMATION = "appointment-confirmation";
+    public static final String EMPLOYEE_WELCOME = "employee-welcome";
+    public static final String CUSTOMER_WELCOME = "customer-welcome";
+    public static final String PASSWORD_RESET_OTP = "password-reset-otp";
+    public static final String PASSWORD_CHANGED = "password-changed";
+    public static final String PROJECT_CONFIRMATION = "project-confirmation";
+
+    private static final String[] TEMPLATE_NAMES = {
+            APPOINTMENT_CONFIRMATION, EMPLOYEE_WELCOME, CUSTOMER_WELCOME,
+            PASSWORD_RESET_OTP, PASSWORD_CHANGED, PROJECT_CONFIRMATION
+    };
+
+    @Value("${app.name}")
+    private String appName;
+
+    @Value("${app.url}")
+    private String appUrl;
+
+    private final Map<String, EmailTemplate> templates = new HashMap<>();
+
+    @PostConstruct
+    void compileTemplates() {
+        Map<String, String> constants = Map.of("appName", appName, "appUrl", appUrl);
+        for (String name : TEMPLATE_NAMES) {
+            templates.put(name, EmailTemplate.compile(name, load(name), constants));
+        }
+    }
+
+    public String render(String templateName, Map<String, ?> values) {
+        EmailTemplate template = templates.get(templateName);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown email template: " + templateName);
+        }
+        return template.render(values);
+    }
+
+    static String load(String name) {
+        ClassPathResource resource = new ClassPathResource("templates/email/" + name + ".html");
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Email template not found: " + name, e);
+        }
+    }
+}
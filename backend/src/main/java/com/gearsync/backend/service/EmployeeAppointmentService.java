@@ -1,15 +1,19 @@
 package com.gearsync.backend.service;
 
 import com.gearsync.backend.dto.*;
+import com.gearsync.backend.event.AppointmentChangedEvent;
 import com.gearsync.backend.exception.*;
+import com.gearsync.backend.mapper.AppointmentMapper;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.*;
+import com.gearsync.backend.security.AuthenticatedUser;
+import com.gearsync.backend.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -20,6 +24,8 @@ public class EmployeeAppointmentService {
 
     private final AppointmentRepository appointmentRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppointmentMapper appointmentMapper;
 
     private static final Set<String> ALLOWED_EMPLOYEE_STATUSES = new HashSet<>(
             Arrays.asList("IN_PROGRESS", "COMPLETED", "ON_HOLD")
@@ -28,19 +34,19 @@ public class EmployeeAppointmentService {
 
     @Transactional(readOnly = true)
     public List<AppointmentResponseDTO> getMyAssignedAppointments(String employeeEmail) {
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+        AuthenticatedUser employee = CurrentUser.resolve(userRepository, employeeEmail,
+                () -> new ResourceNotFoundException("Employee not found"));
 
         if (employee.getRole() != Role.EMPLOYEE && employee.getRole() != Role.ADMIN) {
             throw new UnauthorizedException("Only employees can access this endpoint");
         }
 
-        List<Appointment> appointments = appointmentRepository.findByAssignedEmployeeId(employee.getId());
+        List<Appointment> appointments = appointmentRepository.findWithDetailsByAssignedEmployeeId(employee.getId());
 
         return appointments.stream()
                 .map(appointment -> {
                     List<Services> services = new ArrayList<>(appointment.getAppointmentServices());
-                    return convertToResponseDTO(appointment, services);
+                    return appointmentMapper.toResponseDTO(appointment, services);
                 })
                 .collect(Collectors.toList());
     }
@@ -48,8 +54,8 @@ public class EmployeeAppointmentService {
     @Transactional(readOnly = true)
     public AppointmentResponseDTO getAppointmentDetails(String employeeEmail, Long appointmentId) {
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+        AuthenticatedUser employee = CurrentUser.resolve(userRepository, employeeEmail,
+                () -> new ResourceNotFoundException("Employee not found"));
 
         Appointment appointment = appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found with ID: " + appointmentId));
@@ -61,7 +67,7 @@ public class EmployeeAppointmentService {
         }
 
         List<Services> services = new ArrayList<>(appointment.getAppointmentServices());
-        return convertToResponseDTO(appointment, services);
+        return appointmentMapper.toResponseDTO(appointment, services);
     }
 
     @Transactional
@@ -70,8 +76,8 @@ public class EmployeeAppointmentService {
             Long appointmentId,
             EmployeeStatusUpdateDTO request) {
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+        AuthenticatedUser employee = CurrentUser.resolve(userRepository, employeeEmail,
+                () -> new ResourceNotFoundException("Employee not found"));
 
         Appointment appointment = appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found with ID: " + appointmentId));
@@ -128,7 +134,8 @@ public class EmployeeAppointmentService {
             String existingNotes = appointment.getEmployeeNotes() != null ?
                     appointment.getEmployeeNotes() : "";
             String timestamp = LocalDateTime.now().toString();
-            String newNote = String.format("[%s] %s: %s", timestamp, employee.getFirstName(), request.getNotes());
+            String newNote = String.format("[%s] %s: %s", timestamp,
+                    CurrentUser.entity(userRepository, employee).getFirstName(), request.getNotes());
 
             appointment.setEmployeeNotes(
                     existingNotes.isEmpty() ? newNote : existingNotes + "\n" + newNote
@@ -136,67 +143,19 @@ public class EmployeeAppointmentService {
         }
 
         Appointment updated = appointmentRepository.save(appointment);
+        eventPublisher.publishEvent(new AppointmentChangedEvent(updated.getId()));
+        eventPublisher.publishEvent(new ProgressEventDTO(
+                "APPOINTMENT",
+                updated.getId(),
+                updated.getCustomer() != null ? updated.getCustomer().getId() : null,
+                currentStatus.name(),
+                targetStatus.name(),
+                updated.getProgressPercentage(),
+                request.getNotes(),
+                LocalDateTime.now()
+        ));
 
         List<Services> services = new ArrayList<>(appointment.getAppointmentServices());
-        return convertToResponseDTO(updated, services);
-    }
-
-
-    private AppointmentResponseDTO convertToResponseDTO(
-            Appointment appointment,
-            List<Services> services) {
-
-        AppointmentResponseDTO dto = new AppointmentResponseDTO();
-        dto.setId(appointment.getId());
-        dto.setScheduledDateTime(appointment.getScheduledDateTime());
-        dto.setStatus(appointment.getStatus().name());
-        dto.setCustomerNotes(appointment.getCustomerNotes());
-        dto.setEmployeeNotes(appointment.getEmployeeNotes());
-        dto.setFinalCost(appointment.getFinalCost());
-        dto.setProgressPercentage(appointment.getProgressPercentage());
-
-        User customer = appointment.getCustomer();
-        dto.setCustomerId(customer.getId());
-        dto.setCustomerName(customer.getFirstName() + " " + customer.getLastName());
-        dto.setCustomerEmail(customer.getEmail());
-        dto.setCustomerPhone(customer.getPhoneNumber());
-
-        Vehicle vehicle = appointment.getVehicle();
-        dto.setVehicleId(vehicle.getId());
-        dto.setVehicleRegistrationNumber(vehicle.getRegistrationNumber());
-        dto.setVehicleMake(vehicle.getMake());
-        dto.setVehicleModel(vehicle.getModel());
-        dto.setVehicleYear(String.valueOf(vehicle.getYear()));
-
-        List<ServiceSummaryDTO> serviceSummaries = services.stream()
-                .map(service -> {
-                    ServiceSummaryDTO summary = new ServiceSummaryDTO();
-                    summary.setId(service.getId());
-                    summary.setServiceName(service.getServiceName());
-                    summary.setCategory(service.getCategory().name());
-                    summary.setBasePrice(service.getBasePrice());
-                    summary.setEstimatedDurationMinutes(service.getEstimatedDurationMinutes());
-                    return summary;
-                })
-                .collect(Collectors.toList());
-        dto.setServices(serviceSummaries);
-
-        BigDecimal estimatedCost = services.stream()
-                .map(Services::getBasePrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        dto.setEstimatedCost(estimatedCost);
-
-        if (appointment.getAssignedEmployee() != null) {
-            User employee = appointment.getAssignedEmployee();
-            dto.setAssignedEmployeeId(employee.getId());
-            dto.setAssignedEmployeeName(employee.getFirstName() + " " + employee.getLastName());
-            dto.setAssignedEmployeeEmail(employee.getEmail());
-        }
-
-        dto.setActualStartTime(appointment.getActualStartTime());
-        dto.setActualEndTime(appointment.getActualEndTime());
-        dto.setCreatedAt(appointment.getCreatedAt());
-        dto.setUpdatedAt(appointment.getUpdatedAt());
-        return dto;
+        return appointmentMapper.toResponseDTO(updated, services);
     }
 }
\ No newline at end of file
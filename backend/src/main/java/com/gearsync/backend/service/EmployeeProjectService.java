@@ -1,10 +1,15 @@
 package com.gearsync.backend.service;
 
 import com.gearsync.backend.dto.*;
+import com.gearsync.backend.event.ProjectChangedEvent;
 import com.gearsync.backend.exception.*;
+import com.gearsync.backend.mapper.ProjectMapper;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.*;
+import com.gearsync.backend.security.AuthenticatedUser;
+import com.gearsync.backend.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +26,8 @@ public class EmployeeProjectService {
 
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectMapper projectMapper;
 
     private static final Set<String> ALLOWED_EMPLOYEE_STATUSES = new HashSet<>(
             Arrays.asList("IN_PROGRESS", "COMPLETED", "ON_HOLD")
@@ -29,17 +36,17 @@ public class EmployeeProjectService {
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getMyAssignedProjects(String employeeEmail) {
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+        AuthenticatedUser employee = CurrentUser.resolve(userRepository, employeeEmail,
+                () -> new ResourceNotFoundException("Employee not found"));
 
         if (employee.getRole() != Role.EMPLOYEE && employee.getRole() != Role.ADMIN) {
             throw new UnauthorizedException("Only employees can access this endpoint");
         }
 
-        List<Project> projects = projectRepository.findByAssignedEmployeeId(employee.getId());
+        List<Project> projects = projectRepository.findWithDetailsByAssignedEmployeeId(employee.getId());
 
         return projects.stream()
-                .map(this::convertToResponseDTO)
+                .map(projectMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
@@ -47,8 +54,8 @@ public class EmployeeProjectService {
     @Transactional(readOnly = true)
     public ProjectResponseDTO getProjectDetails(String employeeEmail, Long projectId) {
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+        AuthenticatedUser employee = CurrentUser.resolve(userRepository, employeeEmail,
+                () -> new ResourceNotFoundException("Employee not found"));
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
@@ -58,7 +65,7 @@ public class EmployeeProjectService {
             throw new UnauthorizedException("This project is not assigned to you");
         }
 
-        return convertToResponseDTO(project);
+        return projectMapper.toResponseDTO(project);
     }
 
 
@@ -69,8 +76,8 @@ public class EmployeeProjectService {
             EmployeeStatusUpdateDTO request) {
 
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+        AuthenticatedUser employee = CurrentUser.resolve(userRepository, employeeEmail,
+                () -> new ResourceNotFoundException("Employee not found"));
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
@@ -136,54 +143,23 @@ public class EmployeeProjectService {
                     project.getDescription() : "";
             String timestamp = LocalDateTime.now().toString();
             String newNote = String.format("\n\n[%s] Employee Update - %s: %s",
-                    timestamp, employee.getFirstName(), request.getNotes());
+                    timestamp, CurrentUser.entity(userRepository, employee).getFirstName(), request.getNotes());
 
             project.setDescription(existingDescription + newNote);
         }
 
         Project updated = projectRepository.save(project);
-        return convertToResponseDTO(updated);
-    }
-
-
-    private ProjectResponseDTO convertToResponseDTO(Project project) {
-        ProjectResponseDTO dto = new ProjectResponseDTO();
-        dto.setId(project.getId());
-        dto.setProjectName(project.getProjectName());
-        dto.setDescription(project.getDescription());
-        dto.setStatus(project.getStatus().name());
-
-        dto.setEstimatedCost(project.getEstimatedCost());
-        dto.setActualCost(project.getActualCost());
-        dto.setEstimatedDurationHours(project.getEstimatedDurationHours());
-        dto.setStartDate(project.getStartDate());
-        dto.setCompletionDate(project.getCompletionDate());
-        dto.setExpectedCompletionDate(project.getExpectedCompletionDate());
-        dto.setProgressPercentage(project.getProgressPercentage());
-
-        User customer = project.getCustomer();
-        dto.setCustomerId(customer.getId());
-        dto.setCustomerName(customer.getFirstName() + " " + customer.getLastName());
-        dto.setCustomerEmail(customer.getEmail());
-        dto.setCustomerPhone(customer.getPhoneNumber());
-
-        Vehicle vehicle = project.getVehicle();
-        dto.setVehicleId(vehicle.getId());
-        dto.setVehicleRegistrationNumber(vehicle.getRegistrationNumber());
-        dto.setVehicleMake(vehicle.getMake());
-        dto.setVehicleModel(vehicle.getModel());
-        dto.setVehicleYear(String.valueOf(vehicle.getYear()));
-
-        if (project.getAssignedEmployee() != null) {
-            User employee = project.getAssignedEmployee();
-            dto.setAssignedEmployeeId(employee.getId());
-            dto.setAssignedEmployeeName(employee.getFirstName() + " " + employee.getLastName());
-            dto.setAssignedEmployeeEmail(employee.getEmail());
-        }
-
-        dto.setCreatedAt(project.getCreatedAt());
-        dto.setUpdatedAt(project.getUpdatedAt());
-
-        return dto;
+        eventPublisher.publishEvent(new ProjectChangedEvent(updated.getId()));
+        eventPublisher.publishEvent(new ProgressEventDTO(
+                "PROJECT",
+                updated.getId(),
+                updated.getCustomer() != null ? updated.getCustomer().getId() : null,
+                currentStatus.name(),
+                targetStatus.name(),
+                updated.getProgressPercentage(),
+                request.getNotes(),
+                LocalDateTime.now()
+        ));
+        return projectMapper.toResponseDTO(updated);
     }
 }
\ No newline at end of file
@@ -0,0 +1,279 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.EmployeeScheduleDTO;
+import com.gearsync.backend.dto.ScheduleEntryDTO;
+import com.gearsync.backend.event.AppointmentChangedEvent;
+import com.gearsync.backend.event.ProjectChangedEvent;
+import com.gearsync.backend.exception.ResourceNotFoundException;
+import com.gearsync.backend.exception.ScheduleConflictException;
+import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.model.Appointment;
+import com.gearsync.backend.model.AppointmentStatus;
+import com.gearsync.backend.model.Project;
+import com.gearsync.backend.model.ProjectStatus;
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.Services;
+import com.gearsync.backend.model.User;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.gearsync.backend.repository.ProjectRepository;
+import com.gearsync.backend.repository.UserRepository;
+import com.gearsync.backend.repository.projection.AppointmentWorkloadView;
+import com.gearsync.backend.repository.projection.ProjectWindowView;
+import com.gearsync.backend.security.AuthenticatedUser;
+import com.gearsync.backend.security.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Committed work windows per employee, held in an interval tree so an
+ * assignment can be checked for overlaps in O(log n) instead of scanning the
+ * employee's appointments and projects. An employee's timeline is loaded on
+ * first use (appointments from history-days back, all active projects) and then
+ * kept current from AppointmentChangedEvent and ProjectChangedEvent.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeScheduleService {
+
+    public static final String APPOINTMENT = "APPOINTMENT";
+    public static final String PROJECT = "PROJECT";
+
+    static final Set<ProjectStatus> ACTIVE_PROJECT_STATUSES =
+            EnumSet.of(ProjectStatus.APPROVED, ProjectStatus.IN_PROGRESS, ProjectStatus.ON_HOLD);
+
+    private final AppointmentRepository appointmentRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final SlotAvailabilityService slotAvailabilityService;
+
+    private final Map<Long, Timeline> timelines = new ConcurrentHashMap<>();
+
+    @Value("${app.schedule.history-days:30}")
+    private int historyDays;
+
+    @Value("${app.schedule.refresh-seconds:60}")
+    private long refreshSeconds;
+
+    public EmployeeScheduleDTO getSchedule(String adminEmail, Long employeeId, LocalDate from, LocalDate to) {
+        validateAdmin(adminEmail);
+
+        User employee = userRepository.findById(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
+        if (employee.getRole() != Role.EMPLOYEE && employee.getRole() != Role.ADMIN) {
+            throw new IllegalArgumentException("Selected user is not an employee");
+        }
+
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = to != null ? to : start.plusDays(6);
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("'to' cannot be before 'from'");
+        }
+        if (start.isBefore(horizon().toLocalDate().plusDays(1))) {
+            throw new IllegalArgumentException("Schedules are only kept for the last " + historyDays + " days");
+        }
+
+        Timeline timeline = timeline(employeeId);
+        List<ScheduleEntryDTO> entries = new ArrayList<>();
+        for (WorkWindow window : timeline.overlapping(start.atStartOfDay(), end.plusDays(1).atStartOfDay())) {
+            // Anything else overlapping this window, besides itself, is a clash
+            boolean conflict = timeline.overlapping(window.start(), window.end()).size() > 1;
+            entries.add(new ScheduleEntryDTO(window.type(), window.id(), window.start(), window.end(), conflict));
+        }
+        return new EmployeeScheduleDTO(employeeId, start, end, entries);
+    }
+
+    public List<WorkWindow> findConflicts(Long employeeId, WorkWindow window) {
+        if (window == null) {
+            return List.of();
+        }
+        List<WorkWindow> conflicts = new ArrayList<>(timeline(employeeId).overlapping(window.start(), window.end()));
+        conflicts.removeIf(other -> other.key() == window.key());
+        return conflicts;
+    }
+
+    public void requireNoConflict(Long employeeId, WorkWindow window) {
+        List<WorkWindow> conflicts = findConflicts(employeeId, window);
+        if (!conflicts.isEmpty()) {
+            WorkWindow first = conflicts.get(0);
+            throw new ScheduleConflictException(String.format(
+                    "Employee is already booked on %s %d from %s to %s",
+                    first.type().toLowerCase(), first.id(), first.start(), first.end()));
+        }
+    }
+
+    public WorkWindow appointmentWindow(Appointment appointment) {
+        if (appointment.getScheduledDateTime() == null) {
+            return null;
+        }
+        int minutes = 0;
+        for (Services service : appointment.getAppointmentServices()) {
+            minutes += service.getEstimatedDurationMinutes();
+        }
+        LocalDateTime start = appointment.getScheduledDateTime();
+        return new WorkWindow(APPOINTMENT, appointment.getId(), start,
+                start.plusMinutes(slotAvailabilityService.effectiveDuration(minutes)));
+    }
+
+    public WorkWindow projectWindow(Project project) {
+        return projectWindow(project.getId(), project.getStartDate(), project.getExpectedCompletionDate(),
+                project.getEstimatedDurationHours());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        Long id = event.appointmentId();
+        if (id == null || timelines.isEmpty()) {
+            return;
+        }
+        // Reassigning moves the window to another employee's timeline
+        long key = WorkWindow.key(APPOINTMENT, id);
+        timelines.values().forEach(timeline -> timeline.remove(key));
+
+        appointmentRepository.findAssignedWorkloadById(id, AppointmentStatus.CANCELLED).ifPresent(row -> {
+            Timeline timeline = timelines.get(row.getEmployeeId());
+            if (timeline != null && !row.getScheduledDateTime().isBefore(horizon())) {
+                timeline.put(appointmentWindow(row));
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Long id = event.projectId();
+        if (id == null || timelines.isEmpty()) {
+            return;
+        }
+        long key = WorkWindow.key(PROJECT, id);
+        timelines.values().forEach(timeline -> timeline.remove(key));
+
+        projectRepository.findWindowById(id, ACTIVE_PROJECT_STATUSES).ifPresent(row -> {
+            Timeline timeline = timelines.get(row.getEmployeeId());
+            WorkWindow window = projectWindow(row);
+            if (timeline != null && window != null) {
+                timeline.put(window);
+            }
+        });
+    }
+
+    int indexedWindows(Long employeeId) {
+        return timeline(employeeId).size();
+    }
+
+    private Timeline timeline(Long employeeId) {
+        long now = System.currentTimeMillis();
+        Timeline timeline = timelines.compute(employeeId, (key, existing) ->
+                existing == null || now - existing.createdAtMillis > refreshSeconds * 1000
+                        ? new Timeline()
+                        : existing);
+        timeline.ensureLoaded(() -> loadTimeline(employeeId));
+        return timeline;
+    }
+
+    private List<WorkWindow> loadTimeline(Long employeeId) {
+        List<WorkWindow> windows = new ArrayList<>();
+        for (AppointmentWorkloadView row : appointmentRepository.findWorkloadByEmployeeFrom(
+                employeeId, horizon(), AppointmentStatus.CANCELLED)) {
+            windows.add(appointmentWindow(row));
+        }
+        for (ProjectWindowView row : projectRepository.findWindowsByEmployee(employeeId, ACTIVE_PROJECT_STATUSES)) {
+            WorkWindow window = projectWindow(row);
+            if (window != null) {
+                windows.add(window);
+            }
+        }
+        return windows;
+    }
+
+    private LocalDateTime horizon() {
+        return LocalDate.now().minusDays(historyDays + 1L).atStartOfDay();
+    }
+
+    private WorkWindow appointmentWindow(AppointmentWorkloadView row) {
+        LocalDateTime start = row.getScheduledDateTime();
+        return new WorkWindow(APPOINTMENT, row.getId(), start,
+                start.plusMinutes(slotAvailabilityService.effectiveDuration(row.getDurationMinutes())));
+    }
+
+    private WorkWindow projectWindow(ProjectWindowView row) {
+        return projectWindow(row.getId(), row.getStartDate(), row.getExpectedCompletionDate(),
+                row.getEstimatedDurationHours());
+    }
+
+    // A project without a start or expected completion date has no window yet
+    private WorkWindow projectWindow(Long id, LocalDateTime startDate, LocalDateTime expectedCompletion,
+                                     Integer estimatedHours) {
+        long hours = estimatedHours != null && estimatedHours > 0 ? estimatedHours : 1;
+        LocalDateTime start = startDate != null ? startDate
+                : expectedCompletion != null ? expectedCompletion.minusHours(hours) : null;
+        if (start == null) {
+            return null;
+        }
+        LocalDateTime end = expectedCompletion != null && expectedCompletion.isAfter(start)
+                ? expectedCompletion
+                : start.plusHours(hours);
+        return new WorkWindow(PROJECT, id, start, end);
+    }
+
+    private void validateAdmin(String email) {
+        AuthenticatedUser user = CurrentUser.resolve(userRepository, email,
+                () -> new ResourceNotFoundException("User not found"));
+
+        if (user.getRole() != Role.ADMIN) {
+            throw new UnauthorizedException("Only admins can access this resource");
+        }
+    }
+
+    public record WorkWindow(String type, Long id, LocalDateTime start, LocalDateTime end) {
+
+        // Appointment and project ids share one tree, so projects go on the negative side
+        long key() {
+            return key(type, id);
+        }
+
+        static long key(String type, Long id) {
+            return PROJECT.equals(type) ? -id : id;
+        }
+    }
+
+    private static final class Timeline {
+        private final IntervalTree<WorkWindow> tree = new IntervalTree<>();
+        private final long createdAtMillis = System.currentTimeMillis();
+        private boolean loaded;
+
+        synchronized void ensureLoaded(Supplier<List<WorkWindow>> loader) {
+            if (loaded) {
+                return;
+            }
+            loader.get().forEach(this::put);
+            loaded = true;
+        }
+
+        synchronized void put(WorkWindow window) {
+            tree.put(window.key(), window.start(), window.end(), window);
+        }
+
+        synchronized void remove(long key) {
+            tree.remove(key);
+        }
+
+        synchronized List<WorkWindow> overlapping(LocalDateTime from, LocalDateTime to) {
+            return tree.overlapping(from, to);
+        }
+
+        synchronized int size() {
+            return tree.size();
+        }
+    }
+}
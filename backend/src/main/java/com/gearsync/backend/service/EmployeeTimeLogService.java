@@ -1,10 +1,16 @@
 package com.gearsync.backend.service;
 
 import com.gearsync.backend.dto.*;
+import com.gearsync.backend.event.AppointmentChangedEvent;
+import com.gearsync.backend.event.ProjectChangedEvent;
 import com.gearsync.backend.exception.*;
+import com.gearsync.backend.mapper.TimeLogMapper;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.*;
+import com.gearsync.backend.security.AuthenticatedUser;
+import com.gearsync.backend.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,12 +27,14 @@ public class EmployeeTimeLogService {
     private final AppointmentRepository appointmentRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final TimeLogMapper timeLogMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TimeLogResponseDTO createTimeLog(String employeeEmail, TimeLogRequestDTO request) {
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+        AuthenticatedUser employee = CurrentUser.resolve(userRepository, employeeEmail,
+                () -> new ResourceNotFoundException("Employee not found"));
 
         if (employee.getRole() != Role.EMPLOYEE && employee.getRole() != Role.ADMIN) {
             throw new UnauthorizedException("Only employees can log time");
@@ -50,7 +58,7 @@ public class EmployeeTimeLogService {
 
 
         TimeLog timeLog = new TimeLog();
-        timeLog.setEmployee(employee);
+        timeLog.setEmployee(CurrentUser.entity(userRepository, employee));
         timeLog.setStartTime(request.getStartTime());
         timeLog.setEndTime(request.getEndTime());
         timeLog.setWorkDescription(request.getWorkDescription().trim());
@@ -77,12 +85,24 @@ public class EmployeeTimeLogService {
             
             // Automatically mark appointment as COMPLETED when time log is created
             if (appointment.getStatus() != AppointmentStatus.COMPLETED) {
+                AppointmentStatus previousStatus = appointment.getStatus();
                 appointment.setStatus(AppointmentStatus.COMPLETED);
                 appointment.setActualEndTime(request.getEndTime());
                 if (appointment.getActualStartTime() == null) {
                     appointment.setActualStartTime(request.getStartTime());
                 }
                 appointmentRepository.save(appointment);
+                eventPublisher.publishEvent(new AppointmentChangedEvent(appointment.getId()));
+                eventPublisher.publishEvent(new ProgressEventDTO(
+                        "APPOINTMENT",
+                        appointment.getId(),
+                        appointment.getCustomer() != null ? appointment.getCustomer().getId() : null,
+                        previousStatus != null ? previousStatus.name() : null,
+                        AppointmentStatus.COMPLETED.name(),
+                        appointment.getProgressPercentage(),
+                        null,
+                        LocalDateTime.now()
+                ));
             }
         } else {
             Project project = projectRepository.findById(request.getProjectId())
@@ -99,24 +119,36 @@ public class EmployeeTimeLogService {
             
             // Automatically mark project as COMPLETED when time log is created
             if (project.getStatus() != ProjectStatus.COMPLETED) {
+                ProjectStatus previousStatus = project.getStatus();
                 project.setStatus(ProjectStatus.COMPLETED);
                 project.setCompletionDate(request.getEndTime());
                 if (project.getStartDate() == null) {
                     project.setStartDate(request.getStartTime());
                 }
                 projectRepository.save(project);
+                eventPublisher.publishEvent(new ProjectChangedEvent(project.getId()));
+                eventPublisher.publishEvent(new ProgressEventDTO(
+                        "PROJECT",
+                        project.getId(),
+                        project.getCustomer() != null ? project.getCustomer().getId() : null,
+                        previousStatus != null ? previousStatus.name() : null,
+                        ProjectStatus.COMPLETED.name(),
+                        project.getProgressPercentage(),
+                        null,
+                        LocalDateTime.now()
+                ));
             }
         }
 
         TimeLog savedTimeLog = timeLogRepository.save(timeLog);
-        return convertToResponseDTO(savedTimeLog);
+        return timeLogMapper.toResponseDTO(savedTimeLog);
     }
 
     @Transactional(readOnly = true)
     public List<TimeLogResponseDTO> getTimeLogsForAppointment(String employeeEmail, Long appointmentId) {
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+        AuthenticatedUser employee = CurrentUser.resolve(userRepository, employeeEmail,
+                () -> new ResourceNotFoundException("Employee not found"));
 
         Appointment appointment = appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found"));
@@ -129,15 +161,15 @@ public class EmployeeTimeLogService {
         List<TimeLog> timeLogs = timeLogRepository.findByAppointmentId(appointmentId);
 
         return timeLogs.stream()
-                .map(this::convertToResponseDTO)
+                .map(timeLogMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<TimeLogResponseDTO> getTimeLogsForProject(String employeeEmail, Long projectId) {
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+        AuthenticatedUser employee = CurrentUser.resolve(userRepository, employeeEmail,
+                () -> new ResourceNotFoundException("Employee not found"));
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
@@ -150,20 +182,20 @@ public class EmployeeTimeLogService {
         List<TimeLog> timeLogs = timeLogRepository.findByProjectId(projectId);
 
         return timeLogs.stream()
-                .map(this::convertToResponseDTO)
+                .map(timeLogMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<TimeLogResponseDTO> getMyTimeLogs(String employeeEmail) {
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+        AuthenticatedUser employee = CurrentUser.resolve(userRepository, employeeEmail,
+                () -> new ResourceNotFoundException("Employee not found"));
 
         List<TimeLog> timeLogs = timeLogRepository.findByEmployeeId(employee.getId());
 
         return timeLogs.stream()
-                .map(this::convertToResponseDTO)
+                .map(timeLogMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
@@ -171,8 +203,8 @@ public class EmployeeTimeLogService {
     @Transactional
     public TimeLogResponseDTO updateTimeLog(String employeeEmail, Long timeLogId, TimeLogUpdateDTO request) {
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+        AuthenticatedUser employee = CurrentUser.resolve(userRepository, employeeEmail,
+                () -> new ResourceNotFoundException("Employee not found"));
 
         TimeLog timeLog = timeLogRepository.findById(timeLogId)
                 .orElseThrow(() -> new ResourceNotFoundException("Time log not found with ID: " + timeLogId));
@@ -223,15 +255,15 @@ public class EmployeeTimeLogService {
 
         TimeLog updated = timeLogRepository.save(timeLog);
 
-        return convertToResponseDTO(updated);
+        return timeLogMapper.toResponseDTO(updated);
     }
 
 
     @Transactional
     public void deleteTimeLog(String employeeEmail, Long timeLogId) {
 
-        User employee = userRepository.findByEmail(employeeEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+        AuthenticatedUser employee = CurrentUser.resolve(userRepository, employeeEmail,
+                () -> new ResourceNotFoundException("Employee not found"));
 
         TimeLog timeLog = timeLogRepository.findById(timeLogId)
                 .orElseThrow(() -> new ResourceNotFoundException("Time log not found with ID: " + timeLogId));
@@ -242,40 +274,4 @@ public class EmployeeTimeLogService {
 
         timeLogRepository.delete(timeLog);
     }
-
-
-    private TimeLogResponseDTO convertToResponseDTO(TimeLog timeLog) {
-        TimeLogResponseDTO dto = new TimeLogResponseDTO();
-        dto.setId(timeLog.getId());
-        dto.setStartTime(timeLog.getStartTime());
-        dto.setEndTime(timeLog.getEndTime());
-        dto.setDurationMinutes(timeLog.getDurationMinutes());
-        dto.setWorkDescription(timeLog.getWorkDescription());
-        dto.setNotes(timeLog.getNotes());
-
-        User employee = timeLog.getEmployee();
-        dto.setEmployeeId(employee.getId());
-        dto.setEmployeeName(employee.getFirstName() + " " + employee.getLastName());
-        dto.setEmployeeEmail(employee.getEmail());
-
-        if (timeLog.getAppointment() != null) {
-            Appointment appointment = timeLog.getAppointment();
-            dto.setAppointmentId(appointment.getId());
-            dto.setAppointmentDescription(
-                    "Appointment #" + appointment.getId() + " - " +
-                            appointment.getVehicle().getRegistrationNumber()
-            );
-        }
-
-        if (timeLog.getProject() != null) {
-            Project project = timeLog.getProject();
-            dto.setProjectId(project.getId());
-            dto.setProjectName(project.getProjectName());
-        }
-
-        dto.setCreatedAt(timeLog.getCreatedAt());
-        dto.setUpdatedAt(timeLog.getUpdatedAt());
-
-        return dto;
-    }
 }
\ No newline at end of file
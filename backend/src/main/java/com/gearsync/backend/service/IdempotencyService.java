@@ -0,0 +1,192 @@
+package com.gearsync.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gearsync.backend.model.IdempotencyRecord;
+import com.gearsync.backend.repository.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Makes POST endpoints safe to retry with an Idempotency-Key header. The key
+ * is recorded in the same transaction as the work it guards: a concurrent
+ * retry blocks on the unique key until the first attempt commits and then
+ * replays its response, and a failed attempt leaves no record behind so it
+ * can be retried. Only successful responses are stored. Recent responses are
+ * also kept in memory so most retries never reach the database.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${app.idempotency.cache-size:10000}")
+    private int cacheSize;
+
+    // Least recently used first; guarded by itself
+    private final Map<String, StoredResponse> recent = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Runs the action once per (endpoint, caller, key). Without a key the
+     * action simply runs. A key reused with a different request body is
+     * rejected with 422.
+     */
+    public ResponseEntity<?> execute(String endpoint,
+                                     String caller,
+                                     String key,
+                                     Object request,
+                                     Supplier<ResponseEntity<?>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest().body(HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String scope = endpoint + " " + caller;
+        String requestHash = hash(request);
+        StoredResponse cached = cached(scope, key);
+        if (cached != null) {
+            return replay(cached, requestHash);
+        }
+
+        try {
+            return runOnce(scope, key, requestHash, action);
+        } catch (DataIntegrityViolationException e) {
+            // Another attempt with this key committed first
+            IdempotencyRecord existing = idempotencyRecordRepository.findByScopeAndIdempotencyKey(scope, key)
+                    .orElseThrow(() -> e);
+            if (existing.getExpiresAt().isAfter(LocalDateTime.now())) {
+                StoredResponse stored = StoredResponse.of(existing);
+                remember(scope, key, stored);
+                return replay(stored, requestHash);
+            }
+            // Expired but not cleaned up yet; it no longer counts
+            idempotencyRecordRepository.delete(existing);
+            return runOnce(scope, key, requestHash, action);
+        }
+    }
+
+    private ResponseEntity<?> runOnce(String scope, String key, String requestHash,
+                                      Supplier<ResponseEntity<?>> action) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setScope(scope);
+        record.setIdempotencyKey(key);
+        record.setRequestHash(requestHash);
+        record.setExpiresAt(LocalDateTime.now().plusHours(ttlHours));
+
+        ResponseEntity<?> response = transactionTemplate.execute(status -> {
+            idempotencyRecordRepository.saveAndFlush(record);
+            ResponseEntity<?> result = action.get();
+            if (result == null || !result.getStatusCode().is2xxSuccessful()) {
+                // Drops the key together with whatever the action did, so the client can retry
+                status.setRollbackOnly();
+                return result;
+            }
+            record.setStatusCode(result.getStatusCode().value());
+            record.setResponseBody(toJson(result.getBody()));
+            return result;
+        });
+
+        if (record.getStatusCode() != null) {
+            remember(scope, key, StoredResponse.of(record));
+        }
+        return response;
+    }
+
+    private ResponseEntity<?> replay(StoredResponse stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(HEADER + " was already used for a different request");
+        }
+        try {
+            Object body = stored.body() == null ? null : objectMapper.readTree(stored.body());
+            return ResponseEntity.status(stored.statusCode()).header(REPLAYED_HEADER, "true").body(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response is not valid JSON", e);
+        }
+    }
+
+    private StoredResponse cached(String scope, String key) {
+        synchronized (recent) {
+            StoredResponse stored = recent.get(scope + "\n" + key);
+            if (stored != null && !stored.expiresAt().isAfter(LocalDateTime.now())) {
+                recent.remove(scope + "\n" + key);
+                return null;
+            }
+            return stored;
+        }
+    }
+
+    private void remember(String scope, String key, StoredResponse stored) {
+        synchronized (recent) {
+            recent.put(scope + "\n" + key, stored);
+            if (recent.size() > cacheSize) {
+                recent.remove(recent.keySet().iterator().next());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval-ms:3600000}")
+    public void evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (recent) {
+            recent.values().removeIf(stored -> !stored.expiresAt().isAfter(now));
+        }
+        int deleted = idempotencyRecordRepository.deleteExpired(now);
+        if (deleted > 0) {
+            log.debug("Removed {} expired idempotency records", deleted);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Could not hash idempotent request", e);
+        }
+    }
+
+    private String toJson(Object body) {
+        try {
+            return body == null ? null : objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not store idempotent response", e);
+        }
+    }
+
+    private record StoredResponse(String requestHash, int statusCode, String body, LocalDateTime expiresAt) {
+        static StoredResponse of(IdempotencyRecord record) {
+            return new StoredResponse(record.getRequestHash(), record.getStatusCode(),
+                    record.getResponseBody(), record.getExpiresAt());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.gearsync.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Half-open [start, end) intervals keyed by id, stored in a treap ordered by
+ * start and augmented with the latest end in each subtree. Insert and remove
+ * are O(log n) expected; an overlap query is O(log n + k) because any subtree
+ * whose latest end is not after the query start is skipped. Not thread-safe.
+ */
+final class IntervalTree<T> {
+
+    private Node<T> root;
+    private final Map<Long, Node<T>> byId = new HashMap<>();
+
+    void put(long id, LocalDateTime start, LocalDateTime end, T value) {
+        remove(id);
+        Node<T> node = new Node<>(id, start, end, value, ThreadLocalRandom.current().nextInt());
+        root = insert(root, node);
+        byId.put(id, node);
+    }
+
+    boolean remove(long id) {
+        Node<T> node = byId.remove(id);
+        if (node == null) {
+            return false;
+        }
+        root = delete(root, node);
+        return true;
+    }
+
+    T get(long id) {
+        Node<T> node = byId.get(id);
+        return node == null ? null : node.value;
+    }
+
+    // Everything overlapping [from, to), in start order
+    List<T> overlapping(LocalDateTime from, LocalDateTime to) {
+        List<T> result = new ArrayList<>();
+        collect(root, from, to, result);
+        return result;
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    private static <T> void collect(Node<T> node, LocalDateTime from, LocalDateTime to, List<T> result) {
+        if (node == null || !node.maxEnd.isAfter(from)) {
+            return;
+        }
+        collect(node.left, from, to, result);
+        if (!node.start.isBefore(to)) {
+            // This node and its whole right subtree start too late
+            return;
+        }
+        if (node.end.isAfter(from)) {
+            result.add(node.value);
+        }
+        collect(node.right, from, to, result);
+    }
+
+    private static <T> Node<T> insert(Node<T> node, Node<T> added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.compareTo(node) < 0) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private static <T> Node<T> delete(Node<T> node, Node<T> removed) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = removed.compareTo(node);
+        if (cmp < 0) {
+            node.left = delete(node.left, removed);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, removed);
+        } else {
+            node = merge(node.left, node.right);
+        }
+        if (node != null) {
+            node.update();
+        }
+        return node;
+    }
+
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static final class Node<T> implements Comparable<Node<T>> {
+        final long id;
+        final LocalDateTime start;
+        final LocalDateTime end;
+        final T value;
+        final int priority;
+        LocalDateTime maxEnd;
+        Node<T> left;
+        Node<T> right;
+
+        Node(long id, LocalDateTime start, LocalDateTime end, T value, int priority) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        void update() {
+            maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+
+        @Override
+        public int compareTo(Node<T> other) {
+            int cmp = start.compareTo(other.start);
+            return cmp != 0 ? cmp : Long.compare(id, other.id);
+        }
+    }
+}
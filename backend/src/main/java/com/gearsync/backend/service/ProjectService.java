@@ -2,8 +2,11 @@ package com.gearsync.backend.service;
 
 import com.gearsync.backend.dto.*;
 import com.gearsync.backend.exception.*;
+import com.gearsync.backend.mapper.ProjectMapper;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.*;
+import com.gearsync.backend.security.AuthenticatedUser;
+import com.gearsync.backend.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,13 +23,14 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final VehicleRepository vehicleRepository;
+    private final ProjectMapper projectMapper;
 
 
     @Transactional
     public ProjectResponseDTO createProject(String customerEmail, ProjectRequestDTO request) {
 
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+        AuthenticatedUser customer = CurrentUser.resolve(userRepository, customerEmail,
+                () -> new ResourceNotFoundException("Customer not found"));
 
         if (customer.getRole() != Role.CUSTOMER) {
             throw new UnauthorizedException("Only customers can create project requests");
@@ -41,7 +45,7 @@ public class ProjectService {
 
 
         Project project = new Project();
-        project.setCustomer(customer);
+        project.setCustomer(CurrentUser.entity(userRepository, customer));
         project.setVehicle(vehicle);
         project.setProjectName(capitalizeWords(request.getProjectName().trim()));
         project.setDescription(request.getDescription().trim());
@@ -56,40 +60,40 @@ public class ProjectService {
 
         Project savedProject = projectRepository.save(project);
 
-        return convertToResponseDTO(savedProject);
+        return projectMapper.toResponseDTO(savedProject);
     }
 
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getMyProjects(String customerEmail) {
 
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+        AuthenticatedUser customer = CurrentUser.resolve(userRepository, customerEmail,
+                () -> new ResourceNotFoundException("Customer not found"));
 
-        List<Project> projects = projectRepository.findByCustomerId(customer.getId());
+        List<Project> projects = projectRepository.findWithDetailsByCustomerId(customer.getId());
 
         return projects.stream()
-                .map(this::convertToResponseDTO)
+                .map(projectMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getMyActiveProjects(String customerEmail) {
 
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+        AuthenticatedUser customer = CurrentUser.resolve(userRepository, customerEmail,
+                () -> new ResourceNotFoundException("Customer not found"));
 
         List<Project> projects = projectRepository.findActiveProjectsByCustomer(customer.getId());
 
         return projects.stream()
-                .map(this::convertToResponseDTO)
+                .map(projectMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public ProjectResponseDTO getProjectById(String userEmail, Long projectId) {
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        AuthenticatedUser user = CurrentUser.resolve(userRepository, userEmail,
+                () -> new ResourceNotFoundException("User not found"));
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
@@ -100,15 +104,15 @@ public class ProjectService {
             }
         }
 
-        return convertToResponseDTO(project);
+        return projectMapper.toResponseDTO(project);
     }
 
 
     @Transactional
     public ProjectResponseDTO updateProject(String customerEmail, Long projectId, ProjectUpdateRequestDTO request) {
 
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+        AuthenticatedUser customer = CurrentUser.resolve(userRepository, customerEmail,
+                () -> new ResourceNotFoundException("Customer not found"));
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
@@ -155,15 +159,15 @@ public class ProjectService {
         }
 
         Project updatedProject = projectRepository.save(project);
-        return convertToResponseDTO(updatedProject);
+        return projectMapper.toResponseDTO(updatedProject);
     }
 
     @Transactional
     public void deleteProject(String customerEmail, Long projectId) {
         log.info("Deleting project {} for customer: {}", projectId, customerEmail);
 
-        User customer = userRepository.findByEmail(customerEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+        AuthenticatedUser customer = CurrentUser.resolve(userRepository, customerEmail,
+                () -> new ResourceNotFoundException("Customer not found"));
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
@@ -195,48 +199,6 @@ public class ProjectService {
         projectRepository.delete(project);
     }
 
-
-    private ProjectResponseDTO convertToResponseDTO(Project project) {
-        ProjectResponseDTO dto = new ProjectResponseDTO();
-        dto.setId(project.getId());
-        dto.setProjectName(project.getProjectName());
-        dto.setDescription(project.getDescription());
-        dto.setStatus(project.getStatus().name());
-
-        dto.setEstimatedCost(project.getEstimatedCost());
-        dto.setActualCost(project.getActualCost());
-        dto.setEstimatedDurationHours(project.getEstimatedDurationHours());
-        dto.setStartDate(project.getStartDate());
-        dto.setCompletionDate(project.getCompletionDate());
-        dto.setExpectedCompletionDate(project.getExpectedCompletionDate());
-        dto.setProgressPercentage(project.getProgressPercentage());
-
-        User customer = project.getCustomer();
-        dto.setCustomerId(customer.getId());
-        dto.setCustomerName(customer.getFirstName() + " " + customer.getLastName());
-        dto.setCustomerEmail(customer.getEmail());
-        dto.setCustomerPhone(customer.getPhoneNumber());
-
-        Vehicle vehicle = project.getVehicle();
-        dto.setVehicleId(vehicle.getId());
-        dto.setVehicleRegistrationNumber(vehicle.getRegistrationNumber());
-        dto.setVehicleMake(vehicle.getMake());
-        dto.setVehicleModel(vehicle.getModel());
-        dto.setVehicleYear(String.valueOf(vehicle.getYear()));
-
-        if (project.getAssignedEmployee() != null) {
-            User employee = project.getAssignedEmployee();
-            dto.setAssignedEmployeeId(employee.getId());
-            dto.setAssignedEmployeeName(employee.getFirstName() + " " + employee.getLastName());
-            dto.setAssignedEmployeeEmail(employee.getEmail());
-        }
-
-        dto.setCreatedAt(project.getCreatedAt());
-        dto.setUpdatedAt(project.getUpdatedAt());
-
-        return dto;
-    }
-
     private String capitalizeWords(String input) {
         if (input == null || input.isEmpty()) {
             return input;
@@ -0,0 +1,49 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.RuntimeMetricsDTO;
+import com.gearsync.backend.model.EmailStatus;
+import com.gearsync.backend.repository.EmailOutboxRepository;
+import com.gearsync.backend.security.JwtUtil;
+import com.gearsync.backend.websocket.WebSocketEventListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Counters the node keeps in memory, exposed to admins since there is no
+ * metrics registry. Values are per node and reset on restart.
+ */
+@Service
+@RequiredArgsConstructor
+public class RuntimeMetricsService {
+
+    private final JwtUtil jwtUtil;
+    private final EmailOutboxService emailOutboxService;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final WebSocketEventListener webSocketEventListener;
+
+    public RuntimeMetricsDTO getMetrics() {
+        RuntimeMetricsDTO dto = new RuntimeMetricsDTO();
+
+        long hits = jwtUtil.getTokenCacheHits();
+        long misses = jwtUtil.getTokenCacheMisses();
+        dto.setTokenCacheHits(hits);
+        dto.setTokenCacheMisses(misses);
+        dto.setTokenCacheSize(jwtUtil.getTokenCacheSize());
+        dto.setTokenCacheHitRate(hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+
+        EmailDispatchMetrics email = emailOutboxService.getMetrics();
+        dto.setEmailsSent(email.getSent());
+        dto.setEmailsFailed(email.getFailed());
+        dto.setEmailBatches(email.getBatches());
+        dto.setEmailMessagesPerSecond(email.getMessagesPerSecond());
+        // The backlog is shared by all nodes, so it comes from the table rather than this node's counters
+        dto.setEmailsPending(emailOutboxRepository.countByStatus(EmailStatus.PENDING));
+
+        dto.setWebSocketSessions(webSocketEventListener.getOpenSessionCount());
+
+        dto.setGeneratedAt(LocalDateTime.now());
+        return dto;
+    }
+}
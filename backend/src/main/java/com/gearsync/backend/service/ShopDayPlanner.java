@@ -0,0 +1,148 @@
+package com.gearsync.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Packs one day's appointments onto employees and service bays. Time is
+ * walked forward from the moment the next employee and bay are both free;
+ * of the jobs whose booked time has come, the shortest goes first, which
+ * fits the most jobs before closing. A job never starts before its booked
+ * time, one already assigned stays with its employee, and one that cannot
+ * finish by closing, or whose employee is not on duty, is left unplanned.
+ *
+ * Slots passed in as fixed (work already under way) hold their employee and
+ * bay until they end, which is what lets a day be re-planned from "now"
+ * without moving anything that has started. Runs in O(n log n + n(e + b))
+ * for n jobs, e employees and b bays.
+ */
+public final class ShopDayPlanner {
+
+    public record Job(Long appointmentId, LocalDateTime bookedAt, int minutes, Long employeeId) {
+    }
+
+    public record Slot(Long appointmentId, Long employeeId, int bay, LocalDateTime start, LocalDateTime end) {
+    }
+
+    public record Plan(List<Slot> slots, List<Long> unplanned) {
+    }
+
+    private final List<Long> employeeIds;
+    private final int bays;
+    private final LocalDateTime open;
+    private final LocalDateTime close;
+
+    public ShopDayPlanner(List<Long> employeeIds, int bays, LocalDateTime open, LocalDateTime close) {
+        if (bays <= 0 || !close.isAfter(open)) {
+            throw new IllegalArgumentException("Invalid shop plan configuration");
+        }
+        this.employeeIds = List.copyOf(employeeIds);
+        this.bays = bays;
+        this.open = open;
+        this.close = close;
+    }
+
+    public Plan plan(List<Job> jobs, List<Slot> fixed, LocalDateTime notBefore) {
+        int employees = employeeIds.size();
+        Map<Long, Integer> employeeIndex = new HashMap<>();
+        for (int i = 0; i < employees; i++) {
+            employeeIndex.put(employeeIds.get(i), i);
+        }
+
+        // Minutes after opening at which each employee and bay are next free
+        int start = Math.max(0, minutesOf(notBefore));
+        int closing = minutesOf(close);
+        int[] employeeFree = new int[employees];
+        int[] bayFree = new int[bays];
+        Arrays.fill(employeeFree, start);
+        Arrays.fill(bayFree, start);
+        for (Slot slot : fixed) {
+            int end = minutesOf(slot.end());
+            Integer employee = employeeIndex.get(slot.employeeId());
+            if (employee != null) {
+                employeeFree[employee] = Math.max(employeeFree[employee], end);
+            }
+            if (slot.bay() >= 0 && slot.bay() < bays) {
+                bayFree[slot.bay()] = Math.max(bayFree[slot.bay()], end);
+            }
+        }
+
+        List<Job> byBookedTime = new ArrayList<>(jobs);
+        byBookedTime.sort(Comparator.comparing(Job::bookedAt).thenComparing(Job::appointmentId));
+        PriorityQueue<Job> ready = new PriorityQueue<>(
+                Comparator.comparingInt(Job::minutes)
+                        .thenComparing(Job::bookedAt)
+                        .thenComparing(Job::appointmentId));
+
+        List<Slot> slots = new ArrayList<>(jobs.size());
+        List<Long> unplanned = new ArrayList<>();
+        int next = 0;
+        while (next < byBookedTime.size() || !ready.isEmpty()) {
+            int now = Math.max(min(bayFree), employees == 0 ? start : min(employeeFree));
+            while (next < byBookedTime.size() && minutesOf(byBookedTime.get(next).bookedAt()) <= now) {
+                ready.add(byBookedTime.get(next++));
+            }
+            if (ready.isEmpty()) {
+                // Nobody is waiting yet, so skip ahead to the next booking
+                int bookedAt = minutesOf(byBookedTime.get(next).bookedAt());
+                while (next < byBookedTime.size() && minutesOf(byBookedTime.get(next).bookedAt()) <= bookedAt) {
+                    ready.add(byBookedTime.get(next++));
+                }
+            }
+
+            Job job = ready.poll();
+            int employee;
+            if (job.employeeId() == null) {
+                employee = argMin(employeeFree);
+            } else {
+                // Assigned to someone who is not on duty: reassigning is not the planner's call
+                employee = employeeIndex.getOrDefault(job.employeeId(), -1);
+            }
+            int bay = argMin(bayFree);
+            if (employee < 0) {
+                unplanned.add(job.appointmentId());
+                continue;
+            }
+
+            int begin = Math.max(Math.max(minutesOf(job.bookedAt()), start),
+                    Math.max(employeeFree[employee], bayFree[bay]));
+            int end = begin + job.minutes();
+            if (end > closing) {
+                unplanned.add(job.appointmentId());
+                continue;
+            }
+            employeeFree[employee] = end;
+            bayFree[bay] = end;
+            slots.add(new Slot(job.appointmentId(), employeeIds.get(employee), bay,
+                    open.plusMinutes(begin), open.plusMinutes(end)));
+        }
+
+        slots.sort(Comparator.comparing(Slot::start).thenComparingInt(Slot::bay));
+        return new Plan(slots, unplanned);
+    }
+
+    private int minutesOf(LocalDateTime time) {
+        return (int) Duration.between(open, time).toMinutes();
+    }
+
+    private static int min(int[] values) {
+        return values[argMin(values)];
+    }
+
+    private static int argMin(int[] values) {
+        int best = -1;
+        for (int i = 0; i < values.length; i++) {
+            if (best < 0 || values[i] < values[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+}
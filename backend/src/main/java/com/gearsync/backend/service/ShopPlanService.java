@@ -0,0 +1,249 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.ShopPlanDTO;
+import com.gearsync.backend.dto.ShopPlanSlotDTO;
+import com.gearsync.backend.event.AppointmentChangedEvent;
+import com.gearsync.backend.exception.ResourceNotFoundException;
+import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.model.AppointmentStatus;
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.User;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.gearsync.backend.repository.UserRepository;
+import com.gearsync.backend.repository.projection.AppointmentWorkloadView;
+import com.gearsync.backend.security.AuthenticatedUser;
+import com.gearsync.backend.security.CurrentUser;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Day plans that pack appointments onto employees and service bays. A day's
+ * jobs and the active employees are read once; after that each
+ * AppointmentChangedEvent only updates the one job and marks the day for
+ * re-planning. Re-planning keeps every slot that has already started where it
+ * is and packs the rest from now on.
+ */
+@Service
+@RequiredArgsConstructor
+public class ShopPlanService {
+
+    static final Set<AppointmentStatus> PLANNED_STATUSES = EnumSet.of(AppointmentStatus.SCHEDULED,
+            AppointmentStatus.CONFIRMED, AppointmentStatus.IN_PROGRESS, AppointmentStatus.RESCHEDULED);
+
+    private final AppointmentRepository appointmentRepository;
+    private final UserRepository userRepository;
+    private final SlotAvailabilityService slotAvailabilityService;
+
+    private final Map<LocalDate, DayPlan> days = new ConcurrentHashMap<>();
+
+    @Value("${app.booking.open-time:08:00}")
+    private String openTimeValue;
+
+    @Value("${app.booking.close-time:18:00}")
+    private String closeTimeValue;
+
+    @Value("${app.plan.bays:4}")
+    private int bays;
+
+    @Value("${app.plan.refresh-seconds:60}")
+    private long refreshSeconds;
+
+    private LocalTime openTime;
+    private LocalTime closeTime;
+
+    @PostConstruct
+    public void init() {
+        openTime = LocalTime.parse(openTimeValue);
+        closeTime = LocalTime.parse(closeTimeValue);
+        if (bays <= 0 || !closeTime.isAfter(openTime)) {
+            throw new IllegalStateException("Invalid shop plan configuration");
+        }
+    }
+
+    public ShopPlanDTO getPlan(String adminEmail, LocalDate date) {
+        validateAdmin(adminEmail);
+
+        LocalDate day = date != null ? date : LocalDate.now();
+        if (day.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("Cannot plan a past date");
+        }
+
+        DayPlan dayPlan = dayPlan(day);
+        ShopDayPlanner.Plan plan = dayPlan.current(LocalDateTime.now());
+        Map<Long, String> names = dayPlan.employeeNames();
+
+        ShopPlanDTO result = new ShopPlanDTO();
+        result.setDate(day);
+        result.setBays(bays);
+        for (ShopDayPlanner.Slot slot : plan.slots()) {
+            LocalDateTime bookedAt = dayPlan.bookedAt(slot.appointmentId());
+            long delay = bookedAt != null && slot.start().isAfter(bookedAt)
+                    ? Duration.between(bookedAt, slot.start()).toMinutes()
+                    : 0;
+            result.getSlots().add(new ShopPlanSlotDTO(slot.appointmentId(), slot.employeeId(),
+                    names.get(slot.employeeId()), slot.bay() + 1, slot.start(), slot.end(), delay));
+        }
+        result.getUnplannedAppointmentIds().addAll(plan.unplanned());
+        return result;
+    }
+
+    ShopDayPlanner.Plan plan(LocalDate date, LocalDateTime now) {
+        return dayPlan(date).current(now);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        Long id = event.appointmentId();
+        if (id == null || days.isEmpty()) {
+            return;
+        }
+        // Rescheduling can move the job to another day
+        days.values().forEach(day -> day.remove(id));
+
+        appointmentRepository.findWorkloadById(id, PLANNED_STATUSES).ifPresent(row -> {
+            DayPlan day = days.get(row.getScheduledDateTime().toLocalDate());
+            if (day != null) {
+                day.put(toJob(row));
+            }
+        });
+    }
+
+    @Scheduled(cron = "${app.booking.availability.evict-cron:0 5 0 * * *}")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        days.keySet().removeIf(day -> day.isBefore(today));
+    }
+
+    private DayPlan dayPlan(LocalDate date) {
+        long now = System.currentTimeMillis();
+        DayPlan day = days.compute(date, (key, existing) ->
+                existing == null || now - existing.createdAtMillis > refreshSeconds * 1000
+                        ? new DayPlan(date, existing != null ? existing.lastPlan() : null)
+                        : existing);
+        day.ensureLoaded();
+        return day;
+    }
+
+    private ShopDayPlanner.Job toJob(AppointmentWorkloadView row) {
+        return new ShopDayPlanner.Job(row.getId(), row.getScheduledDateTime(),
+                slotAvailabilityService.effectiveDuration(row.getDurationMinutes()), row.getEmployeeId());
+    }
+
+    private void validateAdmin(String email) {
+        AuthenticatedUser user = CurrentUser.resolve(userRepository, email,
+                () -> new ResourceNotFoundException("User not found"));
+
+        if (user.getRole() != Role.ADMIN) {
+            throw new UnauthorizedException("Only admins can access this resource");
+        }
+    }
+
+    private final class DayPlan {
+        private final LocalDate date;
+        private final long createdAtMillis = System.currentTimeMillis();
+        private final Map<Long, ShopDayPlanner.Job> jobs = new HashMap<>();
+        private final Map<Long, String> employeeNames = new HashMap<>();
+        private ShopDayPlanner planner;
+        // plan is dropped whenever a job changes; previous survives to keep started slots in place
+        private ShopDayPlanner.Plan plan;
+        private ShopDayPlanner.Plan previous;
+        private boolean loaded;
+
+        DayPlan(LocalDate date, ShopDayPlanner.Plan previous) {
+            this.date = date;
+            this.previous = previous;
+        }
+
+        synchronized void ensureLoaded() {
+            if (loaded) {
+                return;
+            }
+            List<Long> employeeIds = new ArrayList<>();
+            for (User employee : userRepository.findActiveEmployees()) {
+                employeeIds.add(employee.getId());
+                employeeNames.put(employee.getId(), employee.getFirstName() + " " + employee.getLastName());
+            }
+            planner = new ShopDayPlanner(employeeIds, bays, date.atTime(openTime), date.atTime(closeTime));
+            for (AppointmentWorkloadView row : appointmentRepository.findWorkloadBetween(
+                    date.atStartOfDay(), date.plusDays(1).atStartOfDay(), PLANNED_STATUSES)) {
+                jobs.put(row.getId(), toJob(row));
+            }
+            loaded = true;
+        }
+
+        synchronized void put(ShopDayPlanner.Job job) {
+            if (!job.equals(jobs.put(job.appointmentId(), job))) {
+                plan = null;
+            }
+        }
+
+        synchronized void remove(Long appointmentId) {
+            if (jobs.remove(appointmentId) != null) {
+                plan = null;
+            }
+        }
+
+        synchronized ShopDayPlanner.Plan current(LocalDateTime now) {
+            if (plan != null) {
+                return plan;
+            }
+            // Whatever the last plan already started stays put
+            List<ShopDayPlanner.Slot> started = new ArrayList<>();
+            Set<Long> startedIds = new HashSet<>();
+            if (previous != null) {
+                for (ShopDayPlanner.Slot slot : previous.slots()) {
+                    if (slot.start().isBefore(now) && jobs.containsKey(slot.appointmentId())) {
+                        started.add(slot);
+                        startedIds.add(slot.appointmentId());
+                    }
+                }
+            }
+            List<ShopDayPlanner.Job> open = new ArrayList<>();
+            for (ShopDayPlanner.Job job : jobs.values()) {
+                if (!startedIds.contains(job.appointmentId())) {
+                    open.add(job);
+                }
+            }
+
+            ShopDayPlanner.Plan packed = planner.plan(open, started, now);
+            List<ShopDayPlanner.Slot> slots = new ArrayList<>(started);
+            slots.addAll(packed.slots());
+            slots.sort(Comparator.comparing(ShopDayPlanner.Slot::start)
+                    .thenComparingInt(ShopDayPlanner.Slot::bay));
+            plan = new ShopDayPlanner.Plan(slots, packed.unplanned());
+            previous = plan;
+            return plan;
+        }
+
+        synchronized LocalDateTime bookedAt(Long appointmentId) {
+            ShopDayPlanner.Job job = jobs.get(appointmentId);
+            return job != null ? job.bookedAt() : null;
+        }
+
+        synchronized ShopDayPlanner.Plan lastPlan() {
+            return previous;
+        }
+
+        synchronized Map<Long, String> employeeNames() {
+            return new HashMap<>(employeeNames);
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.AvailabilityDTO;
+import com.gearsync.backend.dto.AvailableSlotDTO;
+import com.gearsync.backend.event.AppointmentChangedEvent;
+import com.gearsync.backend.exception.ResourceNotFoundException;
+import com.gearsync.backend.model.AppointmentStatus;
+import com.gearsync.backend.model.Services;
+import com.gearsync.backend.model.SlotHold;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.gearsync.backend.repository.ServiceRepository;
+import com.gearsync.backend.repository.SlotHoldRepository;
+import com.gearsync.backend.repository.projection.AppointmentDurationView;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers "which start times can take a booking of this length" from an
+ * in-memory index per day instead of scanning appointments. A day is loaded
+ * with one query the first time it is asked for and then kept current from
+ * AppointmentChangedEvent; it is reloaded after refresh-seconds so changes
+ * made on other replicas are picked up. Unexpired slot holds take capacity
+ * like appointments do; they are keyed by the negated hold id.
+ */
+@Service
+@RequiredArgsConstructor
+public class SlotAvailabilityService {
+
+    private final AppointmentRepository appointmentRepository;
+    private final ServiceRepository serviceRepository;
+    private final SlotHoldRepository slotHoldRepository;
+
+    private final Map<LocalDate, DaySlotIndex> days = new ConcurrentHashMap<>();
+    private volatile ServiceDurations serviceDurations;
+
+    @Value("${app.booking.open-time:08:00}")
+    private String openTimeValue;
+
+    @Value("${app.booking.close-time:18:00}")
+    private String closeTimeValue;
+
+    @Value("${app.booking.closed-days:SUNDAY}")
+    private List<String> closedDayValues;
+
+    @Value("${app.booking.slot-minutes:30}")
+    private int slotMinutes;
+
+    @Value("${app.booking.capacity:${app.plan.bays:4}}")
+    private int capacity;
+
+    @Value("${app.booking.default-duration-minutes:60}")
+    private int defaultDurationMinutes;
+
+    @Value("${app.booking.max-days-ahead:90}")
+    private int maxDaysAhead;
+
+    @Value("${app.booking.availability.refresh-seconds:60}")
+    private long refreshSeconds;
+
+    private LocalTime openTime;
+    private LocalTime closeTime;
+    private Set<DayOfWeek> closedDays;
+    private int slotsPerDay;
+
+    @PostConstruct
+    public void init() {
+        openTime = LocalTime.parse(openTimeValue);
+        closeTime = LocalTime.parse(closeTimeValue);
+        if (slotMinutes <= 0 || capacity <= 0 || !closeTime.isAfter(openTime)) {
+            throw new IllegalStateException("Invalid booking hours configuration");
+        }
+        slotsPerDay = (int) (Duration.between(openTime, closeTime).toMinutes() / slotMinutes);
+        closedDays = EnumSet.noneOf(DayOfWeek.class);
+        for (String day : closedDayValues) {
+            if (!day.isBlank()) {
+                closedDays.add(DayOfWeek.valueOf(day.trim().toUpperCase()));
+            }
+        }
+    }
+
+    public AvailabilityDTO getAvailability(LocalDate date, Integer durationMinutes, List<Long> serviceIds) {
+        int duration = resolveDuration(durationMinutes, serviceIds);
+        validateDate(date);
+
+        List<AvailableSlotDTO> slots = new ArrayList<>();
+        if (!closedDays.contains(date.getDayOfWeek())) {
+            int count = slotsFor(duration);
+            int[] remaining = dayIndex(date).remainingPerStart(count);
+            LocalDateTime now = LocalDateTime.now();
+            for (int first = 0; first < remaining.length; first++) {
+                LocalDateTime start = slotStart(date, first);
+                if (remaining[first] > 0 && start.isAfter(now)) {
+                    slots.add(new AvailableSlotDTO(start, start.plusMinutes(duration), remaining[first]));
+                }
+            }
+        }
+        return new AvailabilityDTO(date, duration, slots);
+    }
+
+    /**
+     * Capacity left for a booking of the given length starting at the given
+     * time; 0 when the shop is closed or any overlapped slot is full.
+     */
+    public int remainingCapacity(LocalDateTime start, int durationMinutes) {
+        if (!isOpenAt(start)) {
+            return 0;
+        }
+        LocalDate date = start.toLocalDate();
+        long offset = Duration.between(date.atTime(openTime), start).toMinutes();
+        if (offset % slotMinutes != 0) {
+            return 0;
+        }
+        return dayIndex(date).remaining((int) (offset / slotMinutes), slotsFor(durationMinutes));
+    }
+
+    /**
+     * Whether a booking may start at the given time: not on a closed day and
+     * within [open time, close time).
+     */
+    public boolean isOpenAt(LocalDateTime start) {
+        LocalTime time = start.toLocalTime();
+        return !closedDays.contains(start.getDayOfWeek()) && !time.isBefore(openTime) && time.isBefore(closeTime);
+    }
+
+    /**
+     * Capacity left for [start, start + duration) according to the database
+     * rather than the cached index. Counts the peak number of overlapping
+     * appointments and unexpired holds at any instant, so it is exact for
+     * off-grid times too.
+     * Callers that need the answer to stay true hold a SlotReservationService
+     * lock while calling this.
+     */
+    public int remainingCapacityInDatabase(LocalDateTime start, int durationMinutes, Long excludeAppointmentId) {
+        LocalDateTime end = start.plusMinutes(durationMinutes);
+        List<LocalDateTime[]> overlapping = new ArrayList<>();
+        for (AppointmentDurationView row : appointmentRepository.findDurationsScheduledBetween(
+                start.minusDays(1), end, AppointmentStatus.CANCELLED)) {
+            if (row.getId().equals(excludeAppointmentId)) {
+                continue;
+            }
+            addOverlap(overlapping, start, end, row.getScheduledDateTime(), row.getDurationMinutes());
+        }
+        for (SlotHold hold : slotHoldRepository.findActiveBetween(start.minusDays(1), end, LocalDateTime.now())) {
+            addOverlap(overlapping, start, end, hold.getStartTime(), hold.getDurationMinutes());
+        }
+        return capacity - peakOverlap(overlapping);
+    }
+
+    private void addOverlap(List<LocalDateTime[]> overlapping, LocalDateTime start, LocalDateTime end,
+                            LocalDateTime rowStart, Number rowDuration) {
+        LocalDateTime rowEnd = rowStart.plusMinutes(effectiveDuration(rowDuration));
+        if (rowStart.isBefore(end) && rowEnd.isAfter(start)) {
+            // Only the part inside the requested window matters
+            overlapping.add(new LocalDateTime[]{
+                    rowStart.isAfter(start) ? rowStart : start,
+                    rowEnd.isBefore(end) ? rowEnd : end});
+        }
+    }
+
+    // Sweep over start/end points; an appointment ending exactly when another starts does not overlap it
+    private static int peakOverlap(List<LocalDateTime[]> intervals) {
+        List<LocalDateTime> starts = new ArrayList<>(intervals.size());
+        List<LocalDateTime> ends = new ArrayList<>(intervals.size());
+        for (LocalDateTime[] interval : intervals) {
+            starts.add(interval[0]);
+            ends.add(interval[1]);
+        }
+        starts.sort(null);
+        ends.sort(null);
+        int peak = 0;
+        int open = 0;
+        int endIndex = 0;
+        for (LocalDateTime start : starts) {
+            while (endIndex < ends.size() && !ends.get(endIndex).isAfter(start)) {
+                endIndex++;
+                open--;
+            }
+            peak = Math.max(peak, ++open);
+        }
+        return peak;
+    }
+
+    // Appointments whose services carry no duration still take the default length
+    public int effectiveDuration(Number durationMinutes) {
+        return durationMinutes != null && durationMinutes.intValue() > 0 ? durationMinutes.intValue() : defaultDurationMinutes;
+    }
+
+    public int getSlotMinutes() {
+        return slotMinutes;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        Long id = event.appointmentId();
+        if (id == null || days.isEmpty()) {
+            return;
+        }
+        // The appointment may have moved to another day, so drop it everywhere first
+        days.values().forEach(index -> index.remove(id));
+
+        Optional<AppointmentDurationView> current =
+                appointmentRepository.findDurationById(id, AppointmentStatus.CANCELLED);
+        current.ifPresent(row -> {
+            DaySlotIndex index = days.get(row.getScheduledDateTime().toLocalDate());
+            if (index != null) {
+                index.ensureLoaded(() -> loadDay(row.getScheduledDateTime().toLocalDate()));
+                index.put(id, toRange(row.getScheduledDateTime(), row.getDurationMinutes()));
+            }
+        });
+    }
+
+    // Only days already in memory are touched; other days pick the hold up when they load
+    public void putHold(Long holdId, LocalDateTime start, int durationMinutes) {
+        DaySlotIndex index = days.get(start.toLocalDate());
+        if (index != null) {
+            index.ensureLoaded(() -> loadDay(start.toLocalDate()));
+            index.put(holdKey(holdId), toRange(start, durationMinutes));
+        }
+    }
+
+    public void releaseHold(Long holdId) {
+        Long key = holdKey(holdId);
+        days.values().forEach(index -> index.remove(key));
+    }
+
+    @Scheduled(cron = "${app.booking.availability.evict-cron:0 5 0 * * *}")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        days.keySet().removeIf(day -> day.isBefore(today));
+    }
+
+    public int resolveDuration(Integer durationMinutes, List<Long> serviceIds) {
+        if (serviceIds != null && !serviceIds.isEmpty()) {
+            return durationOfServices(serviceIds);
+        }
+        if (durationMinutes != null) {
+            if (durationMinutes <= 0) {
+                throw new IllegalArgumentException("Duration must be positive");
+            }
+            return durationMinutes;
+        }
+        return defaultDurationMinutes;
+    }
+
+    private void validateDate(LocalDate date) {
+        LocalDate today = LocalDate.now();
+        if (date == null || date.isBefore(today)) {
+            throw new IllegalArgumentException("Cannot check availability for a past date");
+        }
+        if (date.isAfter(today.plusDays(maxDaysAhead))) {
+            throw new IllegalArgumentException("Availability is only available up to " + maxDaysAhead + " days ahead");
+        }
+    }
+
+    private DaySlotIndex dayIndex(LocalDate date) {
+        long now = System.currentTimeMillis();
+        DaySlotIndex index = days.compute(date, (day, existing) ->
+                existing == null || now - existing.getCreatedAtMillis() > refreshSeconds * 1000
+                        ? new DaySlotIndex(slotsPerDay, capacity)
+                        : existing);
+        index.ensureLoaded(() -> loadDay(date));
+        return index;
+    }
+
+    private Map<Long, DaySlotIndex.SlotRange> loadDay(LocalDate date) {
+        Map<Long, DaySlotIndex.SlotRange> ranges = new HashMap<>();
+        for (AppointmentDurationView row : appointmentRepository.findDurationsScheduledBetween(
+                date.atStartOfDay(), date.plusDays(1).atStartOfDay(), AppointmentStatus.CANCELLED)) {
+            ranges.put(row.getId(), toRange(row.getScheduledDateTime(), row.getDurationMinutes()));
+        }
+        for (SlotHold hold : slotHoldRepository.findActiveBetween(
+                date.atStartOfDay(), date.plusDays(1).atStartOfDay(), LocalDateTime.now())) {
+            ranges.put(holdKey(hold.getId()), toRange(hold.getStartTime(), hold.getDurationMinutes()));
+        }
+        return ranges;
+    }
+
+    // Appointment ids are positive, so negated hold ids cannot collide with them
+    private static Long holdKey(Long holdId) {
+        return -holdId;
+    }
+
+    // Clips the booking to business hours; null when it lies entirely outside them
+    private DaySlotIndex.SlotRange toRange(LocalDateTime start, Number durationMinutes) {
+        long duration = effectiveDuration(durationMinutes);
+        long startOffset = Duration.between(start.toLocalDate().atTime(openTime), start).toMinutes();
+        long first = Math.floorDiv(startOffset, slotMinutes);
+        long end = Math.floorDiv(startOffset + duration + slotMinutes - 1, slotMinutes);
+        first = Math.max(first, 0);
+        end = Math.min(end, slotsPerDay);
+        return end > first ? new DaySlotIndex.SlotRange((int) first, (int) (end - first)) : null;
+    }
+
+    private int slotsFor(int durationMinutes) {
+        return Math.max(1, (durationMinutes + slotMinutes - 1) / slotMinutes);
+    }
+
+    private LocalDateTime slotStart(LocalDate date, int slot) {
+        return date.atTime(openTime).plusMinutes((long) slot * slotMinutes);
+    }
+
+    private int durationOfServices(Collection<Long> serviceIds) {
+        ServiceDurations cached = serviceDurations;
+        if (cached == null || cached.isStale(refreshSeconds) || !cached.durations().keySet().containsAll(serviceIds)) {
+            cached = loadServiceDurations();
+        }
+        int total = 0;
+        for (Long id : serviceIds) {
+            Integer minutes = cached.durations().get(id);
+            if (minutes == null) {
+                throw new ResourceNotFoundException("Service not found with ID: " + id);
+            }
+            total += minutes;
+        }
+        return total > 0 ? total : defaultDurationMinutes;
+    }
+
+    private ServiceDurations loadServiceDurations() {
+        Map<Long, Integer> durations = new HashMap<>();
+        for (Services service : serviceRepository.findAll()) {
+            if (Boolean.TRUE.equals(service.getIsActive())) {
+                durations.put(service.getId(), service.getEstimatedDurationMinutes());
+            }
+        }
+        ServiceDurations loaded = new ServiceDurations(Map.copyOf(durations), System.currentTimeMillis());
+        serviceDurations = loaded;
+        return loaded;
+    }
+
+    private record ServiceDurations(Map<Long, Integer> durations, long loadedAtMillis) {
+        boolean isStale(long refreshSeconds) {
+            return System.currentTimeMillis() - loadedAtMillis > refreshSeconds * 1000;
+        }
+    }
+}
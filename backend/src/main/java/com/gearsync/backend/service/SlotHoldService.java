@@ -0,0 +1,193 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.SlotHoldDTO;
+import com.gearsync.backend.dto.SlotHoldRequestDTO;
+import com.gearsync.backend.exception.ResourceNotFoundException;
+import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.exception.UserNotFoundException;
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.SlotHold;
+import com.gearsync.backend.repository.SlotHoldRepository;
+import com.gearsync.backend.repository.UserRepository;
+import com.gearsync.backend.security.AuthenticatedUser;
+import com.gearsync.backend.security.CurrentUser;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Short-lived holds on a time slot while the customer finishes booking. A hold
+ * is a row in slot_holds, so every replica's reservation check counts it
+ * against capacity, and an entry in a timer wheel on the node that created
+ * it, which releases it from the in-memory index and deletes the row once it
+ * expires. Booking with a hold id consumes the hold inside the booking
+ * transaction.
+ *
+ * Only the node that creates, releases or expires a hold updates its cached
+ * availability index; other replicas see the change when that day is next
+ * reloaded, after app.booking.availability.refresh-seconds. Until then they
+ * may offer a slot whose hold is already taken (the reservation still refuses
+ * it) or hide one whose hold has just gone.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SlotHoldService {
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final SlotHoldRepository slotHoldRepository;
+    private final UserRepository userRepository;
+    private final SlotAvailabilityService slotAvailabilityService;
+    private final SlotReservationService slotReservationService;
+
+    @Value("${app.booking.holds.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    // Same interval expireHolds runs at, so a hold expires within one tick of its deadline
+    @Value("${app.booking.holds.tick-ms:1000}")
+    private long tickMillis;
+
+    private TimerWheel<Long> expiryWheel;
+
+    @PostConstruct
+    public void init() {
+        if (tickMillis <= 0) {
+            throw new IllegalStateException("Invalid slot hold tick configuration");
+        }
+        expiryWheel = new TimerWheel<>(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    @Transactional
+    public SlotHoldDTO createHold(String customerEmail, SlotHoldRequestDTO request) {
+        AuthenticatedUser customer = CurrentUser.resolve(userRepository, customerEmail,
+                () -> new UserNotFoundException("Customer not found"));
+        if (customer.getRole() != Role.CUSTOMER) {
+            throw new UnauthorizedException("Only customers can hold a time slot");
+        }
+        if (request.getScheduledDateTime().isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Cannot hold a time slot in the past");
+        }
+
+        int duration = slotAvailabilityService.resolveDuration(null, request.getServiceIds());
+
+        // One hold per customer; picking another slot gives the previous one back
+        List<SlotHold> previous = slotHoldRepository.findByCustomerId(customer.getId());
+        slotHoldRepository.deleteAll(previous);
+        slotHoldRepository.flush();
+
+        slotReservationService.reserve(request.getScheduledDateTime(), duration, null);
+
+        SlotHold hold = new SlotHold();
+        hold.setCustomer(CurrentUser.entity(userRepository, customer));
+        hold.setStartTime(request.getScheduledDateTime());
+        hold.setDurationMinutes(duration);
+        hold.setExpiresAt(LocalDateTime.now().plusMinutes(ttlMinutes));
+        SlotHold saved = slotHoldRepository.save(hold);
+
+        afterCommit(() -> {
+            previous.forEach(old -> forget(old.getId()));
+            expiryWheel.schedule(saved.getId(), toEpochMillis(saved.getExpiresAt()));
+            slotAvailabilityService.putHold(saved.getId(), saved.getStartTime(), duration);
+        });
+
+        return new SlotHoldDTO(saved.getId(), saved.getStartTime(), duration, saved.getExpiresAt());
+    }
+
+    @Transactional
+    public void releaseHold(String customerEmail, Long holdId) {
+        AuthenticatedUser customer = CurrentUser.resolve(userRepository, customerEmail,
+                () -> new UserNotFoundException("Customer not found"));
+        SlotHold hold = slotHoldRepository.findById(holdId)
+                .orElseThrow(() -> new ResourceNotFoundException("Hold not found with ID: " + holdId));
+        if (!hold.getCustomer().getId().equals(customer.getId())) {
+            throw new UnauthorizedException("You can only release your own holds");
+        }
+        slotHoldRepository.delete(hold);
+        afterCommit(() -> forget(holdId));
+    }
+
+    /**
+     * Deletes the hold within the caller's transaction so the booking's own
+     * capacity check no longer counts it. A hold that has already expired or
+     * been released is ignored and the booking competes for the slot normally.
+     */
+    public void consumeHold(Long customerId, Long holdId, LocalDateTime scheduledDateTime) {
+        if (holdId == null) {
+            return;
+        }
+        SlotHold hold = slotHoldRepository.findById(holdId).orElse(null);
+        if (hold == null || !hold.getExpiresAt().isAfter(LocalDateTime.now())) {
+            return;
+        }
+        if (!hold.getCustomer().getId().equals(customerId)) {
+            throw new UnauthorizedException("You can only book with your own holds");
+        }
+        if (!hold.getStartTime().equals(scheduledDateTime)) {
+            throw new IllegalArgumentException("The hold is for " + hold.getStartTime() + ", not " + scheduledDateTime);
+        }
+        slotHoldRepository.delete(hold);
+        slotHoldRepository.flush();
+        afterCommit(() -> forget(holdId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking.holds.tick-ms:1000}")
+    public void expireHolds() {
+        List<Long> expired = expiryWheel.advance(System.currentTimeMillis());
+        if (expired.isEmpty()) {
+            return;
+        }
+        expired.forEach(slotAvailabilityService::releaseHold);
+        slotHoldRepository.deleteExpired(expired, LocalDateTime.now());
+    }
+
+    // Rows left behind by a restart: expired ones go once, live ones get a wheel entry again
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreHolds() {
+        LocalDateTime now = LocalDateTime.now();
+        int removed = slotHoldRepository.deleteAllExpired(now);
+        List<SlotHold> active = slotHoldRepository.findByExpiresAtAfter(now);
+        active.forEach(hold -> expiryWheel.schedule(hold.getId(), toEpochMillis(hold.getExpiresAt())));
+        if (removed > 0 || !active.isEmpty()) {
+            log.info("Slot holds on startup: {} expired removed, {} active restored", removed, active.size());
+        }
+    }
+
+    int getScheduledHoldCount() {
+        return expiryWheel.size();
+    }
+
+    private void forget(Long holdId) {
+        expiryWheel.cancel(holdId);
+        slotAvailabilityService.releaseHold(holdId);
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,126 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.exception.SlotUnavailableException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serializes bookings that touch the same time slots, and only those. Every
+ * slot a booking overlaps is locked in ascending order, first with an
+ * in-process striped lock (so threads on this node queue without touching the
+ * database) and then with a transaction-scoped Postgres advisory lock (so
+ * other replicas queue too). Capacity is checked against the database while
+ * the locks are held, and the locks are released when the surrounding
+ * transaction completes, after the new appointment is visible to the next
+ * waiter.
+ */
+@Service
+@RequiredArgsConstructor
+public class SlotReservationService {
+
+    // First key of pg_advisory_xact_lock(int, int), keeps slot locks apart from any other advisory locks
+    static final int ADVISORY_LOCK_NAMESPACE = 0x47534C54;
+
+    private final SlotAvailabilityService slotAvailabilityService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.booking.lock-stripes:64}")
+    private int stripeCount;
+
+    @Value("${app.booking.lock-timeout-ms:5000}")
+    private long lockTimeoutMs;
+
+    @Value("${app.booking.advisory-locks.enabled:true}")
+    private boolean advisoryLocksEnabled;
+
+    private ReentrantLock[] stripes;
+
+    @PostConstruct
+    public void init() {
+        stripes = new ReentrantLock[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Locks the slots covered by [start, start + duration) for the rest of the
+     * current transaction and fails if the shop is closed at start or has no
+     * capacity left there.
+     * The appointment being rescheduled, if any, is not counted against itself.
+     */
+    public void reserve(LocalDateTime start, int durationMinutes, Long excludeAppointmentId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Slot reservations must run inside a transaction");
+        }
+        if (!slotAvailabilityService.isOpenAt(start)) {
+            throw new SlotUnavailableException("The shop is closed at the selected time: " + start);
+        }
+
+        int duration = slotAvailabilityService.effectiveDuration(durationMinutes);
+        TreeSet<Long> slotKeys = slotKeys(start, duration);
+        lockStripes(slotKeys);
+        if (advisoryLocksEnabled) {
+            for (Long key : slotKeys) {
+                jdbcTemplate.queryForObject("select pg_advisory_xact_lock(?, ?)", Object.class,
+                        ADVISORY_LOCK_NAMESPACE, key.intValue());
+            }
+        }
+
+        if (slotAvailabilityService.remainingCapacityInDatabase(start, duration, excludeAppointmentId) <= 0) {
+            throw new SlotUnavailableException("The selected time slot is fully booked: " + start);
+        }
+    }
+
+    // Slot numbers since the epoch for every slot the interval touches, in ascending order
+    TreeSet<Long> slotKeys(LocalDateTime start, int durationMinutes) {
+        long slotMinutes = slotAvailabilityService.getSlotMinutes();
+        long startMinute = start.toEpochSecond(ZoneOffset.UTC) / 60;
+        long first = Math.floorDiv(startMinute, slotMinutes);
+        long end = Math.floorDiv(startMinute + durationMinutes + slotMinutes - 1, slotMinutes);
+        TreeSet<Long> keys = new TreeSet<>();
+        for (long slot = first; slot < end; slot++) {
+            keys.add(slot);
+        }
+        return keys;
+    }
+
+    private void lockStripes(TreeSet<Long> slotKeys) {
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (Long key : slotKeys) {
+            indexes.add(Math.floorMod(Long.hashCode(key * 0x9E3779B97F4A7C15L), stripes.length));
+        }
+
+        for (Integer index : indexes) {
+            ReentrantLock lock = stripes[index];
+            boolean acquired;
+            try {
+                acquired = lock.tryLock(lockTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            if (!acquired) {
+                throw new SlotUnavailableException("The selected time slot is busy, please try again");
+            }
+            // Registered per lock so everything taken so far is released even if a later step fails
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lock.unlock();
+                }
+            });
+        }
+    }
+}
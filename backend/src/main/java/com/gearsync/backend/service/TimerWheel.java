@@ -0,0 +1,75 @@
+package com.gearsync.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hashed timer wheel: scheduling and cancelling are O(1), and each tick only
+ * looks at the keys hashed to that tick's bucket. Keys whose deadline is more
+ * than one revolution away stay in their bucket until a later pass.
+ */
+final class TimerWheel<K> {
+
+    private final long tickMillis;
+    private final List<Set<K>> buckets;
+    private final Map<K, Entry> entries = new HashMap<>();
+    private long currentTick;
+
+    TimerWheel(long tickMillis, int wheelSize, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new LinkedHashSet<>());
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long tick = Math.max(deadlineMillis / tickMillis, currentTick);
+        int bucket = (int) (tick % buckets.size());
+        buckets.get(bucket).add(key);
+        entries.put(key, new Entry(deadlineMillis, bucket));
+    }
+
+    synchronized boolean cancel(K key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        buckets.get(entry.bucket()).remove(key);
+        return true;
+    }
+
+    // Returns the keys whose deadline has passed, removing them from the wheel
+    synchronized List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+        // After a long pause one pass over every bucket is enough
+        long ticks = Math.min(targetTick - currentTick + 1, buckets.size());
+        for (long i = 0; i < ticks; i++) {
+            Set<K> bucket = buckets.get((int) ((currentTick + i) % buckets.size()));
+            bucket.removeIf(key -> {
+                if (entries.get(key).deadlineMillis() <= nowMillis) {
+                    entries.remove(key);
+                    expired.add(key);
+                    return true;
+                }
+                return false;
+            });
+        }
+        currentTick = Math.max(currentTick, targetTick);
+        return expired;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry(long deadlineMillis, int bucket) {
+    }
+}
@@ -5,12 +5,12 @@ import com.gearsync.backend.dto.VehicleResponseDTO;
 import com.gearsync.backend.exception.UserNotFoundException;
 import com.gearsync.backend.exception.VehicleAlreadyExistsException;
 import com.gearsync.backend.exception.VehicleNotFoundException;
+import com.gearsync.backend.mapper.VehicleMapper;
 import com.gearsync.backend.model.User;
 import com.gearsync.backend.model.Vehicle;
 import com.gearsync.backend.repository.UserRepository;
 import com.gearsync.backend.repository.VehicleRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,7 +23,7 @@ public class VehicleService {
 
     private final VehicleRepository vehicleRepository;
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final VehicleMapper vehicleMapper;
 
     public List<Vehicle> listMyVehicles(String email) {
         User me = userRepository.findByEmail(email).orElseThrow(() -> new RuntimeException("User not found"));
@@ -45,10 +45,10 @@ public class VehicleService {
             throw new VehicleAlreadyExistsException(
                     "Vehicle with registration number " + payload.getRegistrationNumber() + " already exists");
         }
-        Vehicle vehicle = modelMapper.map(payload, Vehicle.class);
+        Vehicle vehicle = vehicleMapper.toEntity(payload);
         vehicle.setOwner(me);
         Vehicle savedVehicle = vehicleRepository.save(vehicle);
-        VehicleResponseDTO response = modelMapper.map(savedVehicle, VehicleResponseDTO.class);
+        VehicleResponseDTO response = vehicleMapper.toResponseDTO(savedVehicle);
         response.setOwnerEmail(me.getEmail());
         return response;
     }
@@ -0,0 +1,179 @@
+package com.gearsync.backend.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gearsync.backend.dto.ProgressEventDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Relays progress events between backend replicas with Postgres LISTEN/NOTIFY.
+ * Every node NOTIFYs the events it produces and LISTENs on a dedicated
+ * connection for the rest, handing them to ProgressWebSocketHandler so each
+ * node only ever writes to its own sessions.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.realtime.fanout.enabled", havingValue = "true")
+public class PostgresProgressRelay {
+
+    // NOTIFY payloads must stay below 8000 bytes
+    static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final long RECONNECT_DELAY_MS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectMapper objectMapper;
+    private final ProgressWebSocketHandler progressWebSocketHandler;
+    private final TransactionTemplate notifyTransaction;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Value("${app.realtime.fanout.channel:gearsync_progress}")
+    private String channel;
+
+    @Value("${app.realtime.fanout.poll-timeout-ms:1000}")
+    private int pollTimeoutMs;
+
+    public PostgresProgressRelay(JdbcTemplate jdbcTemplate,
+                                 DataSourceProperties dataSourceProperties,
+                                 ObjectMapper objectMapper,
+                                 ProgressWebSocketHandler progressWebSocketHandler,
+                                 PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.objectMapper = objectMapper;
+        this.progressWebSocketHandler = progressWebSocketHandler;
+        this.notifyTransaction = new TransactionTemplate(transactionManager);
+        this.notifyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void start() {
+        // LISTEN takes an identifier, not a bind parameter
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalStateException("Invalid fan-out channel name: " + channel);
+        }
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "progress-relay-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgress(ProgressEventDTO event) {
+        String payload = encode(event);
+        if (payload == null) {
+            return;
+        }
+        try {
+            // After commit the finished transaction's connection is still bound with autocommit off, so a NOTIFY
+            // sent on it would never be committed; Postgres only delivers it once its own transaction commits
+            notifyTransaction.executeWithoutResult(status ->
+                    jdbcTemplate.queryForObject("select pg_notify(?, ?)", Object.class, channel, payload));
+        } catch (Exception e) {
+            log.warn("Failed to relay progress event for {} {}: {}", event.getType(), event.getId(), e.getMessage());
+        }
+    }
+
+    String encode(ProgressEventDTO event) {
+        try {
+            String payload = objectMapper.writeValueAsString(new Envelope(nodeId, event));
+            if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES
+                    && event.getMessage() != null) {
+                // The note is the only unbounded field; peers still get the status change without it
+                ProgressEventDTO trimmed = new ProgressEventDTO(event.getType(), event.getId(), event.getCustomerId(),
+                        event.getPreviousStatus(), event.getStatus(), event.getProgressPercentage(), null,
+                        event.getOccurredAt());
+                payload = objectMapper.writeValueAsString(new Envelope(nodeId, trimmed));
+            }
+            return payload;
+        } catch (Exception e) {
+            log.warn("Failed to encode progress event: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    void handleNotification(String payload) {
+        try {
+            Envelope envelope = objectMapper.readValue(payload, Envelope.class);
+            // This node already delivered its own events when they were published
+            if (nodeId.equals(envelope.origin()) || envelope.event() == null) {
+                return;
+            }
+            progressWebSocketHandler.deliver(envelope.event());
+        } catch (Exception e) {
+            log.warn("Ignoring malformed progress notification: {}", e.getMessage());
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Listening for progress events on channel {}", channel);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handleNotification(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Progress relay connection lost, reconnecting in {} ms: {}", RECONNECT_DELAY_MS, e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    record Envelope(String origin, ProgressEventDTO event) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.gearsync.backend.websocket;
+
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.security.AuthenticatedUser;
+
+/**
+ * Destinations for progress events. Customers only see their own topic;
+ * admins see every customer topic plus the shared admin feed.
+ */
+public final class ProgressTopics {
+
+    public static final String ADMIN = "/topic/admin/progress";
+    private static final String CUSTOMER_PREFIX = "/topic/customer/";
+    private static final String CUSTOMER_SUFFIX = "/progress";
+
+    private ProgressTopics() {
+    }
+
+    public static String customer(Long customerId) {
+        return CUSTOMER_PREFIX + customerId + CUSTOMER_SUFFIX;
+    }
+
+    static boolean canSubscribe(AuthenticatedUser user, String destination) {
+        if (destination == null) {
+            return false;
+        }
+        if (user.getRole() == Role.ADMIN) {
+            return destination.equals(ADMIN) || isCustomerTopic(destination);
+        }
+        return user.getRole() == Role.CUSTOMER && destination.equals(customer(user.getId()));
+    }
+
+    private static boolean isCustomerTopic(String destination) {
+        if (!destination.startsWith(CUSTOMER_PREFIX) || !destination.endsWith(CUSTOMER_SUFFIX)) {
+            return false;
+        }
+        String id = destination.substring(CUSTOMER_PREFIX.length(), destination.length() - CUSTOMER_SUFFIX.length());
+        return !id.isEmpty() && id.chars().allMatch(Character::isDigit);
+    }
+}
@@ -1,5 +1,31 @@
 package com.gearsync.backend.websocket;
 
+import com.gearsync.backend.dto.ProgressEventDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Pushes progress events to subscribers once the change that produced them has
+ * committed, so clients never see a status that was rolled back.
+ */
+@Component
+@RequiredArgsConstructor
 public class ProgressWebSocketHandler {
-    
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgress(ProgressEventDTO event) {
+        deliver(event);
+    }
+
+    // Sends only to sessions connected to this node; other replicas get the event via PostgresProgressRelay
+    public void deliver(ProgressEventDTO event) {
+        if (event.getCustomerId() != null) {
+            messagingTemplate.convertAndSend(ProgressTopics.customer(event.getCustomerId()), event);
+        }
+        messagingTemplate.convertAndSend(ProgressTopics.ADMIN, event);
+    }
 }
@@ -0,0 +1,69 @@
+package com.gearsync.backend.websocket;
+
+import com.gearsync.backend.security.AuthenticatedUser;
+import com.gearsync.backend.security.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Authenticates STOMP sessions with the same JWT the REST API uses (sent as an
+ * Authorization header on CONNECT) and restricts which topics a session may
+ * subscribe to.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+        } else if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            AuthenticatedUser user = principalOf(accessor);
+            if (!ProgressTopics.canSubscribe(user, accessor.getDestination())) {
+                throw new MessageDeliveryException("Not allowed to subscribe to " + accessor.getDestination());
+            }
+        } else if (accessor.getCommand() == StompCommand.SEND) {
+            throw new MessageDeliveryException("Progress channel is read-only");
+        }
+        return message;
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(String header) {
+        if (header == null || !header.startsWith("Bearer ")) {
+            throw new MessageDeliveryException("Missing bearer token");
+        }
+        AuthenticatedUser principal = jwtUtil.parsePrincipal(header.substring(7));
+        if (principal == null || principal.getId() == null || principal.getRole() == null) {
+            throw new MessageDeliveryException("Invalid token");
+        }
+        return new UsernamePasswordAuthenticationToken(
+                principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + principal.getRole())));
+    }
+
+    private AuthenticatedUser principalOf(StompHeaderAccessor accessor) {
+        if (accessor.getUser() instanceof UsernamePasswordAuthenticationToken token
+                && token.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
+        }
+        throw new MessageDeliveryException("Not authenticated");
+    }
+}
@@ -1,5 +1,38 @@
 package com.gearsync.backend.websocket;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
 public class WebSocketEventListener {
-    
+
+    private final Map<String, String> sessions = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = (String) event.getMessage().getHeaders().get("simpSessionId");
+        Principal user = event.getUser();
+        if (sessionId != null) {
+            sessions.put(sessionId, user != null ? user.getName() : "anonymous");
+        }
+        log.debug("WebSocket session {} connected ({} open)", sessionId, sessions.size());
+    }
+
+    @EventListener
+    public void onDisconnected(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+        log.debug("WebSocket session {} closed ({} open)", event.getSessionId(), sessions.size());
+    }
+
+    public int getOpenSessionCount() {
+        return sessions.size();
+    }
 }
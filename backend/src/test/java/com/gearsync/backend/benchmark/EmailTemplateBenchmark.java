@@ -0,0 +1,88 @@
+package com.gearsync.backend.benchmark;
+
+import com.gearsync.backend.service.EmailTemplate;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Render cost of the appointment confirmation email: the old String.format
+ * approach against the precompiled template. The baseline format string is
+ * derived from the same HTML resource so both produce the same page.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="EmailTemplate -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EmailTemplateBenchmark {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\s*(\\w+)\\s*}}");
+
+    private String formatString;
+    private Object[] formatArgs;
+    private EmailTemplate template;
+    private Map<String, Object> values;
+
+    @Setup
+    public void setUp() throws IOException {
+        String source;
+        try (InputStream in = getClass().getResourceAsStream("/templates/email/appointment-confirmation.html")) {
+            source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        Map<String, Object> all = Map.of(
+                "appName", "GearSync Automobile Service",
+                "appUrl", "http://localhost:3000",
+                "customerName", "John Doe",
+                "scheduledAt", "2025-01-10 09:00 AM",
+                "vehicleRegistrationNumber", "ABC123",
+                "finalCost", "15000.00",
+                "toEmail", "john@example.com",
+                "year", 2025
+        );
+
+        List<Object> args = new ArrayList<>();
+        StringBuilder format = new StringBuilder();
+        Matcher matcher = PLACEHOLDER.matcher(source.replace("%", "%%"));
+        while (matcher.find()) {
+            args.add(all.get(matcher.group(1)));
+            matcher.appendReplacement(format, "%s");
+        }
+        matcher.appendTail(format);
+        formatString = format.toString();
+        formatArgs = args.toArray();
+
+        template = EmailTemplate.compile("appointment-confirmation", source,
+                Map.of("appName", "GearSync Automobile Service", "appUrl", "http://localhost:3000"));
+        values = Map.of(
+                "customerName", "John Doe",
+                "scheduledAt", "2025-01-10 09:00 AM",
+                "vehicleRegistrationNumber", "ABC123",
+                "finalCost", "15000.00",
+                "toEmail", "john@example.com",
+                "year", 2025
+        );
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format(formatString, formatArgs);
+    }
+
+    @Benchmark
+    public String compiledTemplate() {
+        return template.render(values);
+    }
+}
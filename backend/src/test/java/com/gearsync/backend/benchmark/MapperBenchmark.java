@@ -0,0 +1,113 @@
+package com.gearsync.backend.benchmark;
+
+import com.gearsync.backend.dto.MyAppointmentDTO;
+import com.gearsync.backend.dto.VehicleRequestDTO;
+import com.gearsync.backend.mapper.AppointmentMapper;
+import com.gearsync.backend.mapper.VehicleMapper;
+import com.gearsync.backend.model.*;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call mapping cost of the reflection-based ModelMapper the services used
+ * to share against the generated mappers, for the appointment detail read and
+ * the add-vehicle write. ModelMapper is warmed up in setup so its one-off type
+ * map introspection is not part of the measurement.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="Mapper -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private AppointmentMapper appointmentMapper;
+    private VehicleMapper vehicleMapper;
+    private Appointment appointment;
+    private VehicleRequestDTO vehicleRequest;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        appointmentMapper = Mappers.getMapper(AppointmentMapper.class);
+        vehicleMapper = Mappers.getMapper(VehicleMapper.class);
+
+        User customer = new User();
+        customer.setId(1L);
+        customer.setEmail("john@example.com");
+        customer.setFirstName("John");
+        customer.setLastName("Doe");
+        customer.setRole(Role.CUSTOMER);
+
+        Vehicle vehicle = new Vehicle();
+        vehicle.setId(2L);
+        vehicle.setRegistrationNumber("ABC123");
+        vehicle.setMake("Toyota");
+        vehicle.setModel("Camry");
+        vehicle.setYear(2020);
+        vehicle.setOwner(customer);
+
+        Set<Services> services = new HashSet<>();
+        for (long id = 1; id <= 3; id++) {
+            Services service = new Services();
+            service.setId(id);
+            service.setServiceName("Service " + id);
+            service.setCategory(ServiceCategory.MAINTENANCE);
+            service.setBasePrice(new BigDecimal("49.99"));
+            service.setEstimatedDurationMinutes(30);
+            services.add(service);
+        }
+
+        appointment = new Appointment();
+        appointment.setId(10L);
+        appointment.setCustomer(customer);
+        appointment.setVehicle(vehicle);
+        appointment.setScheduledDateTime(LocalDateTime.of(2025, 1, 10, 9, 0));
+        appointment.setStatus(AppointmentStatus.CONFIRMED);
+        appointment.setCustomerNotes("Please check brakes too");
+        appointment.setFinalCost(new BigDecimal("149.97"));
+        appointment.setAppointmentServices(services);
+
+        vehicleRequest = new VehicleRequestDTO();
+        vehicleRequest.setRegistrationNumber("XYZ789");
+        vehicleRequest.setMake("Honda");
+        vehicleRequest.setModel("Civic");
+        vehicleRequest.setYear(2021);
+        vehicleRequest.setColor("Red");
+        vehicleRequest.setMileage(30000);
+
+        modelMapper.map(appointment, MyAppointmentDTO.class);
+        modelMapper.map(vehicleRequest, Vehicle.class);
+    }
+
+    @Benchmark
+    public MyAppointmentDTO appointmentModelMapper() {
+        return modelMapper.map(appointment, MyAppointmentDTO.class);
+    }
+
+    @Benchmark
+    public MyAppointmentDTO appointmentGenerated() {
+        return appointmentMapper.toMyAppointmentDTO(appointment);
+    }
+
+    @Benchmark
+    public Vehicle vehicleModelMapper() {
+        return modelMapper.map(vehicleRequest, Vehicle.class);
+    }
+
+    @Benchmark
+    public Vehicle vehicleGenerated() {
+        return vehicleMapper.toEntity(vehicleRequest);
+    }
+}
@@ -0,0 +1,65 @@
+package com.gearsync.backend.benchmark;
+
+import com.gearsync.backend.service.ShopDayPlanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to pack a full day, as done on every re-plan after an appointment is
+ * added or cancelled. The target is 300 jobs well under two seconds on one
+ * core; the larger sizes show how it grows.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ShopDayPlanner"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:ActiveProcessorCount=1")
+@State(Scope.Thread)
+public class ShopDayPlannerBenchmark {
+
+    @Param({"300", "3000"})
+    private int jobs;
+
+    @Param({"25"})
+    private int employees;
+
+    @Param({"8"})
+    private int bays;
+
+    private ShopDayPlanner planner;
+    private List<ShopDayPlanner.Job> day;
+    private LocalDateTime open;
+
+    @Setup
+    public void setUp() {
+        LocalDate date = LocalDate.of(2025, 1, 10);
+        open = date.atTime(8, 0);
+        List<Long> employeeIds = new ArrayList<>();
+        for (long id = 0; id < employees; id++) {
+            employeeIds.add(id);
+        }
+        planner = new ShopDayPlanner(employeeIds, bays, open, date.atTime(18, 0));
+
+        Random random = new Random(42);
+        day = new ArrayList<>();
+        for (long id = 0; id < jobs; id++) {
+            // One job in ten is already assigned to someone
+            Long assigned = id % 10 == 0 ? employeeIds.get(random.nextInt(employees)) : null;
+            day.add(new ShopDayPlanner.Job(id, open.plusMinutes(random.nextInt(540)), 30 + random.nextInt(6) * 15,
+                    assigned));
+        }
+    }
+
+    @Benchmark
+    public ShopDayPlanner.Plan planDay() {
+        return planner.plan(day, List.of(), open);
+    }
+}
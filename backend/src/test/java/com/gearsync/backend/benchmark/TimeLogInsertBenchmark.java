@@ -0,0 +1,139 @@
+package com.gearsync.backend.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second for inserting 100k time logs the way Hibernate issues them
+ * under each id strategy. identity: one INSERT round trip per row, reading the
+ * generated key back, which is why Hibernate cannot batch these. pooledSequence:
+ * one nextval per 50 ids and JDBC batches of 50, matching allocationSize and
+ * hibernate.jdbc.batch_size.
+ *
+ * Runs against in-memory H2 by default; point it at Postgres to see the
+ * network round trips that matter in production:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="TimeLogInsert
+ *     -p url=jdbc:postgresql://localhost:5432/gearsync?reWriteBatchedInserts=true -p user=... -p password=..."
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(TimeLogInsertBenchmark.ROWS)
+@Fork(1)
+@State(Scope.Thread)
+public class TimeLogInsertBenchmark {
+
+    static final int ROWS = 100_000;
+    private static final int BLOCK = 50;
+
+    private static final String COLUMNS = "(start_time timestamp not null, end_time timestamp not null, "
+            + "duration_minutes int not null, work_description varchar(1000), employee_id bigint not null, "
+            + "created_at timestamp not null, updated_at timestamp not null)";
+    private static final String INSERT_VALUES = "(start_time, end_time, duration_minutes, work_description, "
+            + "employee_id, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?)";
+
+    @Param("jdbc:h2:mem:timelog-bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+    public String url;
+
+    @Param("sa")
+    public String user;
+
+    @Param("")
+    public String password;
+
+    private Connection connection;
+    private Timestamp start;
+    private Timestamp end;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(url, user, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists bench_time_logs_identity");
+            statement.execute("drop table if exists bench_time_logs_sequence");
+            statement.execute("drop sequence if exists bench_time_logs_seq");
+            statement.execute("create table bench_time_logs_identity "
+                    + "(id bigint generated by default as identity primary key, " + COLUMNS.substring(1));
+            statement.execute("create table bench_time_logs_sequence "
+                    + "(id bigint primary key, " + COLUMNS.substring(1));
+            statement.execute("create sequence bench_time_logs_seq start with 1 increment by " + BLOCK);
+        }
+        connection.setAutoCommit(false);
+        start = Timestamp.valueOf(LocalDateTime.of(2025, 1, 10, 9, 0));
+        end = Timestamp.valueOf(LocalDateTime.of(2025, 1, 10, 11, 0));
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("truncate table bench_time_logs_identity");
+            statement.execute("truncate table bench_time_logs_sequence");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    private void bind(PreparedStatement insert, int offset, int row) throws SQLException {
+        insert.setTimestamp(offset, start);
+        insert.setTimestamp(offset + 1, end);
+        insert.setInt(offset + 2, 120);
+        insert.setString(offset + 3, "Brake pad replacement #" + row);
+        insert.setLong(offset + 4, 1L);
+        insert.setTimestamp(offset + 5, start);
+        insert.setTimestamp(offset + 6, start);
+    }
+
+    @Benchmark
+    public long identity() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into bench_time_logs_identity " + INSERT_VALUES, Statement.RETURN_GENERATED_KEYS)) {
+            for (int row = 0; row < ROWS; row++) {
+                bind(insert, 1, row);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long pooledSequence() throws SQLException {
+        long nextId = 0;
+        long blockEnd = 0;
+        try (PreparedStatement nextval = connection.prepareStatement("select nextval('bench_time_logs_seq')");
+             PreparedStatement insert = connection.prepareStatement(
+                     "insert into bench_time_logs_sequence (id, " + INSERT_VALUES.substring(1))) {
+            for (int row = 0; row < ROWS; row++) {
+                if (nextId >= blockEnd) {
+                    try (ResultSet rs = nextval.executeQuery()) {
+                        rs.next();
+                        blockEnd = rs.getLong(1) + BLOCK;
+                        nextId = blockEnd - BLOCK;
+                    }
+                }
+                insert.setLong(1, nextId++);
+                bind(insert, 2, row);
+                insert.addBatch();
+                if ((row + 1) % BLOCK == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return nextId;
+    }
+}
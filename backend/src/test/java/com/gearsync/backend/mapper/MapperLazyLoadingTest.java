@@ -0,0 +1,145 @@
+package com.gearsync.backend.mapper;
+
+import com.gearsync.backend.dto.AppointmentResponseDTO;
+import com.gearsync.backend.dto.MyAppointmentDTO;
+import com.gearsync.backend.dto.ProjectResponseDTO;
+import com.gearsync.backend.model.*;
+import com.gearsync.backend.repository.AppointmentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static com.gearsync.backend.model.EntityFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MapperLazyLoadingTest {
+
+    private final AppointmentMapper appointmentMapper = Mappers.getMapper(AppointmentMapper.class);
+    private final ProjectMapper projectMapper = Mappers.getMapper(ProjectMapper.class);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    private Statistics statistics;
+    private Long appointmentId;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User customer = entityManager.persist(user("customer@example.com", Role.CUSTOMER));
+        User employee = entityManager.persist(user("employee@example.com", Role.EMPLOYEE));
+
+        Vehicle vehicle = entityManager.persist(vehicle("ABC-1234", customer));
+
+        Services oilChange = entityManager.persist(service("Oil Change", "49.99"));
+        Services tireRotation = entityManager.persist(service("Tire Rotation", "29.99"));
+
+        Appointment appointment = new Appointment();
+        appointment.setCustomer(customer);
+        appointment.setVehicle(vehicle);
+        appointment.setAssignedEmployee(employee);
+        appointment.setScheduledDateTime(LocalDateTime.of(2025, 1, 10, 9, 0));
+        appointment.setAppointmentServices(new HashSet<>(List.of(oilChange, tireRotation)));
+        entityManager.persist(appointment);
+
+        Project project = new Project();
+        project.setProjectName("Body kit");
+        project.setDescription("Install a body kit");
+        project.setEstimatedCost(new BigDecimal("1500.00"));
+        project.setEstimatedDurationHours(12);
+        project.setCustomer(customer);
+        project.setVehicle(vehicle);
+        entityManager.persist(project);
+
+        TimeLog timeLog = new TimeLog();
+        timeLog.setStartTime(LocalDateTime.of(2025, 1, 10, 9, 0));
+        timeLog.setEndTime(LocalDateTime.of(2025, 1, 10, 10, 0));
+        timeLog.setEmployee(employee);
+        timeLog.setAppointment(appointment);
+        entityManager.persist(timeLog);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        appointmentId = appointment.getId();
+        projectId = project.getId();
+    }
+
+    @Test
+    void testToResponseDTO_RunsNoQueriesOnFetchedGraph() {
+        // Given
+        Appointment appointment = appointmentRepository.findWithDetailsByIdIn(List.of(appointmentId)).get(0);
+        List<Services> services = new ArrayList<>(appointment.getAppointmentServices());
+        statistics.clear();
+
+        // When
+        AppointmentResponseDTO dto = appointmentMapper.toResponseDTO(appointment, services);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(dto.getCustomerName()).isEqualTo("Test User");
+        assertThat(dto.getVehicleYear()).isEqualTo("2020");
+        assertThat(dto.getAssignedEmployeeEmail()).isEqualTo("employee@example.com");
+        assertThat(dto.getEstimatedCost()).isEqualByComparingTo("79.98");
+        assertThat(Hibernate.isInitialized(appointment.getTimeLogs())).isFalse();
+        assertThat(Hibernate.isInitialized(appointment.getProgressUpdates())).isFalse();
+    }
+
+    @Test
+    void testToMyAppointmentDTO_OnlyLoadsServices() {
+        // Given
+        Appointment appointment = entityManager.find(Appointment.class, appointmentId);
+
+        // When
+        MyAppointmentDTO dto = appointmentMapper.toMyAppointmentDTO(appointment);
+
+        // Then
+        assertThat(dto.getServices()).hasSize(2);
+        assertThat(Hibernate.isInitialized(appointment.getCustomer())).isFalse();
+        assertThat(Hibernate.isInitialized(appointment.getVehicle())).isFalse();
+        assertThat(Hibernate.isInitialized(appointment.getAssignedEmployee())).isFalse();
+        assertThat(Hibernate.isInitialized(appointment.getTimeLogs())).isFalse();
+        assertThat(Hibernate.isInitialized(appointment.getProgressUpdates())).isFalse();
+    }
+
+    @Test
+    void testProjectToResponseDTO_LeavesCollectionsUnloaded() {
+        // Given
+        Project project = entityManager.find(Project.class, projectId);
+
+        // When
+        ProjectResponseDTO dto = projectMapper.toResponseDTO(project);
+
+        // Then
+        assertThat(dto.getVehicleRegistrationNumber()).isEqualTo("ABC-1234");
+        assertThat(dto.getAssignedEmployeeId()).isNull();
+        assertThat(Hibernate.isInitialized(project.getTimeLogs())).isFalse();
+        assertThat(Hibernate.isInitialized(project.getProgressUpdates())).isFalse();
+    }
+}
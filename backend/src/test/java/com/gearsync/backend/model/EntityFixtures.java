@@ -0,0 +1,45 @@
+package com.gearsync.backend.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Minimal valid entities for JPA slice tests; callers persist them and set
+ * whatever else the test is about.
+ */
+public final class EntityFixtures {
+
+    private EntityFixtures() {
+    }
+
+    public static User user(String email, Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("secret");
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setPhoneNumber("0771234567");
+        user.setRole(role);
+        return user;
+    }
+
+    public static Vehicle vehicle(String registrationNumber, User owner) {
+        Vehicle vehicle = new Vehicle();
+        vehicle.setRegistrationNumber(registrationNumber);
+        vehicle.setMake("Toyota");
+        vehicle.setModel("Corolla");
+        vehicle.setYear(2020);
+        vehicle.setColor("White");
+        vehicle.setOwner(owner);
+        return vehicle;
+    }
+
+    public static Services service(String name, String price) {
+        Services service = new Services();
+        service.setServiceName(name);
+        service.setDescription(name);
+        service.setCategory(ServiceCategory.MAINTENANCE);
+        service.setBasePrice(new BigDecimal(price));
+        service.setEstimatedDurationMinutes(30);
+        return service;
+    }
+}
@@ -0,0 +1,134 @@
+package com.gearsync.backend.model;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.gearsync.backend.model.EntityFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EntityIdentityTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long customerId;
+    private Long projectId;
+    private Long timeLogId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User customer = entityManager.persist(user("customer@example.com", Role.CUSTOMER));
+        User employee = entityManager.persist(user("employee@example.com", Role.EMPLOYEE));
+
+        Vehicle vehicle = entityManager.persist(vehicle("ABC-1234", customer));
+
+        Project project = new Project();
+        project.setProjectName("Body kit");
+        project.setDescription("Install a body kit");
+        project.setEstimatedCost(new BigDecimal("1500.00"));
+        project.setEstimatedDurationHours(12);
+        project.setCustomer(customer);
+        project.setVehicle(vehicle);
+        project.setAssignedEmployee(employee);
+        entityManager.persist(project);
+
+        TimeLog timeLog = new TimeLog();
+        timeLog.setStartTime(LocalDateTime.of(2025, 1, 2, 9, 0));
+        timeLog.setEndTime(LocalDateTime.of(2025, 1, 2, 11, 0));
+        timeLog.setEmployee(employee);
+        timeLog.setProject(project);
+        entityManager.persist(timeLog);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        customerId = customer.getId();
+        projectId = project.getId();
+        timeLogId = timeLog.getId();
+    }
+
+    @Test
+    void testHashingAndLogging_TriggerNoLazyLoads() {
+        // Given
+        // Customer first: with batch fetching, finding a User also loads any User proxies already pending in the session
+        User customer = entityManager.find(User.class, customerId);
+        TimeLog timeLog = entityManager.find(TimeLog.class, timeLogId);
+        Project project = entityManager.find(Project.class, projectId);
+        statistics.clear();
+
+        // When
+        Set<Object> seen = new HashSet<>();
+        seen.add(timeLog);
+        seen.add(project);
+        seen.add(customer);
+        seen.add(timeLog.getEmployee());
+        seen.add(project.getVehicle());
+        String logged = timeLog + " " + project + " " + customer;
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(seen).hasSize(5);
+        assertThat(logged).contains("Body kit").doesNotContain("secret");
+        assertThat(Hibernate.isInitialized(timeLog.getEmployee())).isFalse();
+        assertThat(Hibernate.isInitialized(project.getVehicle())).isFalse();
+        assertThat(Hibernate.isInitialized(project.getTimeLogs())).isFalse();
+        assertThat(Hibernate.isInitialized(customer.getVehicles())).isFalse();
+    }
+
+    @Test
+    void testProxyEqualsLoadedEntity_WithoutLoadingIt() {
+        // Given
+        Project project = entityManager.find(Project.class, projectId);
+        User customerProxy = project.getCustomer();
+        statistics.clear();
+
+        // When
+        User detachedCustomer = new User();
+        detachedCustomer.setId(customerId);
+
+        // Then
+        assertThat(customerProxy).isEqualTo(detachedCustomer);
+        assertThat(detachedCustomer).isEqualTo(customerProxy);
+        assertThat(customerProxy.hashCode()).isEqualTo(detachedCustomer.hashCode());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(Hibernate.isInitialized(customerProxy)).isFalse();
+    }
+
+    @Test
+    void testHashStaysStable_AcrossPersist() {
+        // Given
+        Set<User> users = new HashSet<>();
+        User user = user("new@example.com", Role.EMPLOYEE);
+        users.add(user);
+
+        // When
+        entityManager.persistAndFlush(user);
+
+        // Then
+        assertThat(users).contains(user);
+        assertThat(user).isNotEqualTo(user("other@example.com", Role.EMPLOYEE));
+    }
+}
@@ -0,0 +1,150 @@
+package com.gearsync.backend.repository;
+
+import com.gearsync.backend.dto.AppointmentResponseDTO;
+import com.gearsync.backend.dto.ProjectResponseDTO;
+import com.gearsync.backend.mapper.AppointmentMapper;
+import com.gearsync.backend.mapper.ProjectMapper;
+import com.gearsync.backend.model.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static com.gearsync.backend.model.EntityFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * The worklist reads must cost one query no matter how many rows come back.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FetchPlanTest {
+
+    private static final int ROWS = 5;
+
+    private final AppointmentMapper appointmentMapper = Mappers.getMapper(AppointmentMapper.class);
+    private final ProjectMapper projectMapper = Mappers.getMapper(ProjectMapper.class);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private Statistics statistics;
+    private Long customerId;
+    private Long employeeId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User employee = entityManager.persist(user("employee@example.com", Role.EMPLOYEE));
+        Services oilChange = entityManager.persist(service("Oil Change", "49.99"));
+        Services tireRotation = entityManager.persist(service("Tire Rotation", "29.99"));
+
+        User customer = null;
+        for (int i = 0; i < ROWS; i++) {
+            // a different customer and vehicle per row, so lazy loading would cost a query each
+            customer = entityManager.persist(user("customer" + i + "@example.com", Role.CUSTOMER));
+
+            Vehicle vehicle = entityManager.persist(vehicle("ABC-" + i, customer));
+
+            Appointment appointment = new Appointment();
+            appointment.setCustomer(customer);
+            appointment.setVehicle(vehicle);
+            appointment.setAssignedEmployee(employee);
+            appointment.setScheduledDateTime(LocalDateTime.of(2025, 1, 10, 9, 0).plusDays(i));
+            appointment.setAppointmentServices(new HashSet<>(List.of(oilChange, tireRotation)));
+            entityManager.persist(appointment);
+
+            Project project = new Project();
+            project.setProjectName("Project " + i);
+            project.setDescription("Custom work");
+            project.setEstimatedCost(new BigDecimal("1500.00"));
+            project.setEstimatedDurationHours(12);
+            project.setCustomer(customer);
+            project.setVehicle(vehicle);
+            project.setAssignedEmployee(employee);
+            entityManager.persist(project);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        customerId = customer.getId();
+        employeeId = employee.getId();
+    }
+
+    @Test
+    void testAssignedAppointments_LoadInOneQuery() {
+        // Given
+        statistics.clear();
+
+        // When
+        List<AppointmentResponseDTO> dtos = appointmentRepository.findWithDetailsByAssignedEmployeeId(employeeId)
+                .stream()
+                .map(a -> appointmentMapper.toResponseDTO(a, new ArrayList<>(a.getAppointmentServices())))
+                .toList();
+
+        // Then
+        assertThat(dtos).hasSize(ROWS);
+        assertThat(dtos).allSatisfy(dto -> assertThat(dto.getServices()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testAssignedProjects_LoadInOneQuery() {
+        // Given
+        statistics.clear();
+
+        // When
+        List<ProjectResponseDTO> dtos = projectRepository.findWithDetailsByAssignedEmployeeId(employeeId)
+                .stream()
+                .map(projectMapper::toResponseDTO)
+                .toList();
+
+        // Then
+        assertThat(dtos).hasSize(ROWS);
+        assertThat(dtos).extracting(ProjectResponseDTO::getAssignedEmployeeEmail)
+                .containsOnly("employee@example.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testCustomerProjects_LoadInOneQuery() {
+        // Given
+        statistics.clear();
+
+        // When
+        List<ProjectResponseDTO> dtos = projectRepository.findWithDetailsByCustomerId(customerId)
+                .stream()
+                .map(projectMapper::toResponseDTO)
+                .toList();
+
+        // Then
+        assertThat(dtos).hasSize(1);
+        assertThat(dtos.get(0).getVehicleRegistrationNumber()).isEqualTo("ABC-" + (ROWS - 1));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,108 @@
+package com.gearsync.backend.security;
+
+import com.gearsync.backend.model.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String SECRET =
+            "VGhpcyBpcyBhIHNlY3VyZSBrZXkgZm9yIEpXVCB0b2tlbnMgdXNpbmcgSFMyNTYgYWxnb3JpdGht";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxEntries", 100);
+        jwtUtil.init();
+    }
+
+    @Test
+    void testParsePrincipal_ReturnsAllClaims() {
+        // Given
+        String token = jwtUtil.generateToken(42L, "employee@example.com", Role.EMPLOYEE);
+
+        // When
+        AuthenticatedUser principal = jwtUtil.parsePrincipal(token);
+
+        // Then
+        assertThat(principal.getId()).isEqualTo(42L);
+        assertThat(principal.getEmail()).isEqualTo("employee@example.com");
+        assertThat(principal.getRole()).isEqualTo(Role.EMPLOYEE);
+    }
+
+    @Test
+    void testParsePrincipal_RepeatTokenServedFromCache() {
+        // Given
+        String token = jwtUtil.generateToken(1L, "admin@example.com", Role.ADMIN);
+
+        // When
+        AuthenticatedUser first = jwtUtil.parsePrincipal(token);
+        AuthenticatedUser second = jwtUtil.parsePrincipal(token);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(jwtUtil.getTokenCacheMisses()).isEqualTo(1);
+        assertThat(jwtUtil.getTokenCacheHits()).isEqualTo(1);
+        assertThat(jwtUtil.getTokenCacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    void testParsePrincipal_TamperedToken_ReturnsNullAndIsNotCached() {
+        // Given
+        String token = jwtUtil.generateToken(1L, "admin@example.com", Role.ADMIN);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        // When
+        AuthenticatedUser principal = jwtUtil.parsePrincipal(tampered);
+
+        // Then
+        assertThat(principal).isNull();
+        assertThat(jwtUtil.getTokenCacheSize()).isZero();
+    }
+
+    @Test
+    void testValidateTokenAndExtractRole_UseSameParse() {
+        // Given
+        String token = jwtUtil.generateToken(7L, "customer@example.com", Role.CUSTOMER);
+
+        // When & Then
+        assertThat(jwtUtil.validateTokenAndGetEmail(token)).isEqualTo("customer@example.com");
+        assertThat(jwtUtil.extractRole(token)).isEqualTo("ROLE_CUSTOMER");
+        assertThat(jwtUtil.getTokenCacheHits()).isEqualTo(1);
+    }
+
+    @Test
+    void testTokenCache_ExpiredEntriesAreMisses() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        AuthenticatedUser principal = new AuthenticatedUser(1L, "a@example.com", Role.ADMIN);
+        cache.put("token", principal, 2_000L, 1_000L);
+
+        // When & Then
+        assertThat(cache.get("token", 1_500L)).isSameAs(principal);
+        assertThat(cache.get("token", 2_000L)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testTokenCache_StaysBounded() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        AuthenticatedUser principal = new AuthenticatedUser(1L, "a@example.com", Role.ADMIN);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            cache.put("token-" + i, principal, 10_000L, 0L);
+        }
+
+        // Then
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        assertThat(cache.get("token-49", 0L)).isSameAs(principal);
+    }
+}
@@ -0,0 +1,211 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.AppointmentBoardDiffDTO;
+import com.gearsync.backend.dto.AppointmentSummaryDTO;
+import com.gearsync.backend.event.AppointmentChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminBoardStreamServiceTest {
+
+    @Mock
+    private AdminDashboardService adminDashboardService;
+
+    @InjectMocks
+    private AdminBoardStreamService streamService;
+
+    private CapturingEmitter emitter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(streamService, "heartbeatSeconds", 3600L);
+        emitter = new CapturingEmitter();
+    }
+
+    private AppointmentSummaryDTO row(Long id, String status) {
+        AppointmentSummaryDTO dto = new AppointmentSummaryDTO();
+        dto.setId(id);
+        dto.setStatus(status);
+        return dto;
+    }
+
+    @Test
+    void testSubscribe_SendsSnapshot() {
+        // Given
+        when(adminDashboardService.getTodayBoard(any(LocalDate.class))).thenReturn(List.of(row(1L, "CONFIRMED")));
+
+        // When
+        streamService.register(emitter);
+
+        // Then
+        assertThat(emitter.payloads).hasSize(1);
+        assertThat(emitter.payloads.get(0)).isEqualTo(List.of(row(1L, "CONFIRMED")));
+        assertThat(streamService.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testFlush_CoalescesBurstIntoOneDiff() {
+        // Given
+        when(adminDashboardService.getTodayBoard(any(LocalDate.class))).thenReturn(List.of(row(1L, "CONFIRMED")));
+        streamService.register(emitter);
+        for (int i = 0; i < 50; i++) {
+            streamService.onAppointmentChanged(new AppointmentChangedEvent(1L));
+            streamService.onAppointmentChanged(new AppointmentChangedEvent(2L));
+        }
+        when(adminDashboardService.getTodayBoard(any(LocalDate.class), anyCollection()))
+                .thenReturn(List.of(row(1L, "IN_PROGRESS"), row(2L, "SCHEDULED")));
+
+        // When
+        streamService.flush();
+
+        // Then
+        verify(adminDashboardService, times(1)).getTodayBoard(any(LocalDate.class), anyCollection());
+        assertThat(emitter.payloads).hasSize(2);
+        AppointmentBoardDiffDTO diff = (AppointmentBoardDiffDTO) emitter.payloads.get(1);
+        assertThat(diff.getChanged()).extracting(AppointmentSummaryDTO::getId).containsExactly(1L);
+        assertThat(diff.getAdded()).extracting(AppointmentSummaryDTO::getId).containsExactly(2L);
+        assertThat(diff.getRemoved()).isEmpty();
+    }
+
+    @Test
+    void testFlush_ReportsRemovedWhenAppointmentLeavesBoard() {
+        // Given
+        when(adminDashboardService.getTodayBoard(any(LocalDate.class))).thenReturn(List.of(row(1L, "CONFIRMED")));
+        streamService.register(emitter);
+        streamService.onAppointmentChanged(new AppointmentChangedEvent(1L));
+        streamService.onAppointmentChanged(new AppointmentChangedEvent(3L));
+        when(adminDashboardService.getTodayBoard(any(LocalDate.class), anyCollection())).thenReturn(List.of());
+
+        // When
+        streamService.flush();
+
+        // Then
+        AppointmentBoardDiffDTO diff = (AppointmentBoardDiffDTO) emitter.payloads.get(1);
+        assertThat(diff.getRemoved()).containsExactly(1L);
+        assertThat(diff.getAdded()).isEmpty();
+        assertThat(diff.getChanged()).isEmpty();
+    }
+
+    @Test
+    void testFlush_PendingChangeIsAddedForEarlierSubscriberAfterAnotherSubscribes() {
+        // Given
+        when(adminDashboardService.getTodayBoard(any(LocalDate.class))).thenReturn(List.of());
+        streamService.register(emitter);
+        streamService.onAppointmentChanged(new AppointmentChangedEvent(42L));
+        when(adminDashboardService.getTodayBoard(any(LocalDate.class))).thenReturn(List.of(row(42L, "SCHEDULED")));
+        CapturingEmitter second = new CapturingEmitter();
+        streamService.register(second);
+        when(adminDashboardService.getTodayBoard(any(LocalDate.class), anyCollection()))
+                .thenReturn(List.of(row(42L, "SCHEDULED")));
+
+        // When
+        streamService.flush();
+
+        // Then
+        AppointmentBoardDiffDTO diff = (AppointmentBoardDiffDTO) emitter.payloads.get(1);
+        assertThat(diff.getAdded()).extracting(AppointmentSummaryDTO::getId).containsExactly(42L);
+        assertThat(diff.getChanged()).isEmpty();
+    }
+
+    @Test
+    void testSubscribe_ReloadsSnapshotWhenDiffGoesOutWhileLoading() {
+        // Given
+        when(adminDashboardService.getTodayBoard(any(LocalDate.class))).thenReturn(List.of(row(1L, "CONFIRMED")));
+        streamService.register(emitter);
+        when(adminDashboardService.getTodayBoard(any(LocalDate.class), anyCollection()))
+                .thenReturn(List.of(row(1L, "IN_PROGRESS")));
+        CapturingEmitter second = new CapturingEmitter();
+        when(adminDashboardService.getTodayBoard(any(LocalDate.class)))
+                .thenAnswer(invocation -> {
+                    // The query runs without the lock, so a flush can go out meanwhile
+                    assertThat(Thread.holdsLock(streamService)).isFalse();
+                    streamService.onAppointmentChanged(new AppointmentChangedEvent(1L));
+                    streamService.flush();
+                    return List.of(row(1L, "CONFIRMED"));
+                })
+                .thenReturn(List.of(row(1L, "IN_PROGRESS")));
+
+        // When
+        streamService.register(second);
+
+        // Then
+        assertThat(second.payloads).hasSize(2);
+        assertThat(second.payloads.get(1)).isEqualTo(List.of(row(1L, "IN_PROGRESS")));
+        assertThat(streamService.getSubscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testFlush_NoChangesSendsNothing() {
+        // Given
+        when(adminDashboardService.getTodayBoard(any(LocalDate.class))).thenReturn(List.of());
+        streamService.register(emitter);
+
+        // When
+        streamService.flush();
+
+        // Then
+        assertThat(emitter.payloads).hasSize(1);
+        verify(adminDashboardService, never()).getTodayBoard(any(LocalDate.class), anyCollection());
+    }
+
+    @Test
+    void testFlush_DropsFailedSubscriber() {
+        // Given
+        when(adminDashboardService.getTodayBoard(any(LocalDate.class))).thenReturn(List.of());
+        streamService.register(emitter);
+        emitter.failing = true;
+        streamService.onAppointmentChanged(new AppointmentChangedEvent(5L));
+        when(adminDashboardService.getTodayBoard(any(LocalDate.class), anyCollection()))
+                .thenReturn(List.of(row(5L, "SCHEDULED")));
+
+        // When
+        streamService.flush();
+
+        // Then
+        assertThat(streamService.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void testOnAppointmentChanged_IgnoredWithoutSubscribers() {
+        // When
+        streamService.onAppointmentChanged(new AppointmentChangedEvent(1L));
+        streamService.flush();
+
+        // Then
+        verifyNoInteractions(adminDashboardService);
+    }
+
+    private static class CapturingEmitter extends SseEmitter {
+        private final List<Object> payloads = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    // Skip the "event:" / "data:" framing text, keep the payload objects
+                    .filter(data -> !(data instanceof String))
+                    .forEach(payloads::add);
+        }
+    }
+}
@@ -1,16 +1,19 @@
 package com.gearsync.backend.service;
 
+import com.gearsync.backend.dto.AdminDashboardSnapshotDTO;
 import com.gearsync.backend.dto.AppointmentSummaryDTO;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.AppointmentRepository;
 import com.gearsync.backend.repository.UserRepository;
 import com.gearsync.backend.repository.VehicleRepository;
+import com.gearsync.backend.repository.projection.StatusTotalsView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -287,4 +290,72 @@ class AdminDashboardServiceTest {
         appointment.setCreatedAt(LocalDateTime.now());
         return appointment;
     }
+
+    private StatusTotalsView statusRow(AppointmentStatus status, Long total, BigDecimal finalCost) {
+        StatusTotalsView row = mock(StatusTotalsView.class);
+        when(row.getStatus()).thenReturn(status);
+        when(row.getTotal()).thenReturn(total);
+        lenient().when(row.getFinalCostTotal()).thenReturn(finalCost);
+        return row;
+    }
+
+    @Test
+    void testGetSnapshot_BuildsCountersFromGroupedQuery() {
+        // Given
+        List<StatusTotalsView> rows = List.of(
+                statusRow(AppointmentStatus.COMPLETED, 3L, new BigDecimal("450.00")),
+                statusRow(AppointmentStatus.IN_PROGRESS, 2L, BigDecimal.ZERO),
+                statusRow(AppointmentStatus.SCHEDULED, 5L, BigDecimal.ZERO)
+        );
+        when(appointmentRepository.summarizeByStatus()).thenReturn(rows);
+        when(userRepository.count()).thenReturn(12L);
+        when(vehicleRepository.count()).thenReturn(7L);
+
+        // When
+        AdminDashboardSnapshotDTO result = adminDashboardService.getSnapshot();
+
+        // Then
+        assertThat(result.getUserCount()).isEqualTo(12L);
+        assertThat(result.getVehicleCount()).isEqualTo(7L);
+        assertThat(result.getAppointmentCount()).isEqualTo(10L);
+        assertThat(result.getTotalEarnings()).isEqualByComparingTo("450.00");
+        assertThat(result.getActiveServiceCount()).isEqualTo(2L);
+        assertThat(result.getAppointmentsByStatus())
+                .hasSize(AppointmentStatus.values().length)
+                .containsEntry("SCHEDULED", 5L)
+                .containsEntry("CANCELLED", 0L);
+        verify(appointmentRepository, never()).count();
+        verify(appointmentRepository, never()).sumFinalCostByStatus(any());
+        verify(appointmentRepository, never()).countByStatus(any());
+    }
+
+    @Test
+    void testGetSnapshot_ServedFromCacheWithinTtl() {
+        // Given
+        ReflectionTestUtils.setField(adminDashboardService, "snapshotTtlSeconds", 60L);
+        when(appointmentRepository.summarizeByStatus()).thenReturn(List.of());
+
+        // When
+        AdminDashboardSnapshotDTO first = adminDashboardService.getSnapshot();
+        AdminDashboardSnapshotDTO second = adminDashboardService.getSnapshot();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getTotalEarnings()).isEqualByComparingTo(BigDecimal.ZERO);
+        verify(appointmentRepository, times(1)).summarizeByStatus();
+        verify(userRepository, times(1)).count();
+    }
+
+    @Test
+    void testGetSnapshot_ZeroTtl_RecomputesEveryCall() {
+        // Given
+        when(appointmentRepository.summarizeByStatus()).thenReturn(List.of());
+
+        // When
+        adminDashboardService.getSnapshot();
+        adminDashboardService.getSnapshot();
+
+        // Then
+        verify(appointmentRepository, times(2)).summarizeByStatus();
+    }
 }
@@ -0,0 +1,515 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.AppointmentResponseDTO;
+import com.gearsync.backend.dto.AppointmentSummaryDTO;
+import com.gearsync.backend.dto.AssignAppointmentDTO;
+import com.gearsync.backend.dto.CustomerWithVehiclesDTO;
+import com.gearsync.backend.dto.PageQueryDTO;
+import com.gearsync.backend.dto.PageResponseDTO;
+import com.gearsync.backend.dto.ProjectSummaryDTO;
+import com.gearsync.backend.dto.UserDto;
+import com.gearsync.backend.exception.ScheduleConflictException;
+import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.mapper.AppointmentMapper;
+import com.gearsync.backend.mapper.ProjectMapper;
+import com.gearsync.backend.mapper.UserMapper;
+import com.gearsync.backend.mapper.VehicleMapper;
+import com.gearsync.backend.model.*;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.gearsync.backend.repository.ProjectRepository;
+import com.gearsync.backend.repository.UserRepository;
+import com.gearsync.backend.repository.VehicleRepository;
+import com.gearsync.backend.repository.projection.AppointmentSummaryView;
+import com.gearsync.backend.repository.projection.CustomerCountView;
+import com.gearsync.backend.repository.projection.ProjectSummaryView;
+import com.gearsync.backend.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdminServicesTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmployeeScheduleService employeeScheduleService;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+
+    @Spy
+    private AppointmentMapper appointmentMapper = Mappers.getMapper(AppointmentMapper.class);
+
+    @Spy
+    private ProjectMapper projectMapper = Mappers.getMapper(ProjectMapper.class);
+
+    @Spy
+    private VehicleMapper vehicleMapper = Mappers.getMapper(VehicleMapper.class);
+
+    @InjectMocks
+    private AdminServices adminServices;
+
+    private User testAdmin;
+
+    @BeforeEach
+    void setUp() {
+        testAdmin = new User();
+        testAdmin.setId(1L);
+        testAdmin.setEmail("admin@example.com");
+        testAdmin.setFirstName("Admin");
+        testAdmin.setLastName("User");
+        testAdmin.setRole(Role.ADMIN);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void authenticate(Long id, String email, Role role) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(id, email, role), null, List.of()));
+    }
+
+    private AppointmentSummaryView appointmentRow(String employeeFirstName, Long timeLogs, Long minutes) {
+        AppointmentSummaryView row = mock(AppointmentSummaryView.class);
+        when(row.getId()).thenReturn(10L);
+        when(row.getScheduledDateTime()).thenReturn(LocalDateTime.of(2025, 1, 10, 9, 0));
+        when(row.getStatus()).thenReturn(AppointmentStatus.CONFIRMED);
+        when(row.getCustomerFirstName()).thenReturn("John");
+        when(row.getCustomerLastName()).thenReturn("Doe");
+        when(row.getCustomerEmail()).thenReturn("customer@example.com");
+        when(row.getVehicleRegistrationNumber()).thenReturn("ABC123");
+        when(row.getEmployeeFirstName()).thenReturn(employeeFirstName);
+        if (employeeFirstName != null) {
+            when(row.getEmployeeLastName()).thenReturn("Smith");
+        }
+        when(row.getTimeLogsCount()).thenReturn(timeLogs);
+        when(row.getTotalTimeLoggedMinutes()).thenReturn(minutes);
+        return row;
+    }
+
+    @Test
+    void testGetAllAppointments_UsesSummaryProjection() {
+        // Given
+        AppointmentSummaryView row = appointmentRow("Jane", 2L, 150L);
+        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(testAdmin));
+        when(appointmentRepository.findAllSummaries()).thenReturn(List.of(row));
+
+        // When
+        List<AppointmentSummaryDTO> result = adminServices.getAllAppointments("admin@example.com");
+
+        // Then
+        assertThat(result).hasSize(1);
+        AppointmentSummaryDTO dto = result.get(0);
+        assertThat(dto.getId()).isEqualTo(10L);
+        assertThat(dto.getStatus()).isEqualTo("CONFIRMED");
+        assertThat(dto.getCustomerName()).isEqualTo("John Doe");
+        assertThat(dto.getAssignedEmployeeName()).isEqualTo("Jane Smith");
+        assertThat(dto.getTimeLogsCount()).isEqualTo(2);
+        assertThat(dto.getTotalTimeLoggedMinutes()).isEqualTo(150);
+        verify(appointmentRepository, never()).findAll();
+    }
+
+    @Test
+    void testGetPendingAppointments_FiltersUnassignedInQuery() {
+        // Given
+        AppointmentSummaryView row = appointmentRow(null, 0L, 0L);
+        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(testAdmin));
+        when(appointmentRepository.findUnassignedSummariesByStatus(AppointmentStatus.SCHEDULED))
+                .thenReturn(List.of(row));
+
+        // When
+        List<AppointmentSummaryDTO> result = adminServices.getPendingAppointments("admin@example.com");
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getAssignedEmployeeName()).isEqualTo("Unassigned");
+        assertThat(result.get(0).getTimeLogsCount()).isZero();
+        verify(appointmentRepository, never()).findByStatus(any());
+    }
+
+    @Test
+    void testGetAppointmentsByStatus_InvalidStatus_ThrowsException() {
+        // Given
+        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(testAdmin));
+
+        // When & Then
+        assertThatThrownBy(() -> adminServices.getAppointmentsByStatus("admin@example.com", "bogus"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid status");
+    }
+
+    @Test
+    void testGetAllProjects_ConvertsMinutesToHours() {
+        // Given
+        ProjectSummaryView row = mock(ProjectSummaryView.class);
+        when(row.getId()).thenReturn(5L);
+        when(row.getStatus()).thenReturn(ProjectStatus.IN_PROGRESS);
+        when(row.getCustomerFirstName()).thenReturn("John");
+        when(row.getCustomerLastName()).thenReturn("Doe");
+        when(row.getVehicleYear()).thenReturn(2020);
+        when(row.getEmployeeId()).thenReturn(null);
+        when(row.getTimeLogsCount()).thenReturn(3L);
+        when(row.getTotalTimeLoggedMinutes()).thenReturn(90L);
+        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(testAdmin));
+        when(projectRepository.findAllSummaries()).thenReturn(List.of(row));
+
+        // When
+        List<ProjectSummaryDTO> result = adminServices.getAllProjects("admin@example.com");
+
+        // Then
+        assertThat(result).hasSize(1);
+        ProjectSummaryDTO dto = result.get(0);
+        assertThat(dto.getVehicleYear()).isEqualTo("2020");
+        assertThat(dto.getAssignedEmployeeName()).isEqualTo("Unassigned");
+        assertThat(dto.getTimeLogsCount()).isEqualTo(3);
+        assertThat(dto.getTotalTimeLoggedHours()).isEqualTo(1.5);
+    }
+
+    @Test
+    void testGetAllAppointments_NonAdmin_ThrowsException() {
+        // Given
+        User customer = new User();
+        customer.setEmail("customer@example.com");
+        customer.setRole(Role.CUSTOMER);
+        when(userRepository.findByEmail("customer@example.com")).thenReturn(Optional.of(customer));
+
+        // When & Then
+        assertThatThrownBy(() -> adminServices.getAllAppointments("customer@example.com"))
+                .isInstanceOf(UnauthorizedException.class);
+        verify(appointmentRepository, never()).findAllSummaries();
+    }
+
+    @Test
+    void testGetAppointmentsPage_AppliesFiltersAndSkipsCountByDefault() {
+        // Given
+        AppointmentSummaryView row = appointmentRow("Jane", 1L, 30L);
+        PageQueryDTO query = new PageQueryDTO();
+        query.setPage(1);
+        query.setSize(10);
+        query.setStatus("confirmed");
+        query.setEmployeeId(2L);
+
+        Pageable expected = PageRequest.of(1, 10,
+                Sort.by(Sort.Direction.DESC, "scheduledDateTime").and(Sort.by(Sort.Direction.DESC, "id")));
+
+        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(testAdmin));
+        when(appointmentRepository.findSummarySlice(eq(AppointmentStatus.CONFIRMED), isNull(), isNull(), eq(2L), eq(expected)))
+                .thenReturn(new SliceImpl<>(List.of(row), expected, true));
+
+        // When
+        PageResponseDTO<AppointmentSummaryDTO> result = adminServices.getAppointmentsPage("admin@example.com", query);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getPage()).isEqualTo(1);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getTotalElements()).isNull();
+        verify(appointmentRepository, never()).countSummaries(any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetAppointmentsPage_IncludeTotal_ComputesTotalPages() {
+        // Given
+        PageQueryDTO query = new PageQueryDTO();
+        query.setSize(20);
+        query.setIncludeTotal(true);
+
+        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(testAdmin));
+        when(appointmentRepository.findSummarySlice(isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+        when(appointmentRepository.countSummaries(null, null, null, null)).thenReturn(45L);
+
+        // When
+        PageResponseDTO<AppointmentSummaryDTO> result = adminServices.getAppointmentsPage("admin@example.com", query);
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(45L);
+        assertThat(result.getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    void testGetAppointmentsPage_UnknownSortKey_ThrowsException() {
+        // Given
+        PageQueryDTO query = new PageQueryDTO();
+        query.setSort("customer.password");
+        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(testAdmin));
+
+        // When & Then
+        assertThatThrownBy(() -> adminServices.getAppointmentsPage("admin@example.com", query))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid sort key");
+    }
+
+    private CustomerCountView countRow(Long customerId, Long total) {
+        CustomerCountView row = mock(CustomerCountView.class);
+        when(row.getCustomerId()).thenReturn(customerId);
+        when(row.getTotal()).thenReturn(total);
+        return row;
+    }
+
+    private User customer(Long id, String email) {
+        User customer = new User();
+        customer.setId(id);
+        customer.setEmail(email);
+        customer.setRole(Role.CUSTOMER);
+        return customer;
+    }
+
+    @Test
+    void testGetAllCustomersWithVehicles_BuildsRollupFromGroupedQueries() {
+        // Given
+        User first = customer(2L, "first@example.com");
+        User second = customer(3L, "second@example.com");
+
+        Vehicle vehicle = new Vehicle();
+        vehicle.setId(7L);
+        vehicle.setRegistrationNumber("ABC123");
+        vehicle.setOwner(first);
+
+        CustomerCountView firstAppointments = countRow(2L, 4L);
+        CustomerCountView secondProjects = countRow(3L, 2L);
+
+        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(testAdmin));
+        when(userRepository.findByRole(Role.CUSTOMER)).thenReturn(List.of(first, second));
+        when(vehicleRepository.findByOwner_Role(Role.CUSTOMER)).thenReturn(List.of(vehicle));
+        when(appointmentRepository.countPerCustomerByRole(Role.CUSTOMER)).thenReturn(List.of(firstAppointments));
+        when(projectRepository.countPerCustomerByRole(Role.CUSTOMER)).thenReturn(List.of(secondProjects));
+
+        // When
+        List<CustomerWithVehiclesDTO> result = adminServices.getAllCustomersWithVehicles("admin@example.com");
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getTotalVehicles()).isEqualTo(1);
+        assertThat(result.get(0).getVehicles().get(0).getRegistrationNumber()).isEqualTo("ABC123");
+        assertThat(result.get(0).getTotalAppointments()).isEqualTo(4);
+        assertThat(result.get(0).getTotalProjects()).isZero();
+        assertThat(result.get(1).getVehicles()).isEmpty();
+        assertThat(result.get(1).getTotalAppointments()).isZero();
+        assertThat(result.get(1).getTotalProjects()).isEqualTo(2);
+        verify(vehicleRepository, never()).findByOwnerId(any());
+        verify(appointmentRepository, never()).findByCustomerId(any());
+        verify(projectRepository, never()).findByCustomerId(any());
+    }
+
+    @Test
+    void testGetCustomersPage_CountsOnlyCustomersOnThePage() {
+        // Given
+        User first = customer(2L, "first@example.com");
+        Pageable pageable = PageRequest.of(0, 1);
+
+        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(testAdmin));
+        when(userRepository.findByRoleIn(eq(List.of(Role.CUSTOMER)), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(first), pageable, true));
+        when(vehicleRepository.findByOwnerIdIn(List.of(2L))).thenReturn(List.of());
+        when(appointmentRepository.countPerCustomerIn(List.of(2L))).thenReturn(List.of());
+        when(projectRepository.countPerCustomerIn(List.of(2L))).thenReturn(List.of());
+
+        // When
+        PageResponseDTO<CustomerWithVehiclesDTO> result =
+                adminServices.getCustomersPage("admin@example.com", new PageQueryDTO());
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).getEmail()).isEqualTo("first@example.com");
+        assertThat(result.getContent().get(0).getTotalAppointments()).isZero();
+        assertThat(result.isHasNext()).isTrue();
+    }
+
+    @Test
+    void testGetStaffPage_ListsEmployeesOnly() {
+        // Given
+        User employee = customer(3L, "employee@example.com");
+        employee.setRole(Role.EMPLOYEE);
+        Pageable pageable = PageRequest.of(0, 20);
+
+        when(userRepository.findByEmail("admin@example.com")).thenReturn(Optional.of(testAdmin));
+        when(userRepository.findByRoleIn(eq(List.of(Role.EMPLOYEE)), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(employee), pageable, false));
+
+        // When
+        PageResponseDTO<UserDto> result = adminServices.getStaffPage("admin@example.com", new PageQueryDTO());
+
+        // Then
+        assertThat(result.getContent()).extracting(UserDto::getRole).containsExactly("EMPLOYEE");
+        verify(userRepository, never()).findByRoleIn(eq(List.of(Role.EMPLOYEE, Role.ADMIN)), any(Pageable.class));
+    }
+
+    @Test
+    void testGetAllAppointments_AdminPrincipal_SkipsUserLookup() {
+        // Given
+        authenticate(1L, "admin@example.com", Role.ADMIN);
+        when(appointmentRepository.findAllSummaries()).thenReturn(List.of());
+
+        // When
+        List<AppointmentSummaryDTO> result = adminServices.getAllAppointments("admin@example.com");
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    void testGetAllAppointments_NonAdminPrincipal_ThrowsException() {
+        // Given
+        authenticate(5L, "employee@example.com", Role.EMPLOYEE);
+
+        // When & Then
+        assertThatThrownBy(() -> adminServices.getAllAppointments("employee@example.com"))
+                .isInstanceOf(UnauthorizedException.class);
+        verify(appointmentRepository, never()).findAllSummaries();
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    private Appointment scheduledAppointment() {
+        Appointment appointment = new Appointment();
+        appointment.setId(20L);
+        appointment.setStatus(AppointmentStatus.SCHEDULED);
+        appointment.setScheduledDateTime(LocalDateTime.of(2025, 1, 10, 9, 0));
+        User customer = new User();
+        customer.setEmail("customer@example.com");
+        appointment.setCustomer(customer);
+        appointment.setVehicle(new Vehicle());
+        return appointment;
+    }
+
+    private User activeEmployee() {
+        User employee = new User();
+        employee.setId(5L);
+        employee.setRole(Role.EMPLOYEE);
+        employee.setIsActive(true);
+        return employee;
+    }
+
+    @Test
+    void testAssignEmployeeToAppointment_OverlapRejected() {
+        // Given
+        authenticate(1L, "admin@example.com", Role.ADMIN);
+        Appointment appointment = scheduledAppointment();
+        when(appointmentRepository.findById(20L)).thenReturn(Optional.of(appointment));
+        when(userRepository.findById(5L)).thenReturn(Optional.of(activeEmployee()));
+        EmployeeScheduleService.WorkWindow window = new EmployeeScheduleService.WorkWindow(
+                EmployeeScheduleService.APPOINTMENT, 20L, appointment.getScheduledDateTime(),
+                appointment.getScheduledDateTime().plusHours(1));
+        when(employeeScheduleService.appointmentWindow(appointment)).thenReturn(window);
+        doThrow(new ScheduleConflictException("Employee is already booked"))
+                .when(employeeScheduleService).requireNoConflict(5L, window);
+        AssignAppointmentDTO request = new AssignAppointmentDTO();
+        request.setEmployeeId(5L);
+
+        // When & Then
+        assertThatThrownBy(() -> adminServices.assignEmployeeToAppointment("admin@example.com", 20L, request))
+                .isInstanceOf(ScheduleConflictException.class);
+        assertThat(appointment.getAssignedEmployee()).isNull();
+        verify(appointmentRepository, never()).save(any());
+    }
+
+    @Test
+    void testAssignEmployeeToAppointment_AllowOverlapSkipsCheck() {
+        // Given
+        authenticate(1L, "admin@example.com", Role.ADMIN);
+        Appointment appointment = scheduledAppointment();
+        when(appointmentRepository.findById(20L)).thenReturn(Optional.of(appointment));
+        when(userRepository.findById(5L)).thenReturn(Optional.of(activeEmployee()));
+        AssignAppointmentDTO request = new AssignAppointmentDTO();
+        request.setEmployeeId(5L);
+        request.setAllowOverlap(true);
+        when(appointmentRepository.save(appointment)).thenReturn(appointment);
+
+        // When
+        adminServices.assignEmployeeToAppointment("admin@example.com", 20L, request);
+
+        // Then
+        assertThat(appointment.getAssignedEmployee().getId()).isEqualTo(5L);
+        verifyNoInteractions(employeeScheduleService);
+    }
+
+    private Appointment appointment(Long id) {
+        Appointment appointment = new Appointment();
+        appointment.setId(id);
+        appointment.setStatus(AppointmentStatus.SCHEDULED);
+        return appointment;
+    }
+
+    @Test
+    void testGetAllAppointmentDetails_WalksIdsOnePageAtATime() {
+        // Given
+        List<Long> firstPage = LongStream.iterate(60, id -> id - 1).limit(50).boxed().toList();
+        List<Long> secondPage = List.of(3L);
+        when(appointmentRepository.findIdPageBefore(Long.MAX_VALUE, PageRequest.ofSize(50))).thenReturn(firstPage);
+        when(appointmentRepository.findIdPageBefore(11L, PageRequest.ofSize(50))).thenReturn(secondPage);
+        when(appointmentRepository.findWithDetailsByIdIn(any())).thenAnswer(invocation -> {
+            List<Appointment> rows = new ArrayList<>();
+            for (Long id : invocation.<List<Long>>getArgument(0)) {
+                rows.add(appointment(id));
+            }
+            Collections.reverse(rows);
+            return rows;
+        });
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        List<List<Long>> pages = new ArrayList<>();
+
+        // When
+        adminServices.getAllAppointments(page -> pages.add(page.stream().map(AppointmentResponseDTO::getId).toList()));
+
+        // Then
+        assertThat(pages).containsExactly(firstPage, secondPage);
+        verify(appointmentRepository).findWithDetailsByIdIn(firstPage);
+        verify(appointmentRepository).findWithDetailsByIdIn(secondPage);
+        verify(appointmentRepository, times(2)).findIdPageBefore(anyLong(), any());
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+}
@@ -5,6 +5,7 @@ import com.gearsync.backend.dto.AppointmentResponseDTO;
 import com.gearsync.backend.dto.MyAppointmentDTO;
 import com.gearsync.backend.dto.UpdateAppointmentRequestDTO;
 import com.gearsync.backend.exception.*;
+import com.gearsync.backend.mapper.AppointmentMapper;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.AppointmentRepository;
 import com.gearsync.backend.repository.ServiceRepository;
@@ -13,10 +14,13 @@ import com.gearsync.backend.repository.VehicleRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -41,8 +45,17 @@ class AppointmentServiceTest {
     @Mock
     private ServiceRepository serviceRepository;
 
+    @Spy
+    private AppointmentMapper appointmentMapper = Mappers.getMapper(AppointmentMapper.class);
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SlotReservationService slotReservationService;
+
     @Mock
-    private ModelMapper modelMapper;
+    private SlotHoldService slotHoldService;
 
     @InjectMocks
     private AppointmentService appointmentService;
@@ -141,6 +154,73 @@ class AppointmentServiceTest {
         verify(appointmentRepository).save(any(Appointment.class));
     }
 
+    @Test
+    void testBookAppointment_ReservesSlotForTotalDuration() {
+        // Given
+        AppointmentRequestDTO request = new AppointmentRequestDTO();
+        request.setVehicleId(1L);
+        request.setScheduledDateTime(LocalDateTime.now().plusDays(1));
+        request.setServiceIds(Arrays.asList(1L, 2L));
+
+        when(userRepository.findByEmail(testCustomer.getEmail())).thenReturn(Optional.of(testCustomer));
+        when(vehicleRepository.findById(1L)).thenReturn(Optional.of(testVehicle));
+        when(serviceRepository.findAllById(request.getServiceIds()))
+                .thenReturn(Arrays.asList(testService1, testService2));
+        when(appointmentRepository.save(any(Appointment.class))).thenReturn(testAppointment);
+
+        // When
+        appointmentService.bookAppointment(testCustomer.getEmail(), request);
+
+        // Then
+        int totalDuration = testService1.getEstimatedDurationMinutes() + testService2.getEstimatedDurationMinutes();
+        verify(slotReservationService).reserve(request.getScheduledDateTime(), totalDuration, null);
+    }
+
+    @Test
+    void testBookAppointment_ConsumesHoldBeforeReserving() {
+        // Given
+        AppointmentRequestDTO request = new AppointmentRequestDTO();
+        request.setVehicleId(1L);
+        request.setScheduledDateTime(LocalDateTime.now().plusDays(1));
+        request.setServiceIds(Arrays.asList(1L, 2L));
+        request.setHoldId(9L);
+
+        when(userRepository.findByEmail(testCustomer.getEmail())).thenReturn(Optional.of(testCustomer));
+        when(vehicleRepository.findById(1L)).thenReturn(Optional.of(testVehicle));
+        when(serviceRepository.findAllById(request.getServiceIds()))
+                .thenReturn(Arrays.asList(testService1, testService2));
+        when(appointmentRepository.save(any(Appointment.class))).thenReturn(testAppointment);
+
+        // When
+        appointmentService.bookAppointment(testCustomer.getEmail(), request);
+
+        // Then
+        InOrder inOrder = inOrder(slotHoldService, slotReservationService);
+        inOrder.verify(slotHoldService).consumeHold(testCustomer.getId(), 9L, request.getScheduledDateTime());
+        inOrder.verify(slotReservationService).reserve(eq(request.getScheduledDateTime()), anyInt(), isNull());
+    }
+
+    @Test
+    void testBookAppointment_SlotFullyBooked() {
+        // Given
+        AppointmentRequestDTO request = new AppointmentRequestDTO();
+        request.setVehicleId(1L);
+        request.setScheduledDateTime(LocalDateTime.now().plusDays(1));
+        request.setServiceIds(Arrays.asList(1L, 2L));
+
+        when(userRepository.findByEmail(testCustomer.getEmail())).thenReturn(Optional.of(testCustomer));
+        when(vehicleRepository.findById(1L)).thenReturn(Optional.of(testVehicle));
+        when(serviceRepository.findAllById(request.getServiceIds()))
+                .thenReturn(Arrays.asList(testService1, testService2));
+        doThrow(new SlotUnavailableException("The selected time slot is fully booked"))
+                .when(slotReservationService).reserve(any(LocalDateTime.class), anyInt(), isNull());
+
+        // When/Then
+        assertThatThrownBy(() -> appointmentService.bookAppointment(testCustomer.getEmail(), request))
+                .isInstanceOf(SlotUnavailableException.class);
+        verify(appointmentRepository, never()).save(any(Appointment.class));
+    }
+
     @Test
     void testBookAppointment_CustomerNotFound() {
         // Given
@@ -283,12 +363,8 @@ class AppointmentServiceTest {
     @Test
     void testGetAppointmentById_Success() {
         // Given
-        MyAppointmentDTO expectedDTO = new MyAppointmentDTO();
-        expectedDTO.setId(1L);
-
         when(userRepository.findByEmail(testCustomer.getEmail())).thenReturn(Optional.of(testCustomer));
         when(appointmentRepository.findById(1L)).thenReturn(Optional.of(testAppointment));
-        when(modelMapper.map(testAppointment, MyAppointmentDTO.class)).thenReturn(expectedDTO);
 
         // When
         MyAppointmentDTO result = appointmentService.getAppointmentById(testCustomer.getEmail(), 1L);
@@ -296,6 +372,10 @@ class AppointmentServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getStatus()).isEqualTo("SCHEDULED");
+        assertThat(result.getServices()).extracting("serviceName")
+                .containsExactlyInAnyOrder("Oil Change", "Tire Rotation");
+        assertThat(result.getEstimatedCost()).isEqualByComparingTo("79.98");
     }
 
     @Test
@@ -1,16 +1,18 @@
 package com.gearsync.backend.service;
 
 import com.gearsync.backend.dto.UserRegisterDTO;
+import com.gearsync.backend.mapper.UserMapper;
 import com.gearsync.backend.model.Role;
 import com.gearsync.backend.model.User;
 import com.gearsync.backend.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -28,8 +30,8 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
-    @Mock
-    private ModelMapper modelMapper;
+    @Spy
+    private UserMapper userMapper = Mappers.getMapper(UserMapper.class);
 
     @InjectMocks
     private AuthService authService;
@@ -91,7 +93,6 @@ class AuthServiceTest {
         newUser.setLastName(registerDTO.getLastName());
         newUser.setPhoneNumber(registerDTO.getPhoneNumber());
 
-        when(modelMapper.map(registerDTO, User.class)).thenReturn(newUser);
         when(passwordEncoder.encode(registerDTO.getPassword())).thenReturn("encodedNewPassword");
         when(userRepository.save(any(User.class))).thenReturn(newUser);
 
@@ -108,8 +109,6 @@ class AuthServiceTest {
     @Test
     void testRegister_PasswordIsEncoded() {
         // Given
-        User newUser = new User();
-        when(modelMapper.map(registerDTO, User.class)).thenReturn(newUser);
         when(passwordEncoder.encode(registerDTO.getPassword())).thenReturn("encodedPassword");
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
             User savedUser = invocation.getArgument(0);
@@ -217,15 +216,19 @@ class AuthServiceTest {
     @Test
     void testRegister_MapperCalledCorrectly() {
         // Given
-        User mappedUser = new User();
-        when(modelMapper.map(registerDTO, User.class)).thenReturn(mappedUser);
+        registerDTO.setRole("CUSTOMER");
         when(passwordEncoder.encode(anyString())).thenReturn("encoded");
-        when(userRepository.save(any(User.class))).thenReturn(mappedUser);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
-        authService.register(registerDTO);
+        User result = authService.register(registerDTO);
 
         // Then
-        verify(modelMapper).map(registerDTO, User.class);
+        verify(userMapper).toEntity(registerDTO);
+        assertThat(result.getEmail()).isEqualTo("newuser@example.com");
+        assertThat(result.getFirstName()).isEqualTo("Jane");
+        assertThat(result.getPhoneNumber()).isEqualTo("0987654321");
+        assertThat(result.getRole()).isEqualTo(Role.CUSTOMER);
+        assertThat(result.getPassword()).isEqualTo("encoded");
     }
 }
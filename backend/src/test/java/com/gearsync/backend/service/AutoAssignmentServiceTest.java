@@ -0,0 +1,324 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.AutoAssignRequestDTO;
+import com.gearsync.backend.dto.AutoAssignResultDTO;
+import com.gearsync.backend.dto.AutoAssignmentDTO;
+import com.gearsync.backend.event.AppointmentChangedEvent;
+import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.model.Appointment;
+import com.gearsync.backend.model.AppointmentStatus;
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.User;
+import com.gearsync.backend.model.Vehicle;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.gearsync.backend.repository.UserRepository;
+import com.gearsync.backend.repository.projection.AppointmentWorkloadView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AutoAssignmentServiceTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SlotAvailabilityService slotAvailabilityService;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmployeeScheduleService employeeScheduleService;
+
+    @InjectMocks
+    private AutoAssignmentService autoAssignmentService;
+
+    private User admin;
+    private User alice;
+    private User bob;
+    private LocalDate day;
+
+    private record WorkloadRow(Long id, LocalDateTime scheduledDateTime, Long employeeId, Long durationMinutes)
+            implements AppointmentWorkloadView {
+        public Long getId() { return id; }
+        public LocalDateTime getScheduledDateTime() { return scheduledDateTime; }
+        public Long getEmployeeId() { return employeeId; }
+        public Long getDurationMinutes() { return durationMinutes; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(autoAssignmentService, "maxDailyMinutes", 480);
+        ReflectionTestUtils.setField(autoAssignmentService, "maxDaysAhead", 90);
+        ReflectionTestUtils.setField(autoAssignmentService, "refreshSeconds", 3600L);
+        lenient().when(slotAvailabilityService.effectiveDuration(any()))
+                .thenAnswer(invocation -> {
+                    Number minutes = invocation.getArgument(0);
+                    return minutes != null && minutes.intValue() > 0 ? minutes.intValue() : 60;
+                });
+
+        admin = user(1L, "admin@test.com", Role.ADMIN);
+        alice = user(10L, "alice@test.com", Role.EMPLOYEE);
+        bob = user(11L, "bob@test.com", Role.EMPLOYEE);
+        day = LocalDate.now().plusDays(3);
+    }
+
+    private User user(Long id, String email, Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setFirstName(email.substring(0, email.indexOf('@')));
+        user.setLastName("Test");
+        user.setRole(role);
+        user.setIsActive(true);
+        return user;
+    }
+
+    private void givenAdminAndEmployees(User... employees) {
+        when(userRepository.findByEmail(admin.getEmail())).thenReturn(Optional.of(admin));
+        when(userRepository.findActiveEmployees()).thenReturn(List.of(employees));
+    }
+
+    private void givenBooked(WorkloadRow... rows) {
+        when(appointmentRepository.findAssignedWorkloadBetween(any(), any(), eq(AppointmentStatus.CANCELLED)))
+                .thenReturn(List.of(rows));
+    }
+
+    private void givenPending(WorkloadRow... rows) {
+        when(appointmentRepository.findUnassignedWorkloadBetween(any(), any(), eq(AppointmentStatus.SCHEDULED)))
+                .thenReturn(List.of(rows));
+    }
+
+    private Appointment pendingAppointment(Long id) {
+        User customer = user(100L + id, "customer" + id + "@test.com", Role.CUSTOMER);
+        Vehicle vehicle = new Vehicle();
+        vehicle.setRegistrationNumber("REG" + id);
+        Appointment appointment = new Appointment();
+        appointment.setId(id);
+        appointment.setCustomer(customer);
+        appointment.setVehicle(vehicle);
+        appointment.setScheduledDateTime(day.atTime(9, 0));
+        appointment.setStatus(AppointmentStatus.SCHEDULED);
+        return appointment;
+    }
+
+    @Test
+    void testAutoAssign_GoesToLeastLoadedEmployee() {
+        // Given
+        givenAdminAndEmployees(alice, bob);
+        givenBooked(new WorkloadRow(1L, day.atTime(8, 0), alice.getId(), 120L));
+        givenPending(new WorkloadRow(2L, day.atTime(10, 0), null, 60L),
+                new WorkloadRow(3L, day.atTime(11, 0), null, 60L));
+
+        // When
+        AutoAssignResultDTO result = autoAssignmentService.autoAssign(admin.getEmail(),
+                new AutoAssignRequestDTO(day, true));
+
+        // Then
+        assertThat(result.getAssignments()).extracting(AutoAssignmentDTO::getEmployeeId)
+                .containsExactly(bob.getId(), bob.getId());
+        assertThat(result.getAssignments().get(1).getEmployeeDayMinutes()).isEqualTo(120);
+        assertThat(result.getUnassignedAppointmentIds()).isEmpty();
+    }
+
+    @Test
+    void testAutoAssign_LongestFirstBalancesTheDay() {
+        // Given
+        givenAdminAndEmployees(alice, bob);
+        givenBooked();
+        givenPending(new WorkloadRow(2L, day.atTime(9, 0), null, 30L),
+                new WorkloadRow(3L, day.atTime(10, 0), null, 30L),
+                new WorkloadRow(4L, day.atTime(11, 0), null, 60L));
+
+        // When
+        AutoAssignResultDTO result = autoAssignmentService.autoAssign(admin.getEmail(),
+                new AutoAssignRequestDTO(day, true));
+
+        // Then
+        Map<Long, Integer> minutes = new HashMap<>();
+        result.getAssignments().forEach(a -> minutes.merge(a.getEmployeeId(), a.getDurationMinutes(), Integer::sum));
+        assertThat(minutes).containsEntry(alice.getId(), 60).containsEntry(bob.getId(), 60);
+    }
+
+    @Test
+    void testAutoAssign_DailyLimitLeavesAppointmentUnassigned() {
+        // Given
+        givenAdminAndEmployees(alice);
+        givenBooked(new WorkloadRow(1L, day.atTime(8, 0), alice.getId(), 450L));
+        givenPending(new WorkloadRow(2L, day.atTime(16, 0), null, 60L));
+
+        // When
+        AutoAssignResultDTO result = autoAssignmentService.autoAssign(admin.getEmail(),
+                new AutoAssignRequestDTO(day, false));
+
+        // Then
+        assertThat(result.getAssignments()).isEmpty();
+        assertThat(result.getUnassignedAppointmentIds()).containsExactly(2L);
+        verify(appointmentRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testAutoAssign_DryRunChangesNothing() {
+        // Given
+        givenAdminAndEmployees(alice);
+        givenBooked();
+        givenPending(new WorkloadRow(2L, day.atTime(10, 0), null, 60L));
+
+        // When
+        AutoAssignResultDTO result = autoAssignmentService.autoAssign(admin.getEmail(),
+                new AutoAssignRequestDTO(day, true));
+
+        // Then
+        assertThat(result.isDryRun()).isTrue();
+        assertThat(result.getAssignments()).hasSize(1);
+        verify(appointmentRepository, never()).findAllWithCustomerAndVehicleByIdIn(any());
+        verifyNoInteractions(eventPublisher, emailService);
+    }
+
+    @Test
+    void testAutoAssign_AppliesAndSkipsAppointmentsTakenMeanwhile() {
+        // Given
+        givenAdminAndEmployees(alice, bob);
+        givenBooked();
+        givenPending(new WorkloadRow(2L, day.atTime(9, 0), null, 60L),
+                new WorkloadRow(3L, day.atTime(10, 0), null, 60L));
+        Appointment free = pendingAppointment(2L);
+        Appointment taken = pendingAppointment(3L);
+        taken.setAssignedEmployee(alice);
+        when(appointmentRepository.findAllWithCustomerAndVehicleByIdIn(any())).thenReturn(List.of(free, taken));
+
+        // When
+        AutoAssignResultDTO result = autoAssignmentService.autoAssign(admin.getEmail(),
+                new AutoAssignRequestDTO(day, false));
+
+        // Then
+        assertThat(result.getAssignments()).extracting(AutoAssignmentDTO::getAppointmentId).containsExactly(2L);
+        assertThat(result.getUnassignedAppointmentIds()).containsExactly(3L);
+        assertThat(free.getAssignedEmployee()).isNotNull();
+        assertThat(free.getStatus()).isEqualTo(AppointmentStatus.CONFIRMED);
+        verify(appointmentRepository).saveAll(List.of(free));
+        verify(eventPublisher).publishEvent(new AppointmentChangedEvent(2L));
+        verify(emailService).sendCustomerAppointmentConfirmation(eq("customer2@test.com"), eq("REG2"),
+                anyString(), eq(free.getScheduledDateTime()), any());
+    }
+
+    @Test
+    void testAutoAssign_SkipsEmployeeWithScheduleConflict() {
+        // Given
+        givenAdminAndEmployees(alice, bob);
+        givenBooked(new WorkloadRow(1L, day.atTime(8, 0), bob.getId(), 120L));
+        givenPending(new WorkloadRow(2L, day.atTime(10, 0), null, 60L));
+        when(employeeScheduleService.findConflicts(eq(alice.getId()), any()))
+                .thenReturn(List.of(new EmployeeScheduleService.WorkWindow(EmployeeScheduleService.PROJECT, 5L,
+                        day.atTime(9, 0), day.atTime(12, 0))));
+
+        // When
+        AutoAssignResultDTO result = autoAssignmentService.autoAssign(admin.getEmail(),
+                new AutoAssignRequestDTO(day, true));
+
+        // Then
+        assertThat(result.getAssignments()).extracting(AutoAssignmentDTO::getEmployeeId)
+                .containsExactly(bob.getId());
+    }
+
+    @Test
+    void testAutoAssign_DoesNotDoubleBookWithinOnePlan() {
+        // Given
+        givenAdminAndEmployees(alice);
+        givenBooked();
+        givenPending(new WorkloadRow(2L, day.atTime(10, 0), null, 60L),
+                new WorkloadRow(3L, day.atTime(10, 30), null, 30L),
+                new WorkloadRow(4L, day.atTime(11, 0), null, 30L));
+
+        // When
+        AutoAssignResultDTO result = autoAssignmentService.autoAssign(admin.getEmail(),
+                new AutoAssignRequestDTO(day, true));
+
+        // Then
+        assertThat(result.getAssignments()).extracting(AutoAssignmentDTO::getAppointmentId)
+                .containsExactlyInAnyOrder(2L, 4L);
+        assertThat(result.getUnassignedAppointmentIds()).containsExactly(3L);
+    }
+
+    @Test
+    void testAutoAssign_NonAdminRejected() {
+        // Given
+        when(userRepository.findByEmail(alice.getEmail())).thenReturn(Optional.of(alice));
+
+        // When/Then
+        assertThatThrownBy(() -> autoAssignmentService.autoAssign(alice.getEmail(), new AutoAssignRequestDTO()))
+                .isInstanceOf(UnauthorizedException.class);
+        verifyNoInteractions(appointmentRepository);
+    }
+
+    @Test
+    void testOnAppointmentChanged_MovesMinutesBetweenEmployees() {
+        // Given
+        givenBooked(new WorkloadRow(1L, day.atTime(8, 0), alice.getId(), 90L));
+        assertThat(autoAssignmentService.bookedMinutes(day, alice.getId())).isEqualTo(90);
+        when(appointmentRepository.findAssignedWorkloadById(1L, AppointmentStatus.CANCELLED))
+                .thenReturn(Optional.of(new WorkloadRow(1L, day.atTime(8, 0), bob.getId(), 90L)));
+
+        // When
+        autoAssignmentService.onAppointmentChanged(new AppointmentChangedEvent(1L));
+
+        // Then
+        assertThat(autoAssignmentService.bookedMinutes(day, alice.getId())).isZero();
+        assertThat(autoAssignmentService.bookedMinutes(day, bob.getId())).isEqualTo(90);
+        verify(appointmentRepository, times(1)).findAssignedWorkloadBetween(any(), any(), any());
+    }
+
+    @Test
+    void testPlan_FullDayOfFiveHundredAppointments() {
+        // Given
+        ReflectionTestUtils.setField(autoAssignmentService, "maxDailyMinutes", 100_000);
+        givenBooked();
+        List<User> employees = new ArrayList<>();
+        for (long id = 0; id < 60; id++) {
+            employees.add(user(20L + id, "employee" + id + "@test.com", Role.EMPLOYEE));
+        }
+        List<AppointmentWorkloadView> pending = new ArrayList<>();
+        for (long id = 0; id < 500; id++) {
+            // Spread over the whole day so nobody has to be double-booked
+            pending.add(new WorkloadRow(id, day.atStartOfDay().plusSeconds(id * 172), null, 30L + (id % 5) * 30));
+        }
+
+        // When
+        AutoAssignResultDTO result = autoAssignmentService.plan(pending, employees);
+
+        // Then
+        assertThat(result.getAssignments()).hasSize(500);
+        Map<Long, Integer> minutes = new HashMap<>();
+        result.getAssignments().forEach(a -> minutes.merge(a.getEmployeeId(), a.getDurationMinutes(), Integer::sum));
+        int busiest = minutes.values().stream().mapToInt(Integer::intValue).max().orElseThrow();
+        int idlest = minutes.values().stream().mapToInt(Integer::intValue).min().orElseThrow();
+        assertThat(minutes).hasSize(60);
+        // Skipping double-booked employees can cost balance, but never more than the longest appointment
+        assertThat(busiest - idlest).isLessThanOrEqualTo(150);
+    }
+}
@@ -1,16 +1,21 @@
 package com.gearsync.backend.service;
 
+import com.gearsync.backend.dto.CustomerDashboardDTO;
 import com.gearsync.backend.dto.MyAppointmentDTO;
 import com.gearsync.backend.exception.ResourceNotFoundException;
+import com.gearsync.backend.mapper.AppointmentMapper;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.AppointmentRepository;
 import com.gearsync.backend.repository.UserRepository;
 import com.gearsync.backend.repository.VehicleRepository;
+import com.gearsync.backend.repository.projection.StatusTotalsView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -33,6 +38,9 @@ class CustomerDashboardServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private AppointmentMapper appointmentMapper = Mappers.getMapper(AppointmentMapper.class);
+
     @InjectMocks
     private CustomerDashboardService customerDashboardService;
 
@@ -263,4 +271,81 @@ class CustomerDashboardServiceTest {
         assertThat(dto.getServices()).hasSize(1);
         assertThat(dto.getEstimatedCost()).isEqualByComparingTo(new BigDecimal("50.00"));
     }
+
+    private StatusTotalsView statusRow(AppointmentStatus status, Long total, BigDecimal finalCost) {
+        StatusTotalsView row = mock(StatusTotalsView.class);
+        when(row.getStatus()).thenReturn(status);
+        when(row.getTotal()).thenReturn(total);
+        lenient().when(row.getFinalCostTotal()).thenReturn(finalCost);
+        return row;
+    }
+
+    @Test
+    void testGetDashboard_AggregatesCountersAndUpcoming() {
+        // Given
+        Services oilChange = new Services();
+        oilChange.setId(3L);
+        oilChange.setServiceName("Oil Change");
+        oilChange.setCategory(ServiceCategory.MAINTENANCE);
+        oilChange.setBasePrice(new BigDecimal("40.00"));
+
+        Appointment upcoming = new Appointment();
+        upcoming.setId(9L);
+        upcoming.setScheduledDateTime(LocalDateTime.now().plusDays(3));
+        upcoming.setStatus(AppointmentStatus.SCHEDULED);
+        upcoming.setAppointmentServices(new HashSet<>(Set.of(oilChange)));
+
+        List<StatusTotalsView> rows = List.of(
+                statusRow(AppointmentStatus.COMPLETED, 4L, new BigDecimal("320.00")),
+                statusRow(AppointmentStatus.IN_PROGRESS, 1L, BigDecimal.ZERO),
+                statusRow(AppointmentStatus.SCHEDULED, 2L, BigDecimal.ZERO)
+        );
+
+        when(userRepository.findByEmail(customerEmail)).thenReturn(Optional.of(testCustomer));
+        when(appointmentRepository.summarizeByStatusForCustomer(1L)).thenReturn(rows);
+        when(appointmentRepository.findUpcomingWithServices(eq(1L), any(LocalDateTime.class)))
+                .thenReturn(List.of(upcoming));
+        when(vehicleRepository.countByOwnerId(1L)).thenReturn(2L);
+
+        // When
+        CustomerDashboardDTO result = customerDashboardService.getDashboard(customerEmail);
+
+        // Then
+        assertThat(result.getAppointmentCount()).isEqualTo(7L);
+        assertThat(result.getActiveAppointmentCount()).isEqualTo(1);
+        assertThat(result.getCompletedServicesCount()).isEqualTo(4);
+        assertThat(result.getVehicleCount()).isEqualTo(2L);
+        assertThat(result.getTotalSpent()).isEqualByComparingTo("320.00");
+        assertThat(result.getUpcomingAppointments()).hasSize(1);
+        assertThat(result.getUpcomingAppointments().get(0).getEstimatedCost()).isEqualByComparingTo("40.00");
+        verify(appointmentRepository, never()).countByCustomer_Email(any());
+        verify(appointmentRepository, never()).sumSpentByCustomerCompleted(any());
+    }
+
+    @Test
+    void testGetDashboard_NoAppointments_ReturnsZeroes() {
+        // Given
+        when(userRepository.findByEmail(customerEmail)).thenReturn(Optional.of(testCustomer));
+        when(appointmentRepository.summarizeByStatusForCustomer(1L)).thenReturn(List.of());
+        when(appointmentRepository.findUpcomingWithServices(eq(1L), any(LocalDateTime.class))).thenReturn(List.of());
+
+        // When
+        CustomerDashboardDTO result = customerDashboardService.getDashboard(customerEmail);
+
+        // Then
+        assertThat(result.getAppointmentCount()).isZero();
+        assertThat(result.getTotalSpent()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(result.getUpcomingAppointments()).isEmpty();
+    }
+
+    @Test
+    void testGetDashboard_CustomerNotFound() {
+        // Given
+        when(userRepository.findByEmail(customerEmail)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> customerDashboardService.getDashboard(customerEmail))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Customer not found");
+    }
 }
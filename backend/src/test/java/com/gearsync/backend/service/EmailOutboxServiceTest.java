@@ -0,0 +1,357 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.model.EmailOutbox;
+import com.gearsync.backend.model.EmailStatus;
+import com.gearsync.backend.repository.EmailOutboxRepository;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxServiceTest {
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private EmailOutboxService emailOutboxService;
+
+    private final AtomicBoolean inTransaction = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            inTransaction.set(true);
+            try {
+                return callback.doInTransaction(new SimpleTransactionStatus());
+            } finally {
+                inTransaction.set(false);
+            }
+        });
+        ReflectionTestUtils.setField(emailOutboxService, "fromEmail", "noreply@gearsync.com");
+        ReflectionTestUtils.setField(emailOutboxService, "batchSize", 50);
+        ReflectionTestUtils.setField(emailOutboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(emailOutboxService, "initialBackoffSeconds", 30L);
+        ReflectionTestUtils.setField(emailOutboxService, "maxBackoffSeconds", 3600L);
+        ReflectionTestUtils.setField(emailOutboxService, "claimSeconds", 300L);
+        ReflectionTestUtils.setField(emailOutboxService, "retentionHours", 24L);
+    }
+
+    private EmailOutbox pendingEmail(int attempts) {
+        EmailOutbox email = new EmailOutbox();
+        email.setId(1L);
+        email.setRecipient("customer@example.com");
+        email.setSubject("Appointment Confirmation");
+        email.setHtmlBody("<p>Hello</p>");
+        email.setStatus(EmailStatus.PENDING);
+        email.setAttempts(attempts);
+        email.setNextAttemptAt(LocalDateTime.now().minusMinutes(1));
+        return email;
+    }
+
+    @Test
+    void testEnqueue_SavesPendingEmailWithoutSending() {
+        // Given
+        when(emailOutboxRepository.save(any(EmailOutbox.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        EmailOutbox result = emailOutboxService.enqueue("customer@example.com", "Subject", "<p>Body</p>");
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(EmailStatus.PENDING);
+        assertThat(result.getAttempts()).isZero();
+        assertThat(result.getNextAttemptAt()).isNotNull();
+        verifyNoInteractions(mailSender);
+    }
+
+    @Test
+    void testDispatchDue_Success_MarksSent() {
+        // Given
+        EmailOutbox email = pendingEmail(0);
+        when(emailOutboxRepository.lockDue(eq(EmailStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(email));
+        when(mailSender.createMimeMessage()).thenReturn(new MimeMessage(Session.getInstance(new Properties())));
+
+        // When
+        emailOutboxService.dispatchDue();
+
+        // Then
+        assertThat(email.getStatus()).isEqualTo(EmailStatus.SENT);
+        assertThat(email.getSentAt()).isNotNull();
+        assertThat(email.getAttempts()).isEqualTo(1);
+        verify(mailSender).send(any(MimeMessage[].class));
+        verify(emailOutboxRepository).saveAll(List.of(email));
+    }
+
+    @Test
+    void testDispatchDue_ClaimsBatchThenSendsOutsideTransaction() {
+        // Given
+        EmailOutbox email = pendingEmail(0);
+        List<LocalDateTime> claimedUntil = new ArrayList<>();
+        List<Boolean> sentInTransaction = new ArrayList<>();
+        when(emailOutboxRepository.lockDue(eq(EmailStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(email));
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> {
+            claimedUntil.add(email.getNextAttemptAt());
+            return new MimeMessage(Session.getInstance(new Properties()));
+        });
+        doAnswer(invocation -> {
+            sentInTransaction.add(inTransaction.get());
+            return null;
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        // When
+        emailOutboxService.dispatchDue();
+
+        // Then
+        assertThat(claimedUntil).singleElement()
+                .satisfies(until -> assertThat(until).isAfter(LocalDateTime.now().plusSeconds(250)));
+        assertThat(sentInTransaction).containsExactly(false);
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    void testPurgeFinished_DeletesSentAndFailedPastRetention() {
+        // When
+        emailOutboxService.purgeFinished();
+
+        // Then
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(emailOutboxRepository).deleteFinishedBefore(
+                eq(List.of(EmailStatus.SENT, EmailStatus.FAILED)), cutoff.capture());
+        assertThat(cutoff.getValue()).isBefore(LocalDateTime.now().minusHours(23));
+    }
+
+    @Test
+    void testDispatchDue_Failure_SchedulesRetryWithBackoff() {
+        // Given
+        EmailOutbox email = pendingEmail(1);
+        when(emailOutboxRepository.lockDue(eq(EmailStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(email));
+        when(mailSender.createMimeMessage()).thenReturn(new MimeMessage(Session.getInstance(new Properties())));
+        doThrow(new MailSendException("SMTP unavailable")).when(mailSender).send(any(MimeMessage[].class));
+
+        // When
+        emailOutboxService.dispatchDue();
+
+        // Then
+        assertThat(email.getStatus()).isEqualTo(EmailStatus.PENDING);
+        assertThat(email.getAttempts()).isEqualTo(2);
+        assertThat(email.getLastError()).contains("SMTP unavailable");
+        assertThat(email.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(50));
+    }
+
+    @Test
+    void testDispatchDue_LastAttemptFails_MarksFailed() {
+        // Given
+        EmailOutbox email = pendingEmail(2);
+        when(emailOutboxRepository.lockDue(eq(EmailStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(email));
+        when(mailSender.createMimeMessage()).thenReturn(new MimeMessage(Session.getInstance(new Properties())));
+        doThrow(new MailSendException("Mailbox unavailable")).when(mailSender).send(any(MimeMessage[].class));
+
+        // When
+        emailOutboxService.dispatchDue();
+
+        // Then
+        assertThat(email.getStatus()).isEqualTo(EmailStatus.FAILED);
+        assertThat(email.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    void testBackoffSeconds_DoublesAndCaps() {
+        assertThat(emailOutboxService.backoffSeconds(1)).isEqualTo(30);
+        assertThat(emailOutboxService.backoffSeconds(2)).isEqualTo(60);
+        assertThat(emailOutboxService.backoffSeconds(3)).isEqualTo(120);
+        assertThat(emailOutboxService.backoffSeconds(20)).isEqualTo(3600);
+    }
+
+    @Test
+    void testDispatchDue_PartialBatchFailure_OnlyRetriesFailedMessages() {
+        // Given
+        EmailOutbox ok = pendingEmail(0);
+        EmailOutbox bounced = pendingEmail(0);
+        bounced.setId(2L);
+        bounced.setRecipient("bounced@example.com");
+        when(emailOutboxRepository.lockDue(eq(EmailStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(ok, bounced));
+        when(mailSender.createMimeMessage())
+                .thenAnswer(invocation -> new MimeMessage(Session.getInstance(new Properties())));
+        doAnswer(invocation -> {
+            for (Object argument : invocation.getArguments()) {
+                MimeMessage message = (MimeMessage) argument;
+                if (message.getAllRecipients()[0].toString().startsWith("bounced")) {
+                    throw new MailSendException(Map.of(message, new Exception("550 Mailbox unavailable")));
+                }
+            }
+            return null;
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        // When
+        emailOutboxService.dispatchDue();
+
+        // Then
+        assertThat(ok.getStatus()).isEqualTo(EmailStatus.SENT);
+        assertThat(bounced.getStatus()).isEqualTo(EmailStatus.PENDING);
+        assertThat(bounced.getLastError()).contains("550");
+        assertThat(emailOutboxService.getMetrics().getSent()).isEqualTo(1);
+        assertThat(emailOutboxService.getMetrics().getFailed()).isEqualTo(1);
+    }
+
+    @Test
+    void testDispatchDue_LocalSmtpServer_SendsBatchOverOneConnection() throws Exception {
+        try (LocalSmtpServer server = new LocalSmtpServer()) {
+            // Given
+            JavaMailSenderImpl smtpSender = new JavaMailSenderImpl();
+            smtpSender.setHost("localhost");
+            smtpSender.setPort(server.getPort());
+            EmailOutboxService service = new EmailOutboxService(emailOutboxRepository, smtpSender, transactionTemplate);
+            ReflectionTestUtils.setField(service, "fromEmail", "noreply@gearsync.com");
+            ReflectionTestUtils.setField(service, "batchSize", 200);
+            ReflectionTestUtils.setField(service, "maxAttempts", 3);
+
+            List<EmailOutbox> emails = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                EmailOutbox email = pendingEmail(0);
+                email.setId((long) i);
+                email.setRecipient("customer" + i + "@example.com");
+                emails.add(email);
+            }
+            when(emailOutboxRepository.lockDue(eq(EmailStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                    .thenReturn(emails);
+
+            // When
+            service.dispatchDue();
+
+            // Then
+            assertThat(emails).allMatch(email -> email.getStatus() == EmailStatus.SENT);
+            assertThat(server.getMessageCount()).isEqualTo(200);
+            assertThat(server.getConnectionCount()).isEqualTo(1);
+            assertThat(service.getMetrics().getBatches()).isEqualTo(1);
+            assertThat(service.getMetrics().getMessagesPerSecond()).isPositive();
+        }
+    }
+
+    /**
+     * Just enough SMTP to accept messages and count connections.
+     */
+    private static class LocalSmtpServer implements AutoCloseable {
+
+        private final ServerSocket serverSocket;
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger messages = new AtomicInteger();
+
+        LocalSmtpServer() throws IOException {
+            serverSocket = new ServerSocket(0);
+            Thread acceptor = new Thread(this::acceptLoop, "local-smtp");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        int getConnectionCount() {
+            return connections.get();
+        }
+
+        int getMessageCount() {
+            return messages.get();
+        }
+
+        private void acceptLoop() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    connections.incrementAndGet();
+                    Thread handler = new Thread(() -> handle(socket));
+                    handler.setDaemon(true);
+                    handler.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void handle(Socket socket) {
+            try (socket;
+                 BufferedReader in = new BufferedReader(
+                         new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                 PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+                reply(out, "220 localhost ESMTP");
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.toUpperCase();
+                    if (command.startsWith("DATA")) {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        while ((line = in.readLine()) != null && !line.equals(".")) {
+                            // discard message body
+                        }
+                        messages.incrementAndGet();
+                        reply(out, "250 OK");
+                    } else if (command.startsWith("QUIT")) {
+                        reply(out, "221 Bye");
+                        return;
+                    } else if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+                        reply(out, "250 localhost");
+                    } else {
+                        reply(out, "250 OK");
+                    }
+                }
+            } catch (IOException ignored) {
+                // client went away
+            }
+        }
+
+        private void reply(PrintWriter out, String line) {
+            out.print(line + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.gearsync.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class EmailTemplateEngineTest {
+
+    private EmailTemplateEngine emailTemplateEngine;
+
+    @BeforeEach
+    void setUp() {
+        emailTemplateEngine = new EmailTemplateEngine();
+        ReflectionTestUtils.setField(emailTemplateEngine, "appName", "GearSync");
+        ReflectionTestUtils.setField(emailTemplateEngine, "appUrl", "http://localhost:3000");
+        emailTemplateEngine.compileTemplates();
+    }
+
+    @Test
+    void testRender_AppointmentConfirmation_FillsEveryPlaceholder() {
+        // When
+        String html = emailTemplateEngine.render(EmailTemplateEngine.APPOINTMENT_CONFIRMATION, Map.of(
+                "customerName", "John Doe",
+                "scheduledAt", "2025-01-10 09:00 AM",
+                "vehicleRegistrationNumber", "ABC123",
+                "finalCost", "150.00",
+                "toEmail", "john@example.com",
+                "year", 2025
+        ));
+
+        // Then
+        assertThat(html).startsWith("<!DOCTYPE html>");
+        assertThat(html).contains("Hello John Doe,", "ABC123", "LKR 150.00", "http://localhost:3000/appointments");
+        assertThat(html).contains("© 2025 GearSync");
+        assertThat(html).contains("#00b09b 0%");
+        assertThat(html).doesNotContain("{{");
+    }
+
+    @Test
+    void testRender_EscapesUserSuppliedValues() {
+        // When
+        String html = emailTemplateEngine.render(EmailTemplateEngine.PASSWORD_RESET_OTP, Map.of(
+                "userName", "<script>alert('x')</script>",
+                "otp", "123456",
+                "year", 2025
+        ));
+
+        // Then
+        assertThat(html).doesNotContain("<script>");
+        assertThat(html).contains("&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt;");
+    }
+
+    @Test
+    void testRender_MissingValue_ThrowsException() {
+        assertThatThrownBy(() -> emailTemplateEngine.render(EmailTemplateEngine.PASSWORD_CHANGED, Map.of("userName", "Jane")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("timestamp");
+    }
+
+    @Test
+    void testRender_UnknownTemplate_ThrowsException() {
+        assertThatThrownBy(() -> emailTemplateEngine.render("invoice", Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown email template");
+    }
+
+    @Test
+    void testCompile_FoldsConstantsIntoStaticFragments() {
+        // Given
+        EmailTemplate template = EmailTemplate.compile("inline",
+                "<p>{{appName}} says hi to {{name}}</p>", Map.of("appName", "Gear & Sync"));
+
+        // When
+        String first = template.render(Map.of("name", "Ann"));
+        String second = template.render(Map.of("name", "Bob"));
+
+        // Then
+        assertThat(first).isEqualTo("<p>Gear &amp; Sync says hi to Ann</p>");
+        assertThat(second).isEqualTo("<p>Gear &amp; Sync says hi to Bob</p>");
+    }
+}
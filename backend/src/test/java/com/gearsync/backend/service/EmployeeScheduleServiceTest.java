@@ -0,0 +1,252 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.EmployeeScheduleDTO;
+import com.gearsync.backend.dto.ScheduleEntryDTO;
+import com.gearsync.backend.event.AppointmentChangedEvent;
+import com.gearsync.backend.event.ProjectChangedEvent;
+import com.gearsync.backend.exception.ScheduleConflictException;
+import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.model.AppointmentStatus;
+import com.gearsync.backend.model.Project;
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.User;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.gearsync.backend.repository.ProjectRepository;
+import com.gearsync.backend.repository.UserRepository;
+import com.gearsync.backend.repository.projection.AppointmentWorkloadView;
+import com.gearsync.backend.repository.projection.ProjectWindowView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.gearsync.backend.service.EmployeeScheduleService.APPOINTMENT;
+import static com.gearsync.backend.service.EmployeeScheduleService.PROJECT;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeScheduleServiceTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SlotAvailabilityService slotAvailabilityService;
+
+    @InjectMocks
+    private EmployeeScheduleService employeeScheduleService;
+
+    private static final Long ALICE = 10L;
+    private static final Long BOB = 11L;
+    private LocalDate day;
+
+    private record WorkloadRow(Long id, LocalDateTime scheduledDateTime, Long employeeId, Long durationMinutes)
+            implements AppointmentWorkloadView {
+        public Long getId() { return id; }
+        public LocalDateTime getScheduledDateTime() { return scheduledDateTime; }
+        public Long getEmployeeId() { return employeeId; }
+        public Long getDurationMinutes() { return durationMinutes; }
+    }
+
+    private record WindowRow(Long id, Long employeeId, LocalDateTime startDate,
+                             LocalDateTime expectedCompletionDate, Integer estimatedDurationHours)
+            implements ProjectWindowView {
+        public Long getId() { return id; }
+        public Long getEmployeeId() { return employeeId; }
+        public LocalDateTime getStartDate() { return startDate; }
+        public LocalDateTime getExpectedCompletionDate() { return expectedCompletionDate; }
+        public Integer getEstimatedDurationHours() { return estimatedDurationHours; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(employeeScheduleService, "historyDays", 30);
+        ReflectionTestUtils.setField(employeeScheduleService, "refreshSeconds", 3600L);
+        lenient().when(slotAvailabilityService.effectiveDuration(any()))
+                .thenAnswer(invocation -> {
+                    Number minutes = invocation.getArgument(0);
+                    return minutes != null && minutes.intValue() > 0 ? minutes.intValue() : 60;
+                });
+        day = LocalDate.now().plusDays(2);
+    }
+
+    private void givenAppointments(Long employeeId, WorkloadRow... rows) {
+        when(appointmentRepository.findWorkloadByEmployeeFrom(eq(employeeId), any(), eq(AppointmentStatus.CANCELLED)))
+                .thenReturn(List.of(rows));
+    }
+
+    private void givenProjects(Long employeeId, WindowRow... rows) {
+        when(projectRepository.findWindowsByEmployee(eq(employeeId), any())).thenReturn(List.of(rows));
+    }
+
+    private EmployeeScheduleService.WorkWindow appointment(Long id, int hour, int minutes) {
+        return new EmployeeScheduleService.WorkWindow(APPOINTMENT, id, day.atTime(hour, 0),
+                day.atTime(hour, 0).plusMinutes(minutes));
+    }
+
+    private User user(Long id, String email, Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setRole(role);
+        return user;
+    }
+
+    @Test
+    void testFindConflicts_AppointmentsAndProjectsOnTheSameTimeline() {
+        // Given
+        givenAppointments(ALICE, new WorkloadRow(1L, day.atTime(9, 0), ALICE, 90L));
+        givenProjects(ALICE, new WindowRow(5L, ALICE, day.atTime(14, 0), day.atTime(17, 0), 3));
+
+        // When/Then
+        assertThat(employeeScheduleService.findConflicts(ALICE, appointment(2L, 10, 60)))
+                .extracting(EmployeeScheduleService.WorkWindow::id).containsExactly(1L);
+        assertThat(employeeScheduleService.findConflicts(ALICE, appointment(3L, 16, 30)))
+                .extracting(EmployeeScheduleService.WorkWindow::type).containsExactly(PROJECT);
+        assertThat(employeeScheduleService.findConflicts(ALICE, appointment(4L, 12, 60))).isEmpty();
+    }
+
+    @Test
+    void testFindConflicts_IgnoresTheWindowBeingReassigned() {
+        // Given
+        givenAppointments(ALICE, new WorkloadRow(1L, day.atTime(9, 0), ALICE, 90L));
+        givenProjects(ALICE);
+
+        // When/Then
+        assertThatCode(() -> employeeScheduleService.requireNoConflict(ALICE, appointment(1L, 9, 120)))
+                .doesNotThrowAnyException();
+        assertThatThrownBy(() -> employeeScheduleService.requireNoConflict(ALICE, appointment(2L, 10, 30)))
+                .isInstanceOf(ScheduleConflictException.class)
+                .hasMessageContaining("appointment 1");
+    }
+
+    @Test
+    void testProjectWindow_WithoutDatesIsNotChecked() {
+        // Given
+        Project project = new Project();
+        project.setId(7L);
+        project.setEstimatedDurationHours(4);
+
+        // When
+        EmployeeScheduleService.WorkWindow window = employeeScheduleService.projectWindow(project);
+
+        // Then
+        assertThat(window).isNull();
+        assertThat(employeeScheduleService.findConflicts(ALICE, window)).isEmpty();
+        verifyNoInteractions(appointmentRepository, projectRepository);
+    }
+
+    @Test
+    void testProjectWindow_FallsBackToEstimatedHours() {
+        // Given
+        Project project = new Project();
+        project.setId(7L);
+        project.setStartDate(day.atTime(8, 0));
+        project.setEstimatedDurationHours(4);
+
+        // When
+        EmployeeScheduleService.WorkWindow window = employeeScheduleService.projectWindow(project);
+
+        // Then
+        assertThat(window.end()).isEqualTo(day.atTime(12, 0));
+    }
+
+    @Test
+    void testOnAppointmentChanged_MovesWindowToNewEmployee() {
+        // Given
+        givenAppointments(ALICE, new WorkloadRow(1L, day.atTime(9, 0), ALICE, 60L));
+        givenAppointments(BOB);
+        givenProjects(ALICE);
+        givenProjects(BOB);
+        assertThat(employeeScheduleService.indexedWindows(ALICE)).isEqualTo(1);
+        assertThat(employeeScheduleService.indexedWindows(BOB)).isZero();
+        when(appointmentRepository.findAssignedWorkloadById(1L, AppointmentStatus.CANCELLED))
+                .thenReturn(Optional.of(new WorkloadRow(1L, day.atTime(9, 0), BOB, 60L)));
+
+        // When
+        employeeScheduleService.onAppointmentChanged(new AppointmentChangedEvent(1L));
+
+        // Then
+        assertThat(employeeScheduleService.indexedWindows(ALICE)).isZero();
+        assertThat(employeeScheduleService.findConflicts(BOB, appointment(2L, 9, 30))).hasSize(1);
+        verify(appointmentRepository, times(1)).findWorkloadByEmployeeFrom(eq(ALICE), any(), any());
+    }
+
+    @Test
+    void testOnProjectChanged_CompletedProjectLeavesTimeline() {
+        // Given
+        givenAppointments(ALICE);
+        givenProjects(ALICE, new WindowRow(5L, ALICE, day.atTime(8, 0), day.atTime(17, 0), 8));
+        assertThat(employeeScheduleService.indexedWindows(ALICE)).isEqualTo(1);
+        when(projectRepository.findWindowById(eq(5L), any())).thenReturn(Optional.empty());
+
+        // When
+        employeeScheduleService.onProjectChanged(new ProjectChangedEvent(5L));
+
+        // Then
+        assertThat(employeeScheduleService.indexedWindows(ALICE)).isZero();
+    }
+
+    @Test
+    void testGetSchedule_FlagsOverlappingEntries() {
+        // Given
+        User admin = user(1L, "admin@test.com", Role.ADMIN);
+        when(userRepository.findByEmail(admin.getEmail())).thenReturn(Optional.of(admin));
+        when(userRepository.findById(ALICE)).thenReturn(Optional.of(user(ALICE, "alice@test.com", Role.EMPLOYEE)));
+        givenAppointments(ALICE,
+                new WorkloadRow(1L, day.atTime(9, 0), ALICE, 60L),
+                new WorkloadRow(2L, day.atTime(9, 30), ALICE, 60L),
+                new WorkloadRow(3L, day.atTime(13, 0), ALICE, 60L),
+                new WorkloadRow(4L, day.plusDays(3).atTime(9, 0), ALICE, 60L));
+        givenProjects(ALICE);
+
+        // When
+        EmployeeScheduleDTO schedule = employeeScheduleService.getSchedule(admin.getEmail(), ALICE, day, day);
+
+        // Then
+        assertThat(schedule.getEntries()).extracting(ScheduleEntryDTO::getId).containsExactly(1L, 2L, 3L);
+        assertThat(schedule.getEntries()).extracting(ScheduleEntryDTO::isConflict).containsExactly(true, true, false);
+    }
+
+    @Test
+    void testGetSchedule_BeforeHistoryHorizonRejected() {
+        // Given
+        User admin = user(1L, "admin@test.com", Role.ADMIN);
+        when(userRepository.findByEmail(admin.getEmail())).thenReturn(Optional.of(admin));
+        when(userRepository.findById(ALICE)).thenReturn(Optional.of(user(ALICE, "alice@test.com", Role.EMPLOYEE)));
+
+        // When/Then
+        assertThatThrownBy(() -> employeeScheduleService.getSchedule(admin.getEmail(), ALICE,
+                LocalDate.now().minusDays(60), LocalDate.now()))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(appointmentRepository);
+    }
+
+    @Test
+    void testGetSchedule_NonAdminRejected() {
+        // Given
+        User employee = user(ALICE, "alice@test.com", Role.EMPLOYEE);
+        when(userRepository.findByEmail(employee.getEmail())).thenReturn(Optional.of(employee));
+
+        // When/Then
+        assertThatThrownBy(() -> employeeScheduleService.getSchedule(employee.getEmail(), ALICE, day, day))
+                .isInstanceOf(UnauthorizedException.class);
+        verifyNoInteractions(appointmentRepository, projectRepository);
+    }
+}
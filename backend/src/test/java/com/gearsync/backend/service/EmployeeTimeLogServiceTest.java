@@ -1,15 +1,26 @@
 package com.gearsync.backend.service;
 
 import com.gearsync.backend.dto.*;
+import com.gearsync.backend.event.AppointmentChangedEvent;
+import com.gearsync.backend.event.ProjectChangedEvent;
 import com.gearsync.backend.exception.*;
+import com.gearsync.backend.mapper.TimeLogMapper;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.*;
+import com.gearsync.backend.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 
 import java.time.LocalDateTime;
@@ -36,6 +47,12 @@ class EmployeeTimeLogServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private TimeLogMapper timeLogMapper = Mappers.getMapper(TimeLogMapper.class);
+
     @InjectMocks
     private EmployeeTimeLogService employeeTimeLogService;
 
@@ -111,6 +128,58 @@ class EmployeeTimeLogServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
         verify(timeLogRepository).save(any(TimeLog.class));
+        assertThat(appointment.getStatus()).isEqualTo(AppointmentStatus.COMPLETED);
+        verify(eventPublisher).publishEvent(new AppointmentChangedEvent(1L));
+        ArgumentCaptor<ProgressEventDTO> progress = ArgumentCaptor.forClass(ProgressEventDTO.class);
+        verify(eventPublisher).publishEvent(progress.capture());
+        assertThat(progress.getValue().getType()).isEqualTo("APPOINTMENT");
+        assertThat(progress.getValue().getCustomerId()).isEqualTo(2L);
+        assertThat(progress.getValue().getStatus()).isEqualTo("COMPLETED");
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testCreateTimeLog_PrincipalFromToken_SkipsUserLookup() {
+        // Given
+        AuthenticatedUser principal = new AuthenticatedUser(employee.getId(), employee.getEmail(), Role.EMPLOYEE);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+
+        TimeLogRequestDTO request = new TimeLogRequestDTO();
+        request.setAppointmentId(1L);
+        request.setStartTime(LocalDateTime.now().minusHours(2));
+        request.setEndTime(LocalDateTime.now().minusHours(1));
+        request.setWorkDescription("Oil change");
+
+        when(userRepository.getReferenceById(employee.getId())).thenReturn(employee);
+        when(appointmentRepository.findById(1L)).thenReturn(Optional.of(appointment));
+        when(timeLogRepository.save(any(TimeLog.class))).thenReturn(timeLog);
+
+        // When
+        TimeLogResponseDTO result = employeeTimeLogService.createTimeLog(employee.getEmail(), request);
+
+        // Then
+        assertThat(result).isNotNull();
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(timeLogRepository).save(argThat(log -> log.getEmployee() == employee));
+    }
+
+    @Test
+    void testCreateTimeLog_PrincipalForDifferentEmail_FallsBackToLookup() {
+        // Given
+        AuthenticatedUser other = new AuthenticatedUser(99L, "other@example.com", Role.ADMIN);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(other, null, List.of()));
+        when(userRepository.findByEmail(employee.getEmail())).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> employeeTimeLogService.createTimeLog(employee.getEmail(), new TimeLogRequestDTO()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(userRepository, never()).getReferenceById(any());
     }
 
     @Test
@@ -136,6 +205,12 @@ class EmployeeTimeLogServiceTest {
         // Then
         assertThat(result).isNotNull();
         verify(timeLogRepository).save(any(TimeLog.class));
+        assertThat(project.getStatus()).isEqualTo(ProjectStatus.COMPLETED);
+        verify(eventPublisher).publishEvent(new ProjectChangedEvent(1L));
+        ArgumentCaptor<ProgressEventDTO> progress = ArgumentCaptor.forClass(ProgressEventDTO.class);
+        verify(eventPublisher).publishEvent(progress.capture());
+        assertThat(progress.getValue().getType()).isEqualTo("PROJECT");
+        assertThat(progress.getValue().getStatus()).isEqualTo("COMPLETED");
     }
 
     @Test
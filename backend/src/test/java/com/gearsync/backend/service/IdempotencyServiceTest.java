@@ -0,0 +1,166 @@
+package com.gearsync.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gearsync.backend.model.IdempotencyRecord;
+import com.gearsync.backend.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class IdempotencyServiceTest {
+
+    private static final String ENDPOINT = "POST /api/customer/appointments";
+    private static final String CALLER = "customer@test.com";
+
+    private IdempotencyRecordRepository repository;
+    private IdempotencyService idempotencyService;
+    private final List<TransactionStatus> transactions = new ArrayList<>();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(IdempotencyRecordRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            TransactionStatus status = new SimpleTransactionStatus();
+            transactions.add(status);
+            return callback.doInTransaction(status);
+        });
+
+        idempotencyService = new IdempotencyService(repository, transactionTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(idempotencyService, "ttlHours", 24L);
+        ReflectionTestUtils.setField(idempotencyService, "cacheSize", 100);
+    }
+
+    private Supplier<ResponseEntity<?>> respond(HttpStatus status, Object body) {
+        return () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.status(status).body(body);
+        };
+    }
+
+    @Test
+    void testExecute_WithoutKeyJustRuns() {
+        // When
+        ResponseEntity<?> response = idempotencyService.execute(ENDPOINT, CALLER, null, Map.of("a", 1),
+                respond(HttpStatus.OK, Map.of("id", 1)));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(executions).hasValue(1);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void testExecute_RetryReplaysStoredResponseWithoutRunningAgain() {
+        // Given
+        idempotencyService.execute(ENDPOINT, CALLER, "key-1", Map.of("a", 1), respond(HttpStatus.OK, Map.of("id", 7)));
+
+        // When
+        ResponseEntity<?> replay = idempotencyService.execute(ENDPOINT, CALLER, "key-1", Map.of("a", 1),
+                respond(HttpStatus.OK, Map.of("id", 8)));
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(replay.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(replay.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(replay.getBody().toString()).isEqualTo("{\"id\":7}");
+        verify(repository, times(1)).saveAndFlush(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void testExecute_SameKeyDifferentRequestRejected() {
+        // Given
+        idempotencyService.execute(ENDPOINT, CALLER, "key-1", Map.of("a", 1), respond(HttpStatus.OK, Map.of("id", 7)));
+
+        // When
+        ResponseEntity<?> response = idempotencyService.execute(ENDPOINT, CALLER, "key-1", Map.of("a", 2),
+                respond(HttpStatus.OK, Map.of("id", 8)));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void testExecute_SameKeyFromAnotherCallerRunsSeparately() {
+        // Given
+        idempotencyService.execute(ENDPOINT, CALLER, "key-1", Map.of("a", 1), respond(HttpStatus.OK, Map.of("id", 7)));
+
+        // When
+        idempotencyService.execute(ENDPOINT, "other@test.com", "key-1", Map.of("a", 1),
+                respond(HttpStatus.OK, Map.of("id", 8)));
+
+        // Then
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void testExecute_FailedResponseRolledBackAndNotStored() {
+        // Given
+        idempotencyService.execute(ENDPOINT, CALLER, "key-1", Map.of("a", 1), respond(HttpStatus.CONFLICT, "Slot taken"));
+
+        // When
+        ResponseEntity<?> retry = idempotencyService.execute(ENDPOINT, CALLER, "key-1", Map.of("a", 1),
+                respond(HttpStatus.OK, Map.of("id", 7)));
+
+        // Then
+        assertThat(transactions.get(0).isRollbackOnly()).isTrue();
+        assertThat(transactions.get(1).isRollbackOnly()).isFalse();
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void testExecute_KeyCommittedByAnotherNodeIsReplayedFromTable() {
+        // Given
+        when(repository.saveAndFlush(any(IdempotencyRecord.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_idempotency_scope_key"));
+        IdempotencyRecord stored = new IdempotencyRecord();
+        stored.setRequestHash(ReflectionTestUtils.invokeMethod(idempotencyService, "hash", Map.of("a", 1)));
+        stored.setStatusCode(201);
+        stored.setResponseBody("{\"id\":3}");
+        stored.setExpiresAt(LocalDateTime.now().plusHours(1));
+        when(repository.findByScopeAndIdempotencyKey(ENDPOINT + " " + CALLER, "key-1")).thenReturn(Optional.of(stored));
+
+        // When
+        ResponseEntity<?> response = idempotencyService.execute(ENDPOINT, CALLER, "key-1", Map.of("a", 1),
+                respond(HttpStatus.CREATED, Map.of("id", 9)));
+
+        // Then
+        assertThat(executions).hasValue(0);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody().toString()).isEqualTo("{\"id\":3}");
+    }
+
+    @Test
+    void testExecute_OversizedKeyRejected() {
+        // When
+        ResponseEntity<?> response = idempotencyService.execute(ENDPOINT, CALLER, "k".repeat(256), Map.of("a", 1),
+                respond(HttpStatus.OK, Map.of("id", 7)));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(executions).hasValue(0);
+    }
+}
@@ -0,0 +1,104 @@
+package com.gearsync.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntervalTreeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 10, 8, 0);
+
+    private static LocalDateTime at(int minutes) {
+        return BASE.plusMinutes(minutes);
+    }
+
+    @Test
+    void testOverlapping_HalfOpenIntervalsInStartOrder() {
+        // Given
+        IntervalTree<Long> tree = new IntervalTree<>();
+        tree.put(1L, at(0), at(60), 1L);
+        tree.put(2L, at(60), at(120), 2L);
+        tree.put(3L, at(30), at(90), 3L);
+
+        // When/Then
+        assertThat(tree.overlapping(at(50), at(70))).containsExactly(1L, 3L, 2L);
+        assertThat(tree.overlapping(at(60), at(61))).containsExactly(3L, 2L);
+        assertThat(tree.overlapping(at(120), at(180))).isEmpty();
+    }
+
+    @Test
+    void testPut_SameIdReplacesInterval() {
+        // Given
+        IntervalTree<Long> tree = new IntervalTree<>();
+        tree.put(1L, at(0), at(60), 1L);
+
+        // When
+        tree.put(1L, at(200), at(260), 1L);
+
+        // Then
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.overlapping(at(0), at(60))).isEmpty();
+        assertThat(tree.overlapping(at(230), at(231))).containsExactly(1L);
+    }
+
+    @Test
+    void testRemove_DropsIntervalAndKeepsOthersReachable() {
+        // Given
+        IntervalTree<Long> tree = new IntervalTree<>();
+        tree.put(1L, at(0), at(600), 1L);
+        tree.put(2L, at(10), at(20), 2L);
+        tree.put(3L, at(400), at(410), 3L);
+
+        // When
+        boolean removed = tree.remove(1L);
+
+        // Then
+        assertThat(removed).isTrue();
+        assertThat(tree.remove(1L)).isFalse();
+        assertThat(tree.overlapping(at(300), at(350))).isEmpty();
+        assertThat(tree.overlapping(at(0), at(600))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void testOverlapping_MatchesBruteForceUnderRandomChurn() {
+        // Given
+        Random random = new Random(42);
+        IntervalTree<Long> tree = new IntervalTree<>();
+        Map<Long, int[]> expected = new HashMap<>();
+
+        for (int step = 0; step < 5_000; step++) {
+            long id = random.nextInt(300);
+            if (random.nextInt(4) == 0) {
+                tree.remove(id);
+                expected.remove(id);
+            } else {
+                int start = random.nextInt(10_000);
+                int end = start + 1 + random.nextInt(300);
+                tree.put(id, at(start), at(end), id);
+                expected.put(id, new int[]{start, end});
+            }
+
+            // When
+            int from = random.nextInt(10_000);
+            int to = from + 1 + random.nextInt(500);
+            List<Long> actual = tree.overlapping(at(from), at(to));
+
+            // Then
+            List<Long> brute = new ArrayList<>();
+            expected.forEach((key, interval) -> {
+                if (interval[0] < to && interval[1] > from) {
+                    brute.add(key);
+                }
+            });
+            assertThat(actual).containsExactlyInAnyOrderElementsOf(brute);
+        }
+        assertThat(tree.size()).isEqualTo(expected.size());
+    }
+}
@@ -4,6 +4,7 @@ import com.gearsync.backend.dto.ProjectRequestDTO;
 import com.gearsync.backend.dto.ProjectResponseDTO;
 import com.gearsync.backend.exception.ResourceNotFoundException;
 import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.mapper.ProjectMapper;
 import com.gearsync.backend.model.*;
 import com.gearsync.backend.repository.ProjectRepository;
 import com.gearsync.backend.repository.UserRepository;
@@ -11,8 +12,10 @@ import com.gearsync.backend.repository.VehicleRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -37,6 +40,9 @@ class ProjectServiceTest {
     @Mock
     private VehicleRepository vehicleRepository;
 
+    @Spy
+    private ProjectMapper projectMapper = Mappers.getMapper(ProjectMapper.class);
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -180,7 +186,7 @@ class ProjectServiceTest {
     void testGetMyProjects_Success() {
         // Given
         when(userRepository.findByEmail(testCustomer.getEmail())).thenReturn(Optional.of(testCustomer));
-        when(projectRepository.findByCustomerId(testCustomer.getId())).thenReturn(Arrays.asList(testProject));
+        when(projectRepository.findWithDetailsByCustomerId(testCustomer.getId())).thenReturn(Arrays.asList(testProject));
 
         // When
         List<ProjectResponseDTO> results = projectService.getMyProjects(testCustomer.getEmail());
@@ -188,7 +194,7 @@ class ProjectServiceTest {
         // Then
         assertThat(results).isNotEmpty();
         assertThat(results).hasSize(1);
-        verify(projectRepository).findByCustomerId(testCustomer.getId());
+        verify(projectRepository).findWithDetailsByCustomerId(testCustomer.getId());
     }
 
     @Test
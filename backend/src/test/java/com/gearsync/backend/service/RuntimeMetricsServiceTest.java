@@ -0,0 +1,98 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.RuntimeMetricsDTO;
+import com.gearsync.backend.model.EmailStatus;
+import com.gearsync.backend.repository.EmailOutboxRepository;
+import com.gearsync.backend.security.JwtUtil;
+import com.gearsync.backend.websocket.WebSocketEventListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RuntimeMetricsServiceTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private WebSocketEventListener webSocketEventListener;
+
+    @InjectMocks
+    private RuntimeMetricsService runtimeMetricsService;
+
+    private final EmailDispatchMetrics emailMetrics = new EmailDispatchMetrics();
+
+    @BeforeEach
+    void setUp() {
+        when(emailOutboxService.getMetrics()).thenReturn(emailMetrics);
+    }
+
+    @Test
+    void testGetMetrics_ReportsTokenCacheCounters() {
+        // Given
+        when(jwtUtil.getTokenCacheHits()).thenReturn(90L);
+        when(jwtUtil.getTokenCacheMisses()).thenReturn(10L);
+        when(jwtUtil.getTokenCacheSize()).thenReturn(7);
+
+        // When
+        RuntimeMetricsDTO metrics = runtimeMetricsService.getMetrics();
+
+        // Then
+        assertThat(metrics.getTokenCacheHits()).isEqualTo(90L);
+        assertThat(metrics.getTokenCacheMisses()).isEqualTo(10L);
+        assertThat(metrics.getTokenCacheSize()).isEqualTo(7);
+        assertThat(metrics.getTokenCacheHitRate()).isEqualTo(0.9);
+        assertThat(metrics.getGeneratedAt()).isNotNull();
+    }
+
+    @Test
+    void testGetMetrics_ReportsEmailDispatchCounters() {
+        // Given
+        emailMetrics.recordBatch(8, 2, 500_000_000L);
+        when(emailOutboxRepository.countByStatus(EmailStatus.PENDING)).thenReturn(4L);
+
+        // When
+        RuntimeMetricsDTO metrics = runtimeMetricsService.getMetrics();
+
+        // Then
+        assertThat(metrics.getEmailsSent()).isEqualTo(8L);
+        assertThat(metrics.getEmailsFailed()).isEqualTo(2L);
+        assertThat(metrics.getEmailBatches()).isEqualTo(1L);
+        assertThat(metrics.getEmailMessagesPerSecond()).isEqualTo(16.0);
+        assertThat(metrics.getEmailsPending()).isEqualTo(4L);
+    }
+
+    @Test
+    void testGetMetrics_ReportsOpenWebSocketSessions() {
+        // Given
+        when(webSocketEventListener.getOpenSessionCount()).thenReturn(3);
+
+        // When
+        RuntimeMetricsDTO metrics = runtimeMetricsService.getMetrics();
+
+        // Then
+        assertThat(metrics.getWebSocketSessions()).isEqualTo(3);
+    }
+
+    @Test
+    void testGetMetrics_NoTraffic_HitRateIsZero() {
+        // When
+        RuntimeMetricsDTO metrics = runtimeMetricsService.getMetrics();
+
+        // Then
+        assertThat(metrics.getTokenCacheHitRate()).isZero();
+    }
+}
@@ -0,0 +1,167 @@
+package com.gearsync.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ShopDayPlannerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 10);
+    private static final LocalDateTime OPEN = DAY.atTime(8, 0);
+    private static final LocalDateTime CLOSE = DAY.atTime(18, 0);
+
+    private static ShopDayPlanner.Job job(long id, int hour, int minutes) {
+        return new ShopDayPlanner.Job(id, DAY.atTime(hour, 0), minutes, null);
+    }
+
+    @Test
+    void testPlan_BaysLimitParallelWork() {
+        // Given
+        ShopDayPlanner planner = new ShopDayPlanner(List.of(10L, 11L), 1, OPEN, CLOSE);
+
+        // When
+        ShopDayPlanner.Plan plan = planner.plan(List.of(job(1, 9, 60), job(2, 9, 60)), List.of(), OPEN);
+
+        // Then
+        assertThat(plan.slots()).extracting(ShopDayPlanner.Slot::start)
+                .containsExactly(DAY.atTime(9, 0), DAY.atTime(10, 0));
+        assertThat(plan.unplanned()).isEmpty();
+    }
+
+    @Test
+    void testPlan_ShortestWaitingJobGoesFirst() {
+        // Given
+        ShopDayPlanner planner = new ShopDayPlanner(List.of(10L), 1, OPEN, CLOSE);
+
+        // When
+        ShopDayPlanner.Plan plan = planner.plan(
+                List.of(job(1, 9, 120), job(2, 9, 30), job(3, 9, 60)), List.of(), OPEN);
+
+        // Then
+        assertThat(plan.slots()).extracting(ShopDayPlanner.Slot::appointmentId).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void testPlan_NeverStartsBeforeBookedTime() {
+        // Given
+        ShopDayPlanner planner = new ShopDayPlanner(List.of(10L), 2, OPEN, CLOSE);
+
+        // When
+        ShopDayPlanner.Plan plan = planner.plan(List.of(job(1, 14, 60)), List.of(), OPEN);
+
+        // Then
+        assertThat(plan.slots().get(0).start()).isEqualTo(DAY.atTime(14, 0));
+    }
+
+    @Test
+    void testPlan_JobsThatCannotFinishByClosingAreUnplanned() {
+        // Given
+        ShopDayPlanner planner = new ShopDayPlanner(List.of(10L), 1, OPEN, CLOSE);
+
+        // When
+        ShopDayPlanner.Plan plan = planner.plan(
+                List.of(job(1, 16, 60), job(2, 16, 90), job(3, 16, 60)), List.of(), OPEN);
+
+        // Then
+        assertThat(plan.slots()).extracting(ShopDayPlanner.Slot::appointmentId).containsExactly(1L, 3L);
+        assertThat(plan.unplanned()).containsExactly(2L);
+    }
+
+    @Test
+    void testPlan_AssignedJobStaysWithItsEmployee() {
+        // Given
+        ShopDayPlanner planner = new ShopDayPlanner(List.of(10L, 11L), 2, OPEN, CLOSE);
+
+        // When
+        ShopDayPlanner.Plan plan = planner.plan(List.of(
+                new ShopDayPlanner.Job(1L, DAY.atTime(9, 0), 60, 11L),
+                new ShopDayPlanner.Job(2L, DAY.atTime(9, 0), 60, 11L)), List.of(), OPEN);
+
+        // Then
+        assertThat(plan.slots()).extracting(ShopDayPlanner.Slot::employeeId).containsOnly(11L);
+        assertThat(plan.slots().get(1).start()).isEqualTo(DAY.atTime(10, 0));
+    }
+
+    @Test
+    void testPlan_JobAssignedToInactiveEmployeeIsUnplanned() {
+        // Given
+        ShopDayPlanner planner = new ShopDayPlanner(List.of(10L), 1, OPEN, CLOSE);
+
+        // When
+        ShopDayPlanner.Plan plan = planner.plan(List.of(
+                new ShopDayPlanner.Job(1L, DAY.atTime(9, 0), 60, 99L),
+                job(2, 9, 60)), List.of(), OPEN);
+
+        // Then
+        assertThat(plan.slots()).extracting(ShopDayPlanner.Slot::appointmentId).containsExactly(2L);
+        assertThat(plan.slots().get(0).start()).isEqualTo(DAY.atTime(9, 0));
+        assertThat(plan.unplanned()).containsExactly(1L);
+    }
+
+    @Test
+    void testPlan_FixedSlotsHoldTheirEmployeeAndBay() {
+        // Given
+        ShopDayPlanner planner = new ShopDayPlanner(List.of(10L), 1, OPEN, CLOSE);
+        ShopDayPlanner.Slot started = new ShopDayPlanner.Slot(1L, 10L, 0, DAY.atTime(9, 0), DAY.atTime(11, 0));
+
+        // When
+        ShopDayPlanner.Plan plan = planner.plan(List.of(job(2, 9, 30)), List.of(started), DAY.atTime(9, 30));
+
+        // Then
+        assertThat(plan.slots()).hasSize(1);
+        assertThat(plan.slots().get(0).start()).isEqualTo(DAY.atTime(11, 0));
+    }
+
+    @Test
+    void testPlan_ThreeHundredJobsNeverDoubleBook() {
+        // Given
+        Random random = new Random(7);
+        List<Long> employees = new ArrayList<>();
+        for (long id = 0; id < 25; id++) {
+            employees.add(id);
+        }
+        List<ShopDayPlanner.Job> jobs = new ArrayList<>();
+        for (long id = 0; id < 300; id++) {
+            jobs.add(new ShopDayPlanner.Job(id, OPEN.plusMinutes(random.nextInt(540)), 30 + random.nextInt(4) * 30,
+                    id % 10 == 0 ? employees.get(random.nextInt(25)) : null));
+        }
+        ShopDayPlanner planner = new ShopDayPlanner(employees, 8, OPEN, CLOSE);
+
+        // When
+        ShopDayPlanner.Plan plan = planner.plan(jobs, List.of(), OPEN);
+
+        // Then
+        assertThat(plan.slots().size() + plan.unplanned().size()).isEqualTo(300);
+        assertNoOverlap(plan.slots().stream().collect(Collectors.groupingBy(ShopDayPlanner.Slot::employeeId)));
+        assertNoOverlap(plan.slots().stream().collect(Collectors.groupingBy(ShopDayPlanner.Slot::bay)));
+        Map<Long, ShopDayPlanner.Job> byId = jobs.stream()
+                .collect(Collectors.toMap(ShopDayPlanner.Job::appointmentId, j -> j));
+        for (ShopDayPlanner.Slot slot : plan.slots()) {
+            ShopDayPlanner.Job job = byId.get(slot.appointmentId());
+            assertThat(slot.start()).isAfterOrEqualTo(job.bookedAt());
+            assertThat(slot.end()).isBeforeOrEqualTo(CLOSE);
+            if (job.employeeId() != null) {
+                assertThat(slot.employeeId()).isEqualTo(job.employeeId());
+            }
+        }
+    }
+
+    private static <K> void assertNoOverlap(Map<K, List<ShopDayPlanner.Slot>> slotsByResource) {
+        slotsByResource.values().forEach(slots -> {
+            List<ShopDayPlanner.Slot> sorted = new ArrayList<>(slots);
+            sorted.sort(Comparator.comparing(ShopDayPlanner.Slot::start));
+            for (int i = 1; i < sorted.size(); i++) {
+                assertThat(sorted.get(i).start()).isAfterOrEqualTo(sorted.get(i - 1).end());
+            }
+        });
+    }
+}
@@ -0,0 +1,164 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.ShopPlanDTO;
+import com.gearsync.backend.dto.ShopPlanSlotDTO;
+import com.gearsync.backend.event.AppointmentChangedEvent;
+import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.User;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.gearsync.backend.repository.UserRepository;
+import com.gearsync.backend.repository.projection.AppointmentWorkloadView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShopPlanServiceTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SlotAvailabilityService slotAvailabilityService;
+
+    @InjectMocks
+    private ShopPlanService shopPlanService;
+
+    private User admin;
+    private User alice;
+    private LocalDate day;
+
+    private record WorkloadRow(Long id, LocalDateTime scheduledDateTime, Long employeeId, Long durationMinutes)
+            implements AppointmentWorkloadView {
+        public Long getId() { return id; }
+        public LocalDateTime getScheduledDateTime() { return scheduledDateTime; }
+        public Long getEmployeeId() { return employeeId; }
+        public Long getDurationMinutes() { return durationMinutes; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(shopPlanService, "openTimeValue", "08:00");
+        ReflectionTestUtils.setField(shopPlanService, "closeTimeValue", "18:00");
+        ReflectionTestUtils.setField(shopPlanService, "bays", 1);
+        ReflectionTestUtils.setField(shopPlanService, "refreshSeconds", 3600L);
+        shopPlanService.init();
+        lenient().when(slotAvailabilityService.effectiveDuration(any()))
+                .thenAnswer(invocation -> {
+                    Number minutes = invocation.getArgument(0);
+                    return minutes != null && minutes.intValue() > 0 ? minutes.intValue() : 60;
+                });
+
+        admin = user(1L, "admin@test.com", Role.ADMIN);
+        alice = user(10L, "alice@test.com", Role.EMPLOYEE);
+        day = LocalDate.now().plusDays(2);
+    }
+
+    private User user(Long id, String email, Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setFirstName(email.substring(0, email.indexOf('@')));
+        user.setLastName("Test");
+        user.setRole(role);
+        return user;
+    }
+
+    private void givenDay(WorkloadRow... rows) {
+        when(userRepository.findActiveEmployees()).thenReturn(List.of(alice));
+        when(appointmentRepository.findWorkloadBetween(any(), any(), eq(ShopPlanService.PLANNED_STATUSES)))
+                .thenReturn(List.of(rows));
+    }
+
+    @Test
+    void testGetPlan_ReportsBaysNamesAndDelays() {
+        // Given
+        when(userRepository.findByEmail(admin.getEmail())).thenReturn(Optional.of(admin));
+        givenDay(new WorkloadRow(1L, day.atTime(9, 0), null, 90L),
+                new WorkloadRow(2L, day.atTime(9, 0), null, 60L));
+
+        // When
+        ShopPlanDTO plan = shopPlanService.getPlan(admin.getEmail(), day);
+
+        // Then
+        assertThat(plan.getSlots()).extracting(ShopPlanSlotDTO::getAppointmentId).containsExactly(2L, 1L);
+        ShopPlanSlotDTO later = plan.getSlots().get(1);
+        assertThat(later.getBay()).isEqualTo(1);
+        assertThat(later.getEmployeeName()).isEqualTo("alice Test");
+        assertThat(later.getDelayMinutes()).isEqualTo(60);
+    }
+
+    @Test
+    void testOnAppointmentChanged_CancelledJobFreesItsSlot() {
+        // Given
+        givenDay(new WorkloadRow(1L, day.atTime(9, 0), null, 60L),
+                new WorkloadRow(2L, day.atTime(9, 0), null, 90L));
+        assertThat(shopPlanService.plan(day, day.atTime(7, 0)).slots().get(1).start()).isEqualTo(day.atTime(10, 0));
+        when(appointmentRepository.findWorkloadById(eq(1L), any())).thenReturn(Optional.empty());
+
+        // When
+        shopPlanService.onAppointmentChanged(new AppointmentChangedEvent(1L));
+
+        // Then
+        ShopDayPlanner.Plan plan = shopPlanService.plan(day, day.atTime(7, 0));
+        assertThat(plan.slots()).extracting(ShopDayPlanner.Slot::appointmentId).containsExactly(2L);
+        assertThat(plan.slots().get(0).start()).isEqualTo(day.atTime(9, 0));
+        verify(appointmentRepository, times(1)).findWorkloadBetween(any(), any(), any());
+    }
+
+    @Test
+    void testOnAppointmentChanged_ReplanKeepsStartedWorkInPlace() {
+        // Given
+        givenDay(new WorkloadRow(1L, day.atTime(9, 0), null, 120L));
+        shopPlanService.plan(day, day.atTime(7, 0));
+        when(appointmentRepository.findWorkloadById(eq(2L), any()))
+                .thenReturn(Optional.of(new WorkloadRow(2L, day.atTime(9, 0), null, 30L)));
+
+        // When
+        shopPlanService.onAppointmentChanged(new AppointmentChangedEvent(2L));
+        ShopDayPlanner.Plan plan = shopPlanService.plan(day, day.atTime(9, 30));
+
+        // Then: the short job would have gone first, but the long one has already started
+        assertThat(plan.slots()).extracting(ShopDayPlanner.Slot::appointmentId).containsExactly(1L, 2L);
+        assertThat(plan.slots().get(1).start()).isEqualTo(day.atTime(11, 0));
+    }
+
+    @Test
+    void testGetPlan_PastDateRejected() {
+        // Given
+        when(userRepository.findByEmail(admin.getEmail())).thenReturn(Optional.of(admin));
+
+        // When/Then
+        assertThatThrownBy(() -> shopPlanService.getPlan(admin.getEmail(), LocalDate.now().minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(appointmentRepository);
+    }
+
+    @Test
+    void testGetPlan_NonAdminRejected() {
+        // Given
+        when(userRepository.findByEmail(alice.getEmail())).thenReturn(Optional.of(alice));
+
+        // When/Then
+        assertThatThrownBy(() -> shopPlanService.getPlan(alice.getEmail(), day))
+                .isInstanceOf(UnauthorizedException.class);
+        verifyNoInteractions(appointmentRepository);
+    }
+}
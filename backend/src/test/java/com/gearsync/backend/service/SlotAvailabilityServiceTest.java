@@ -0,0 +1,233 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.AvailabilityDTO;
+import com.gearsync.backend.dto.AvailableSlotDTO;
+import com.gearsync.backend.event.AppointmentChangedEvent;
+import com.gearsync.backend.exception.ResourceNotFoundException;
+import com.gearsync.backend.model.AppointmentStatus;
+import com.gearsync.backend.model.Services;
+import com.gearsync.backend.model.SlotHold;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.gearsync.backend.repository.ServiceRepository;
+import com.gearsync.backend.repository.SlotHoldRepository;
+import com.gearsync.backend.repository.projection.AppointmentDurationView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlotAvailabilityServiceTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private ServiceRepository serviceRepository;
+
+    @Mock
+    private SlotHoldRepository slotHoldRepository;
+
+    @InjectMocks
+    private SlotAvailabilityService availabilityService;
+
+    private LocalDate monday;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(availabilityService, "openTimeValue", "08:00");
+        ReflectionTestUtils.setField(availabilityService, "closeTimeValue", "18:00");
+        ReflectionTestUtils.setField(availabilityService, "closedDayValues", List.of("SUNDAY"));
+        ReflectionTestUtils.setField(availabilityService, "slotMinutes", 30);
+        ReflectionTestUtils.setField(availabilityService, "capacity", 1);
+        ReflectionTestUtils.setField(availabilityService, "defaultDurationMinutes", 60);
+        ReflectionTestUtils.setField(availabilityService, "maxDaysAhead", 90);
+        ReflectionTestUtils.setField(availabilityService, "refreshSeconds", 3600L);
+        availabilityService.init();
+
+        monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    }
+
+    private record DurationRow(Long id, LocalDateTime scheduledDateTime, Long durationMinutes)
+            implements AppointmentDurationView {
+        public Long getId() { return id; }
+        public LocalDateTime getScheduledDateTime() { return scheduledDateTime; }
+        public Long getDurationMinutes() { return durationMinutes; }
+    }
+
+    private List<LocalTime> startTimes(AvailabilityDTO availability) {
+        return availability.getSlots().stream().map(slot -> slot.getStartTime().toLocalTime()).toList();
+    }
+
+    private void stubDay(DurationRow... rows) {
+        when(appointmentRepository.findDurationsScheduledBetween(any(), any(), eq(AppointmentStatus.CANCELLED)))
+                .thenReturn(List.of(rows));
+    }
+
+    @Test
+    void testGetAvailability_EmptyDayOffersEveryStart() {
+        // Given
+        stubDay();
+
+        // When
+        AvailabilityDTO result = availabilityService.getAvailability(monday, 60, null);
+
+        // Then
+        assertThat(result.getSlots()).hasSize(19);
+        assertThat(result.getSlots().get(0).getStartTime()).isEqualTo(monday.atTime(8, 0));
+        assertThat(result.getSlots().get(18).getEndTime()).isEqualTo(monday.atTime(18, 0));
+    }
+
+    @Test
+    void testGetAvailability_UsesRealDurationOfBookedAppointments() {
+        // Given: a 90 minute booking at 10:00 occupies 10:00-11:30
+        stubDay(new DurationRow(1L, monday.atTime(10, 0), 90L));
+
+        // When
+        AvailabilityDTO result = availabilityService.getAvailability(monday, 60, null);
+
+        // Then
+        assertThat(startTimes(result))
+                .contains(LocalTime.of(9, 0), LocalTime.of(11, 30))
+                .doesNotContain(LocalTime.of(9, 30), LocalTime.of(10, 0), LocalTime.of(10, 30), LocalTime.of(11, 0));
+    }
+
+    @Test
+    void testGetAvailability_ReportsRemainingCapacity() {
+        // Given
+        ReflectionTestUtils.setField(availabilityService, "capacity", 2);
+        stubDay(new DurationRow(1L, monday.atTime(8, 0), 30L));
+
+        // When
+        AvailabilityDTO result = availabilityService.getAvailability(monday, 30, null);
+
+        // Then
+        assertThat(result.getSlots().get(0).getRemainingCapacity()).isEqualTo(1);
+        assertThat(result.getSlots().get(1).getRemainingCapacity()).isEqualTo(2);
+    }
+
+    @Test
+    void testGetAvailability_ClosedDayHasNoSlots() {
+        // When
+        AvailabilityDTO result = availabilityService.getAvailability(monday.minusDays(1), 60, null);
+
+        // Then
+        assertThat(result.getSlots()).isEmpty();
+        verifyNoInteractions(appointmentRepository);
+    }
+
+    @Test
+    void testGetAvailability_PastDateRejected() {
+        assertThatThrownBy(() -> availabilityService.getAvailability(LocalDate.now().minusDays(1), 60, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testGetAvailability_DurationFromServices() {
+        // Given
+        Services oil = new Services();
+        oil.setId(1L);
+        oil.setEstimatedDurationMinutes(30);
+        oil.setIsActive(true);
+        Services brakes = new Services();
+        brakes.setId(2L);
+        brakes.setEstimatedDurationMinutes(120);
+        brakes.setIsActive(true);
+        when(serviceRepository.findAll()).thenReturn(List.of(oil, brakes));
+        stubDay();
+
+        // When
+        AvailabilityDTO result = availabilityService.getAvailability(monday, null, List.of(1L, 2L));
+
+        // Then
+        assertThat(result.getDurationMinutes()).isEqualTo(150);
+        AvailableSlotDTO last = result.getSlots().get(result.getSlots().size() - 1);
+        assertThat(last.getStartTime()).isEqualTo(monday.atTime(15, 30));
+        assertThatThrownBy(() -> availabilityService.getAvailability(monday, null, List.of(99L)))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void testOnAppointmentChanged_UpdatesIndexIncrementally() {
+        // Given
+        stubDay();
+        availabilityService.getAvailability(monday, 60, null);
+        when(appointmentRepository.findDurationById(5L, AppointmentStatus.CANCELLED))
+                .thenReturn(Optional.of(new DurationRow(5L, monday.atTime(8, 0), 60L)));
+
+        // When
+        availabilityService.onAppointmentChanged(new AppointmentChangedEvent(5L));
+
+        // Then
+        assertThat(availabilityService.remainingCapacity(monday.atTime(8, 0), 60)).isZero();
+        assertThat(availabilityService.remainingCapacity(monday.atTime(9, 0), 60)).isEqualTo(1);
+        verify(appointmentRepository, times(1)).findDurationsScheduledBetween(any(), any(), any());
+    }
+
+    @Test
+    void testOnAppointmentChanged_CancelledOrMovedFreesSlot() {
+        // Given
+        stubDay(new DurationRow(5L, monday.atTime(8, 0), 60L));
+        assertThat(availabilityService.remainingCapacity(monday.atTime(8, 0), 60)).isZero();
+        when(appointmentRepository.findDurationById(5L, AppointmentStatus.CANCELLED)).thenReturn(Optional.empty());
+
+        // When
+        availabilityService.onAppointmentChanged(new AppointmentChangedEvent(5L));
+
+        // Then
+        assertThat(availabilityService.remainingCapacity(monday.atTime(8, 0), 60)).isEqualTo(1);
+    }
+
+    @Test
+    void testRemainingCapacity_OutsideHoursOrOffGrid() {
+        assertThat(availabilityService.remainingCapacity(monday.atTime(7, 30), 30)).isZero();
+        assertThat(availabilityService.remainingCapacity(monday.atTime(8, 10), 30)).isZero();
+        assertThat(availabilityService.remainingCapacity(monday.atTime(17, 30), 60)).isZero();
+    }
+
+    @Test
+    void testGetAvailability_ActiveHoldTakesCapacity() {
+        // Given
+        stubDay();
+        SlotHold hold = new SlotHold(7L, null, monday.atTime(9, 0), 60, LocalDateTime.now().plusMinutes(10), null);
+        when(slotHoldRepository.findActiveBetween(any(), any(), any())).thenReturn(List.of(hold));
+
+        // When
+        AvailabilityDTO availability = availabilityService.getAvailability(monday, 30, null);
+
+        // Then
+        assertThat(startTimes(availability)).doesNotContain(LocalTime.of(9, 0), LocalTime.of(9, 30));
+        assertThat(availabilityService.remainingCapacityInDatabase(monday.atTime(9, 30), 30, null)).isZero();
+        assertThat(availabilityService.remainingCapacityInDatabase(monday.atTime(10, 0), 30, null)).isEqualTo(1);
+    }
+
+    @Test
+    void testPutAndReleaseHold_UpdatesLoadedDay() {
+        // Given
+        stubDay();
+        availabilityService.getAvailability(monday, 60, null);
+
+        // When
+        availabilityService.putHold(3L, monday.atTime(10, 0), 60);
+
+        // Then
+        assertThat(availabilityService.remainingCapacity(monday.atTime(10, 0), 30)).isZero();
+        availabilityService.releaseHold(3L);
+        assertThat(availabilityService.remainingCapacity(monday.atTime(10, 0), 30)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,221 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.dto.SlotHoldDTO;
+import com.gearsync.backend.dto.SlotHoldRequestDTO;
+import com.gearsync.backend.exception.SlotUnavailableException;
+import com.gearsync.backend.exception.UnauthorizedException;
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.model.SlotHold;
+import com.gearsync.backend.model.User;
+import com.gearsync.backend.repository.SlotHoldRepository;
+import com.gearsync.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlotHoldServiceTest {
+
+    @Mock
+    private SlotHoldRepository slotHoldRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SlotAvailabilityService slotAvailabilityService;
+
+    @Mock
+    private SlotReservationService slotReservationService;
+
+    @InjectMocks
+    private SlotHoldService slotHoldService;
+
+    private User customer;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(slotHoldService, "ttlMinutes", 10L);
+        ReflectionTestUtils.setField(slotHoldService, "tickMillis", 1000L);
+        slotHoldService.init();
+
+        customer = new User();
+        customer.setId(1L);
+        customer.setEmail("customer@test.com");
+        customer.setRole(Role.CUSTOMER);
+
+        start = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    private SlotHoldRequestDTO request() {
+        return new SlotHoldRequestDTO(List.of(1L, 2L), start);
+    }
+
+    private void stubSave(long id) {
+        when(slotHoldRepository.save(any(SlotHold.class))).thenAnswer(invocation -> {
+            SlotHold hold = invocation.getArgument(0);
+            hold.setId(id);
+            return hold;
+        });
+    }
+
+    private SlotHold hold(long id, User owner, LocalDateTime expiresAt) {
+        return new SlotHold(id, owner, start, 60, expiresAt, LocalDateTime.now());
+    }
+
+    @Test
+    void testCreateHold_ReservesAndSchedulesExpiry() {
+        // Given
+        when(userRepository.findByEmail(customer.getEmail())).thenReturn(Optional.of(customer));
+        when(slotAvailabilityService.resolveDuration(null, List.of(1L, 2L))).thenReturn(50);
+        when(slotHoldRepository.findByCustomerId(1L)).thenReturn(List.of());
+        stubSave(5L);
+
+        // When
+        SlotHoldDTO result = slotHoldService.createHold(customer.getEmail(), request());
+
+        // Then
+        assertThat(result.getHoldId()).isEqualTo(5L);
+        assertThat(result.getDurationMinutes()).isEqualTo(50);
+        assertThat(result.getExpiresAt()).isAfter(LocalDateTime.now().plusMinutes(9));
+        verify(slotReservationService).reserve(start, 50, null);
+        verify(slotAvailabilityService).putHold(5L, start, 50);
+        assertThat(slotHoldService.getScheduledHoldCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testCreateHold_ReplacesPreviousHold() {
+        // Given
+        SlotHold previous = hold(4L, customer, LocalDateTime.now().plusMinutes(5));
+        when(userRepository.findByEmail(customer.getEmail())).thenReturn(Optional.of(customer));
+        when(slotAvailabilityService.resolveDuration(null, List.of(1L, 2L))).thenReturn(50);
+        when(slotHoldRepository.findByCustomerId(1L)).thenReturn(List.of(previous));
+        stubSave(5L);
+
+        // When
+        slotHoldService.createHold(customer.getEmail(), request());
+
+        // Then
+        verify(slotHoldRepository).deleteAll(List.of(previous));
+        verify(slotAvailabilityService).releaseHold(4L);
+    }
+
+    @Test
+    void testCreateHold_SlotFullNothingSaved() {
+        // Given
+        when(userRepository.findByEmail(customer.getEmail())).thenReturn(Optional.of(customer));
+        when(slotAvailabilityService.resolveDuration(null, List.of(1L, 2L))).thenReturn(50);
+        when(slotHoldRepository.findByCustomerId(1L)).thenReturn(List.of());
+        doThrow(new SlotUnavailableException("full")).when(slotReservationService).reserve(start, 50, null);
+
+        // When/Then
+        assertThatThrownBy(() -> slotHoldService.createHold(customer.getEmail(), request()))
+                .isInstanceOf(SlotUnavailableException.class);
+        verify(slotHoldRepository, never()).save(any());
+        assertThat(slotHoldService.getScheduledHoldCount()).isZero();
+    }
+
+    @Test
+    void testCreateHold_NonCustomerRejected() {
+        // Given
+        customer.setRole(Role.EMPLOYEE);
+        when(userRepository.findByEmail(customer.getEmail())).thenReturn(Optional.of(customer));
+
+        // When/Then
+        assertThatThrownBy(() -> slotHoldService.createHold(customer.getEmail(), request()))
+                .isInstanceOf(UnauthorizedException.class);
+        verifyNoInteractions(slotReservationService);
+    }
+
+    @Test
+    void testExpireHolds_ReleasesAndDeletesExpiredInOneBatch() {
+        // Given
+        ReflectionTestUtils.setField(slotHoldService, "ttlMinutes", 0L);
+        when(userRepository.findByEmail(customer.getEmail())).thenReturn(Optional.of(customer));
+        when(slotAvailabilityService.resolveDuration(null, List.of(1L, 2L))).thenReturn(50);
+        when(slotHoldRepository.findByCustomerId(1L)).thenReturn(List.of());
+        stubSave(5L);
+        slotHoldService.createHold(customer.getEmail(), request());
+
+        // When
+        slotHoldService.expireHolds();
+
+        // Then
+        verify(slotAvailabilityService).releaseHold(5L);
+        verify(slotHoldRepository).deleteExpired(eq(List.of(5L)), any(LocalDateTime.class));
+        assertThat(slotHoldService.getScheduledHoldCount()).isZero();
+    }
+
+    @Test
+    void testInit_WheelTicksAtConfiguredInterval() {
+        // Given
+        ReflectionTestUtils.setField(slotHoldService, "tickMillis", 250L);
+
+        // When
+        slotHoldService.init();
+
+        // Then
+        Object wheel = ReflectionTestUtils.getField(slotHoldService, "expiryWheel");
+        assertThat(ReflectionTestUtils.getField(wheel, "tickMillis")).isEqualTo(250L);
+    }
+
+    @Test
+    void testExpireHolds_NothingDueTouchesNoTable() {
+        // When
+        slotHoldService.expireHolds();
+
+        // Then
+        verifyNoInteractions(slotHoldRepository, slotAvailabilityService);
+    }
+
+    @Test
+    void testConsumeHold_DeletesOwnHold() {
+        // Given
+        when(slotHoldRepository.findById(5L)).thenReturn(Optional.of(hold(5L, customer, LocalDateTime.now().plusMinutes(5))));
+
+        // When
+        slotHoldService.consumeHold(1L, 5L, start);
+
+        // Then
+        verify(slotHoldRepository).delete(any(SlotHold.class));
+        verify(slotAvailabilityService).releaseHold(5L);
+    }
+
+    @Test
+    void testConsumeHold_RejectsOtherCustomersHoldOrDifferentTime() {
+        // Given
+        when(slotHoldRepository.findById(5L)).thenReturn(Optional.of(hold(5L, customer, LocalDateTime.now().plusMinutes(5))));
+
+        // When/Then
+        assertThatThrownBy(() -> slotHoldService.consumeHold(2L, 5L, start))
+                .isInstanceOf(UnauthorizedException.class);
+        assertThatThrownBy(() -> slotHoldService.consumeHold(1L, 5L, start.plusHours(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(slotHoldRepository, never()).delete(any(SlotHold.class));
+    }
+
+    @Test
+    void testConsumeHold_ExpiredHoldIgnored() {
+        // Given
+        when(slotHoldRepository.findById(5L)).thenReturn(Optional.of(hold(5L, customer, LocalDateTime.now().minusMinutes(1))));
+
+        // When
+        slotHoldService.consumeHold(1L, 5L, start);
+
+        // Then
+        verify(slotHoldRepository, never()).delete(any(SlotHold.class));
+    }
+}
@@ -0,0 +1,233 @@
+package com.gearsync.backend.service;
+
+import com.gearsync.backend.exception.SlotUnavailableException;
+import com.gearsync.backend.model.AppointmentStatus;
+import com.gearsync.backend.repository.AppointmentRepository;
+import com.gearsync.backend.repository.ServiceRepository;
+import com.gearsync.backend.repository.SlotHoldRepository;
+import com.gearsync.backend.repository.projection.AppointmentDurationView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SlotReservationServiceTest {
+
+    private static final int CAPACITY = 2;
+
+    private final Queue<DurationRow> committed = new ConcurrentLinkedQueue<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    private AppointmentRepository appointmentRepository;
+    private JdbcTemplate jdbcTemplate;
+    private SlotReservationService reservationService;
+    private LocalDate monday;
+
+    private record DurationRow(Long id, LocalDateTime scheduledDateTime, Long durationMinutes)
+            implements AppointmentDurationView {
+        public Long getId() { return id; }
+        public LocalDateTime getScheduledDateTime() { return scheduledDateTime; }
+        public Long getDurationMinutes() { return durationMinutes; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        // stubOnly: the stress test calls this mock from many threads and nothing verifies it
+        appointmentRepository = mock(AppointmentRepository.class, withSettings().stubOnly());
+        when(appointmentRepository.findDurationsScheduledBetween(any(), any(), eq(AppointmentStatus.CANCELLED)))
+                .thenAnswer(invocation -> {
+                    LocalDateTime from = invocation.getArgument(0);
+                    LocalDateTime to = invocation.getArgument(1);
+                    List<DurationRow> rows = committed.stream()
+                            .filter(row -> !row.getScheduledDateTime().isBefore(from)
+                                    && row.getScheduledDateTime().isBefore(to))
+                            .toList();
+                    // Widen the window between reading capacity and inserting, as a real round trip would
+                    LockSupport.parkNanos(200_000);
+                    return rows;
+                });
+
+        SlotAvailabilityService availabilityService =
+                new SlotAvailabilityService(appointmentRepository, mock(ServiceRepository.class),
+                        mock(SlotHoldRepository.class, withSettings().stubOnly()));
+        ReflectionTestUtils.setField(availabilityService, "openTimeValue", "08:00");
+        ReflectionTestUtils.setField(availabilityService, "closeTimeValue", "18:00");
+        ReflectionTestUtils.setField(availabilityService, "closedDayValues", List.of("SUNDAY"));
+        ReflectionTestUtils.setField(availabilityService, "slotMinutes", 30);
+        ReflectionTestUtils.setField(availabilityService, "capacity", CAPACITY);
+        ReflectionTestUtils.setField(availabilityService, "defaultDurationMinutes", 60);
+        availabilityService.init();
+
+        jdbcTemplate = mock(JdbcTemplate.class);
+        reservationService = new SlotReservationService(availabilityService, jdbcTemplate);
+        ReflectionTestUtils.setField(reservationService, "stripeCount", 64);
+        ReflectionTestUtils.setField(reservationService, "lockTimeoutMs", 30_000L);
+        ReflectionTestUtils.setField(reservationService, "advisoryLocksEnabled", false);
+        reservationService.init();
+
+        monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // Runs the body the way a @Transactional booking would: reserve, insert, then commit and release
+    private boolean book(LocalDateTime start, int durationMinutes) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            reservationService.reserve(start, durationMinutes, null);
+            committed.add(new DurationRow(ids.incrementAndGet(), start, (long) durationMinutes));
+            return true;
+        } catch (SlotUnavailableException e) {
+            return false;
+        } finally {
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        }
+    }
+
+    private int peakOverlap() {
+        int peak = 0;
+        for (LocalDateTime t = monday.atTime(7, 0); t.isBefore(monday.atTime(14, 0)); t = t.plusMinutes(5)) {
+            LocalDateTime instant = t;
+            int open = (int) committed.stream()
+                    .filter(row -> !row.getScheduledDateTime().isAfter(instant)
+                            && row.getScheduledDateTime().plusMinutes(row.getDurationMinutes()).isAfter(instant))
+                    .count();
+            peak = Math.max(peak, open);
+        }
+        return peak;
+    }
+
+    @Test
+    void testReserve_RejectsWhenCapacityReached() {
+        assertThat(book(monday.atTime(9, 0), 60)).isTrue();
+        assertThat(book(monday.atTime(9, 30), 60)).isTrue();
+        assertThat(book(monday.atTime(9, 45), 30)).isFalse();
+        assertThat(book(monday.atTime(10, 0), 30)).isTrue();
+    }
+
+    @Test
+    void testReserve_ExcludesAppointmentBeingRescheduled() {
+        // Given
+        book(monday.atTime(9, 0), 60);
+        book(monday.atTime(9, 0), 60);
+        Long movedId = committed.peek().getId();
+
+        // When/Then
+        TransactionSynchronizationManager.initSynchronization();
+        assertThatCode(() -> reservationService.reserve(monday.atTime(9, 30), 60, movedId)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> reservationService.reserve(monday.atTime(9, 30), 60, null))
+                .isInstanceOf(SlotUnavailableException.class);
+    }
+
+    @Test
+    void testReserve_RejectsStartsWhenShopIsClosed() {
+        // Given
+        LocalDate sunday = monday.minusDays(1);
+
+        // When/Then
+        assertThat(book(sunday.atTime(10, 0), 60)).isFalse();
+        assertThat(book(monday.atTime(3, 0), 60)).isFalse();
+        assertThat(book(monday.atTime(18, 0), 30)).isFalse();
+        assertThat(book(monday.atTime(17, 30), 30)).isTrue();
+        assertThat(committed).hasSize(1);
+    }
+
+    @Test
+    void testReserve_RequiresTransaction() {
+        assertThatThrownBy(() -> reservationService.reserve(monday.atTime(9, 0), 60, null))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testReserve_TakesAdvisoryLocksInAscendingOrder() {
+        // Given
+        ReflectionTestUtils.setField(reservationService, "advisoryLocksEnabled", true);
+        List<Long> keys = new ArrayList<>(reservationService.slotKeys(monday.atTime(9, 0), 90));
+
+        // When
+        assertThat(book(monday.atTime(9, 0), 90)).isTrue();
+
+        // Then
+        assertThat(keys).hasSize(3);
+        InOrder inOrder = inOrder(jdbcTemplate);
+        for (Long key : keys) {
+            inOrder.verify(jdbcTemplate).queryForObject("select pg_advisory_xact_lock(?, ?)", Object.class,
+                    SlotReservationService.ADVISORY_LOCK_NAMESPACE, key.intValue());
+        }
+    }
+
+    @Test
+    void testSlotKeys_OverlappingBookingsShareAKey() {
+        assertThat(reservationService.slotKeys(monday.atTime(9, 0), 60))
+                .containsAnyElementsOf(reservationService.slotKeys(monday.atTime(9, 50), 20));
+        assertThat(reservationService.slotKeys(monday.atTime(9, 0), 60))
+                .doesNotContainAnyElementsOf(reservationService.slotKeys(monday.atTime(10, 0), 30));
+    }
+
+    @Test
+    void testConcurrentBookings_NeverOverbook() throws Exception {
+        // Given: 400 bookings racing for overlapping slots in a four hour window
+        int bookings = 400;
+        ExecutorService pool = Executors.newFixedThreadPool(64);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        int[] durations = {30, 60, 90};
+
+        for (int i = 0; i < bookings; i++) {
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                LocalDateTime start = monday.atTime(8, 0).plusMinutes(30L * random.nextInt(8));
+                if (book(start, durations[random.nextInt(durations.length)])) {
+                    accepted.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        // When
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        // Then
+        assertThat(accepted.get()).isPositive().isEqualTo(committed.size());
+        assertThat(peakOverlap()).isLessThanOrEqualTo(CAPACITY);
+    }
+}
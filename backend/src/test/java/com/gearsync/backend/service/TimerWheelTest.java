@@ -0,0 +1,64 @@
+package com.gearsync.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TimerWheelTest {
+
+    @Test
+    void testAdvance_ReturnsOnlyKeysPastTheirDeadline() {
+        // Given
+        TimerWheel<Long> wheel = new TimerWheel<>(100, 8, 0);
+        wheel.schedule(1L, 250);
+        wheel.schedule(2L, 450);
+
+        // When/Then
+        assertThat(wheel.advance(200)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactly(1L);
+        assertThat(wheel.advance(500)).containsExactly(2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void testCancel_RemovesKey() {
+        // Given
+        TimerWheel<Long> wheel = new TimerWheel<>(100, 8, 0);
+        wheel.schedule(1L, 250);
+
+        // When
+        boolean cancelled = wheel.cancel(1L);
+
+        // Then
+        assertThat(cancelled).isTrue();
+        assertThat(wheel.advance(1000)).isEmpty();
+        assertThat(wheel.cancel(1L)).isFalse();
+    }
+
+    @Test
+    void testAdvance_DeadlineBeyondOneRevolutionWaitsForItsPass() {
+        // Given: 8 buckets of 100ms cover 800ms, the deadline is two revolutions out
+        TimerWheel<Long> wheel = new TimerWheel<>(100, 8, 0);
+        wheel.schedule(1L, 1650);
+
+        // When/Then
+        assertThat(wheel.advance(700)).isEmpty();
+        assertThat(wheel.advance(1500)).isEmpty();
+        assertThat(wheel.advance(1700)).containsExactly(1L);
+    }
+
+    @Test
+    void testSchedule_RescheduleReplacesDeadline() {
+        // Given
+        TimerWheel<Long> wheel = new TimerWheel<>(100, 8, 0);
+        wheel.schedule(1L, 150);
+
+        // When
+        wheel.schedule(1L, 550);
+
+        // Then
+        assertThat(wheel.advance(300)).isEmpty();
+        assertThat(wheel.advance(600)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+}
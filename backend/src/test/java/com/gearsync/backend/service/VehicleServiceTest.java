@@ -5,6 +5,7 @@ import com.gearsync.backend.dto.VehicleResponseDTO;
 import com.gearsync.backend.exception.UserNotFoundException;
 import com.gearsync.backend.exception.VehicleAlreadyExistsException;
 import com.gearsync.backend.exception.VehicleNotFoundException;
+import com.gearsync.backend.mapper.VehicleMapper;
 import com.gearsync.backend.model.Role;
 import com.gearsync.backend.model.User;
 import com.gearsync.backend.model.Vehicle;
@@ -13,10 +14,11 @@ import com.gearsync.backend.repository.VehicleRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 
 import java.util.Arrays;
 import java.util.List;
@@ -39,8 +41,8 @@ class VehicleServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private ModelMapper modelMapper;
+    @Spy
+    private VehicleMapper vehicleMapper = Mappers.getMapper(VehicleMapper.class);
 
     @InjectMocks
     private VehicleService vehicleService;
@@ -137,23 +139,23 @@ class VehicleServiceTest {
     @Test
     void testAddMyVehicle_Success() {
         // Given
-        VehicleResponseDTO responseDTO = new VehicleResponseDTO();
-        responseDTO.setId(2L);
-        responseDTO.setMake("Honda");
-        responseDTO.setModel("Civic");
-        responseDTO.setOwnerEmail("customer@example.com");
-
         when(userRepository.findByEmail("customer@example.com")).thenReturn(Optional.of(testUser));
         when(vehicleRepository.existsByRegistrationNumber("XYZ-789")).thenReturn(false);
-        when(modelMapper.map(vehicleRequestDTO, Vehicle.class)).thenReturn(testVehicle);
-        when(vehicleRepository.save(any(Vehicle.class))).thenReturn(testVehicle);
-        when(modelMapper.map(testVehicle, VehicleResponseDTO.class)).thenReturn(responseDTO);
+        when(vehicleRepository.save(any(Vehicle.class))).thenAnswer(invocation -> {
+            Vehicle saved = invocation.getArgument(0);
+            saved.setId(2L);
+            return saved;
+        });
 
         // When
         VehicleResponseDTO result = vehicleService.addMyVehicle("customer@example.com", vehicleRequestDTO);
 
         // Then
         assertThat(result).isNotNull();
+        assertThat(result.getId()).isEqualTo(2L);
+        assertThat(result.getMake()).isEqualTo("Honda");
+        assertThat(result.getRegistrationNumber()).isEqualTo("XYZ-789");
+        assertThat(result.getMileage()).isEqualTo(30000);
         assertThat(result.getOwnerEmail()).isEqualTo("customer@example.com");
         verify(vehicleRepository, times(1)).save(any(Vehicle.class));
     }
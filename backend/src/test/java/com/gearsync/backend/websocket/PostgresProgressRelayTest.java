@@ -0,0 +1,118 @@
+package com.gearsync.backend.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.gearsync.backend.dto.ProgressEventDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresProgressRelayTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ProgressWebSocketHandler progressWebSocketHandler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private PostgresProgressRelay relay;
+    private PostgresProgressRelay otherNode;
+
+    @BeforeEach
+    void setUp() {
+        relay = new PostgresProgressRelay(jdbcTemplate, new DataSourceProperties(), objectMapper, progressWebSocketHandler,
+                transactionManager);
+        otherNode = new PostgresProgressRelay(jdbcTemplate, new DataSourceProperties(), objectMapper, progressWebSocketHandler,
+                transactionManager);
+        ReflectionTestUtils.setField(relay, "channel", "gearsync_progress");
+        ReflectionTestUtils.setField(otherNode, "channel", "gearsync_progress");
+    }
+
+    private ProgressEventDTO event(String message) {
+        return new ProgressEventDTO("APPOINTMENT", 5L, 9L, "CONFIRMED", "IN_PROGRESS", 40, message,
+                LocalDateTime.of(2025, 1, 2, 10, 0));
+    }
+
+    @Test
+    void testOnProgress_NotifiesChannel() {
+        // When
+        relay.onProgress(event("Started"));
+
+        // Then
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).queryForObject(eq("select pg_notify(?, ?)"), eq(Object.class),
+                eq("gearsync_progress"), payload.capture());
+        assertThat(payload.getValue()).contains(relay.getNodeId()).contains("IN_PROGRESS");
+    }
+
+    @Test
+    void testHandleNotification_DeliversEventsFromOtherNodes() {
+        // Given
+        String payload = otherNode.encode(event("Started"));
+
+        // When
+        relay.handleNotification(payload);
+
+        // Then
+        ArgumentCaptor<ProgressEventDTO> delivered = ArgumentCaptor.forClass(ProgressEventDTO.class);
+        verify(progressWebSocketHandler).deliver(delivered.capture());
+        assertThat(delivered.getValue()).isEqualTo(event("Started"));
+    }
+
+    @Test
+    void testHandleNotification_IgnoresOwnEvents() {
+        // When
+        relay.handleNotification(relay.encode(event("Started")));
+
+        // Then
+        verifyNoInteractions(progressWebSocketHandler);
+    }
+
+    @Test
+    void testHandleNotification_IgnoresMalformedPayload() {
+        // When
+        relay.handleNotification("not json");
+
+        // Then
+        verifyNoInteractions(progressWebSocketHandler);
+    }
+
+    @Test
+    void testEncode_DropsMessageWhenPayloadTooLarge() {
+        // When
+        String payload = relay.encode(event("x".repeat(PostgresProgressRelay.MAX_PAYLOAD_BYTES)));
+
+        // Then
+        assertThat(payload.getBytes(StandardCharsets.UTF_8).length).isLessThan(PostgresProgressRelay.MAX_PAYLOAD_BYTES);
+        assertThat(payload).contains("IN_PROGRESS").doesNotContain("xxxx");
+    }
+
+    @Test
+    void testStart_RejectsInvalidChannelName() {
+        // Given
+        ReflectionTestUtils.setField(relay, "channel", "progress; drop table users");
+
+        // When/Then
+        assertThatThrownBy(relay::start).isInstanceOf(IllegalStateException.class);
+    }
+}
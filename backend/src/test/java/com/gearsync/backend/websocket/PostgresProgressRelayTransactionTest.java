@@ -0,0 +1,136 @@
+package com.gearsync.backend.websocket;
+
+import com.gearsync.backend.dto.ProgressEventDTO;
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+import static com.gearsync.backend.model.EntityFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Publishes progress events from real JPA transactions on the pooled
+ * datasource. pg_notify is an H2 alias that records the notification on the
+ * calling connection along with whether it ran inside a transaction the relay
+ * manages. Postgres only delivers a NOTIFY once its transaction commits, so
+ * one sent after commit on the finished transaction's connection is lost.
+ */
+@DataJpaTest(properties = "app.realtime.fanout.enabled=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostgresProgressRelay.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+// The listener thread cannot LISTEN on H2 and keeps retrying until the context closes
+@DirtiesContext
+class PostgresProgressRelayTransactionTest {
+
+    // H2 only calls alias methods declared public on a public class
+    public static class PgNotify {
+
+        public static String pgNotify(Connection connection, String channel, String payload) throws SQLException {
+            // A NOTIFY outside a transaction the relay owns sits on a connection nobody commits
+            boolean managed = TransactionSynchronizationManager.isSynchronizationActive()
+                    && TransactionSynchronizationManager.isActualTransactionActive();
+            try (PreparedStatement insert = connection.prepareStatement("insert into notifications values (?, ?, ?)")) {
+                insert.setString(1, channel);
+                insert.setString(2, payload);
+                insert.setBoolean(3, managed);
+                insert.executeUpdate();
+            }
+            return "";
+        }
+    }
+
+    @MockBean
+    private ProgressWebSocketHandler progressWebSocketHandler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("create table if not exists notifications (channel varchar(64), payload varchar(8000), managed boolean)");
+        jdbcTemplate.execute("create alias if not exists pg_notify for \""
+                + PgNotify.class.getName() + ".pgNotify\"");
+        jdbcTemplate.execute("delete from notifications");
+        userRepository.deleteAll();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    private ProgressEventDTO event() {
+        return new ProgressEventDTO("APPOINTMENT", 5L, 9L, "CONFIRMED", "IN_PROGRESS", 40, "Started",
+                LocalDateTime.of(2025, 1, 2, 10, 0));
+    }
+
+    @Test
+    void testOnProgress_NotifiesInOwnTransactionAfterCommit() {
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.saveAndFlush(user("employee@example.com", Role.EMPLOYEE));
+            eventPublisher.publishEvent(event());
+        });
+
+        // Then
+        assertThat(jdbcTemplate.queryForList("select payload from notifications", String.class))
+                .singleElement()
+                .asString()
+                .contains("IN_PROGRESS");
+        assertThat(jdbcTemplate.queryForObject("select managed from notifications", Boolean.class)).isTrue();
+    }
+
+    @Test
+    void testOnProgress_SkipsNotifyWhenBusinessTransactionRollsBack() {
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.saveAndFlush(user("employee@example.com", Role.EMPLOYEE));
+            eventPublisher.publishEvent(event());
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("select count(*) from notifications", Integer.class)).isZero();
+    }
+
+    @Test
+    void testOnProgress_NotifiesWithoutTransaction() {
+        // When
+        eventPublisher.publishEvent(event());
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("select managed from notifications", Boolean.class)).isTrue();
+    }
+}
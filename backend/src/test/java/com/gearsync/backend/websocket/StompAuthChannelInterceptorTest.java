@@ -0,0 +1,108 @@
+package com.gearsync.backend.websocket;
+
+import com.gearsync.backend.model.Role;
+import com.gearsync.backend.security.AuthenticatedUser;
+import com.gearsync.backend.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthChannelInterceptorTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @InjectMocks
+    private StompAuthChannelInterceptor interceptor;
+
+    private final AuthenticatedUser customer = new AuthenticatedUser(7L, "customer@test.com", Role.CUSTOMER);
+    private final AuthenticatedUser admin = new AuthenticatedUser(1L, "admin@test.com", Role.ADMIN);
+
+    @Test
+    void testConnect_ValidTokenSetsUser() {
+        // Given
+        when(jwtUtil.parsePrincipal("good")).thenReturn(customer);
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setNativeHeader("Authorization", "Bearer good");
+        accessor.setLeaveMutable(true);
+
+        // When
+        Message<?> result = interceptor.preSend(message(accessor), null);
+
+        // Then
+        StompHeaderAccessor resultAccessor = StompHeaderAccessor.wrap(result);
+        assertThat(resultAccessor.getUser()).isInstanceOf(UsernamePasswordAuthenticationToken.class);
+        assertThat(((UsernamePasswordAuthenticationToken) resultAccessor.getUser()).getPrincipal()).isSameAs(customer);
+    }
+
+    @Test
+    void testConnect_MissingOrInvalidTokenRejected() {
+        // Given
+        when(jwtUtil.parsePrincipal("bad")).thenReturn(null);
+        StompHeaderAccessor noHeader = StompHeaderAccessor.create(StompCommand.CONNECT);
+        StompHeaderAccessor badToken = StompHeaderAccessor.create(StompCommand.CONNECT);
+        badToken.setNativeHeader("Authorization", "Bearer bad");
+
+        // When/Then
+        assertThatThrownBy(() -> interceptor.preSend(message(noHeader), null))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThatThrownBy(() -> interceptor.preSend(message(badToken), null))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void testSubscribe_CustomerOnlyOwnTopic() {
+        // When/Then
+        assertThat(interceptor.preSend(subscribe(customer, ProgressTopics.customer(7L)), null)).isNotNull();
+        assertThatThrownBy(() -> interceptor.preSend(subscribe(customer, ProgressTopics.customer(8L)), null))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThatThrownBy(() -> interceptor.preSend(subscribe(customer, ProgressTopics.ADMIN), null))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void testSubscribe_AdminSeesAdminAndCustomerTopics() {
+        // When/Then
+        assertThat(interceptor.preSend(subscribe(admin, ProgressTopics.ADMIN), null)).isNotNull();
+        assertThat(interceptor.preSend(subscribe(admin, ProgressTopics.customer(8L)), null)).isNotNull();
+        assertThatThrownBy(() -> interceptor.preSend(subscribe(admin, "/topic/customer/../progress"), null))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void testSubscribe_UnauthenticatedRejected() {
+        // Given
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(ProgressTopics.ADMIN);
+
+        // When/Then
+        assertThatThrownBy(() -> interceptor.preSend(message(accessor), null))
+                .isInstanceOf(MessageDeliveryException.class)
+                .hasMessageContaining("Not authenticated");
+    }
+
+    private Message<?> subscribe(AuthenticatedUser user, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setUser(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        return message(accessor);
+    }
+
+    private Message<?> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}